@@ -28,9 +28,6 @@
 
 using namespace std;
 
-static vector<DisplayRect> captureDisplayRects();
-static void preserveArrangement(const vector<DisplayRect> &savedRects);
-static void effectiveFootprint(UINT32 rotation, LONG &width, LONG &height);
 static bool placeNeighbor(ReflowRect &neighbor, const ReflowRect &anchor, bool allowCorner);
 static LONG alignPerpendicular(bool anchorChanged, bool neighborChanged, LONG anchorOldStart, LONG anchorOldSize,
                                LONG anchorNewStart, LONG anchorNewSize, LONG neighborOldStart, LONG neighborOldSize,
@@ -57,113 +54,19 @@ static const LONG ALIGNMENT_TOLERANCE_PX = 80;
 static const LONG GAP_TOLERANCE_PX = 20;
 
 /**
- * Captures the current multi-display arrangement as an encoded String[] (one rectangle per active display) for the
- * caller to hold and hand back to preserveDisplayArrangement after a batch of display changes. This is the read half of
- * arrangement preservation; GetDisplay's JNI simply forwards to it.
+ * Reads the desktop rectangle (position and on-desktop footprint) of every active display out of an already queried
+ * configuration, keyed by stable ID, so a caller that is about to modify that configuration can reflow around it.
  *
- * @param env
- *            - The JNI environment pointer
+ * @param paths
+ *            - The active path array to read
+ * @param modes
+ *            - The active mode array to read
  *
- * @return A String[] snapshot of the current arrangement, one entry per active display
+ * @return The stable ID, source-mode position, and on-desktop footprint of each active display
  */
-jobjectArray captureDisplayArrangement(JNIEnv *env) {
-    vector<DisplayRect> rects = captureDisplayRects();
-
-    jclass strClass = env->FindClass("java/lang/String");
-
-    if (strClass == nullptr) {
-        return nullptr;
-    }
-
-    jobjectArray result = env->NewObjectArray((jsize) rects.size(), strClass, nullptr);
-
-    if (result == nullptr) {
-        return nullptr;
-    }
-
-    for (size_t i = 0; i < rects.size(); i++) {
-        // Encode as id|x|y|width|height; the stable ID never contains the pipe delimiter
-        string encoded = rects[i].stableId + "|" + to_string(rects[i].position.x) + "|" +
-                         to_string(rects[i].position.y) + "|" + to_string(rects[i].width) + "|" +
-                         to_string(rects[i].height);
-
-        jstring entry = env->NewStringUTF(encoded.c_str());
-        env->SetObjectArrayElement(result, (jsize) i, entry);
-        env->DeleteLocalRef(entry);
-    }
-
-    return result;
-}
-
-/**
- * Reflows the multi-display arrangement from the given snapshot so every display keeps its relative position and
- * alignment after one or more displays were resized. This is the write half; SetDisplay's JNI simply forwards to it.
- *
- * @param env
- *            - The JNI environment pointer
- * @param snapshot
- *            - The arrangement snapshot returned by captureDisplayArrangement before the batch of changes
- */
-void preserveDisplayArrangement(JNIEnv *env, jobjectArray snapshot) {
-    if (snapshot == nullptr) {
-        return;
-    }
-
-    jsize count = env->GetArrayLength(snapshot);
-    vector<DisplayRect> savedRects;
-    savedRects.reserve(count);
-
-    for (jsize i = 0; i < count; i++) {
-        jstring entry = (jstring) env->GetObjectArrayElement(snapshot, i);
-
-        if (entry == nullptr) {
-            continue;
-        }
-
-        const char *chars = env->GetStringUTFChars(entry, nullptr);
-
-        if (chars != nullptr) {
-            string encoded = chars;
-            env->ReleaseStringUTFChars(entry, chars);
-
-            // Locate the four delimiters of id|x|y|width|height from the right so the ID may hold anything
-            size_t d4 = encoded.rfind('|');
-            size_t d3 = (d4 == string::npos) ? string::npos : encoded.rfind('|', d4 - 1);
-            size_t d2 = (d3 == string::npos) ? string::npos : encoded.rfind('|', d3 - 1);
-            size_t d1 = (d2 == string::npos) ? string::npos : encoded.rfind('|', d2 - 1);
-
-            if (d1 != string::npos) {
-                DisplayRect rect = {};
-                rect.stableId = encoded.substr(0, d1);
-                rect.position.x = (LONG) strtol(encoded.substr(d1 + 1, d2 - d1 - 1).c_str(), nullptr, 10);
-                rect.position.y = (LONG) strtol(encoded.substr(d2 + 1, d3 - d2 - 1).c_str(), nullptr, 10);
-                rect.width = (UINT32) strtoul(encoded.substr(d3 + 1, d4 - d3 - 1).c_str(), nullptr, 10);
-                rect.height = (UINT32) strtoul(encoded.substr(d4 + 1).c_str(), nullptr, 10);
-                savedRects.push_back(rect);
-            }
-        }
-
-        env->DeleteLocalRef(entry);
-    }
-
-    preserveArrangement(savedRects);
-}
-
-/**
- * Captures the desktop rectangle (position and source size) of every active display, keyed by stable ID. Call before a
- * resolution or orientation change so preserveArrangement can rebuild the arrangement around it.
- *
- * @return The stable ID, source-mode position, and source-mode size of each active display
- */
-static vector<DisplayRect> captureDisplayRects() {
+vector<DisplayRect> displayRectsForConfig(const vector<DISPLAYCONFIG_PATH_INFO> &paths,
+                                          const vector<DISPLAYCONFIG_MODE_INFO> &modes) {
     vector<DisplayRect> rects;
-    vector<DISPLAYCONFIG_PATH_INFO> paths;
-    vector<DISPLAYCONFIG_MODE_INFO> modes;
-
-    if (!queryActiveCcdConfig(paths, modes)) {
-        return rects;
-    }
-
     rects.reserve(paths.size());
 
     for (const DISPLAYCONFIG_PATH_INFO &path : paths) {
@@ -186,12 +89,12 @@ static vector<DisplayRect> captureDisplayRects() {
 
         const DISPLAYCONFIG_SOURCE_MODE &source = modes[sourceModeIdx].sourceMode;
 
-        // The source mode is always the unrotated native size, so swap by rotation to get the on-desktop footprint
-        LONG width = (LONG) source.width;
-        LONG height = (LONG) source.height;
-        effectiveFootprint(path.targetInfo.rotation, width, height);
+        // Swap the unrotated source-mode size by rotation to get the on-desktop footprint
+        UINT32 width = source.width;
+        UINT32 height = source.height;
+        swapSizeForRotation(path.targetInfo.rotation, width, height);
 
-        rects.push_back({stableId, source.position, (UINT32) width, (UINT32) height});
+        rects.push_back({stableId, source.position, width, height});
     }
 
     return rects;
@@ -205,7 +108,7 @@ static vector<DisplayRect> captureDisplayRects() {
  * @param savedRects
  *            - The desktop rectangle captured for each display before the change
  */
-static void preserveArrangement(const vector<DisplayRect> &savedRects) {
+void preserveArrangement(const vector<DisplayRect> &savedRects) {
     // Fewer than two displays have no arrangement to preserve
     if (savedRects.size() < 2) {
         return;
@@ -218,6 +121,44 @@ static void preserveArrangement(const vector<DisplayRect> &savedRects) {
         return;
     }
 
+    // Nothing moved, so the arrangement already matches the desired layout
+    if (!reflowArrangement(savedRects, paths, modes)) {
+        return;
+    }
+
+    UINT32 pathCount = (UINT32) paths.size();
+    UINT32 modeCount = (UINT32) modes.size();
+
+    // Prefer the exact reflowed layout; only let Windows adjust the remainder when a driver rejects the strict apply
+    if (SetDisplayConfig(pathCount, paths.data(), modeCount, modes.data(), SDC_SUPPLIED_APPLY_FLAGS) == ERROR_SUCCESS) {
+        return;
+    }
+
+    SetDisplayConfig(pathCount, paths.data(), modeCount, modes.data(), SDC_SUPPLIED_APPLY_FLAGS | SDC_ALLOW_CHANGES);
+}
+
+/**
+ * Reflows the given configuration against the rectangles captured before its displays were resized, writing the new
+ * desktop positions straight into its source modes without submitting it. The sizes and rotations already in the
+ * configuration are taken as the new footprints, so a caller can resize displays in memory, reflow, and commit the
+ * whole change in a single SetDisplayConfig call.
+ *
+ * @param savedRects
+ *            - The desktop rectangle captured for each display before the change
+ * @param paths
+ *            - The path array holding the new rotations
+ * @param modes
+ *            - The mode array holding the new source sizes, whose positions are rewritten in place
+ *
+ * @return Whether any display's position changed
+ */
+bool reflowArrangement(const vector<DisplayRect> &savedRects, const vector<DISPLAYCONFIG_PATH_INFO> &paths,
+                       vector<DISPLAYCONFIG_MODE_INFO> &modes) {
+    // Fewer than two displays have no arrangement to preserve
+    if (savedRects.size() < 2) {
+        return false;
+    }
+
     size_t count = savedRects.size();
 
     // Seed the working layout from the captured geometry; new fields start equal to old and are recomputed by the walk
@@ -255,9 +196,12 @@ static void preserveArrangement(const vector<DisplayRect> &savedRects) {
         const DISPLAYCONFIG_SOURCE_MODE &source = modes[sourceModeIdx].sourceMode;
 
         // Compare footprints, not raw source sizes, so an orientation flip (which does not resize the source) registers
-        LONG newWidth = (LONG) source.width;
-        LONG newHeight = (LONG) source.height;
-        effectiveFootprint(path.targetInfo.rotation, newWidth, newHeight);
+        UINT32 footprintWidth = source.width;
+        UINT32 footprintHeight = source.height;
+        swapSizeForRotation(path.targetInfo.rotation, footprintWidth, footprintHeight);
+
+        LONG newWidth = (LONG) footprintWidth;
+        LONG newHeight = (LONG) footprintHeight;
 
         for (ReflowRect &rect : layout) {
             if (rect.stableId != stableId) {
@@ -283,7 +227,7 @@ static void preserveArrangement(const vector<DisplayRect> &savedRects) {
     }
 
     if (!anyChanged) {
-        return;
+        return false;
     }
 
     // Anchor the primary (old desktop origin) as the fixed reference, falling back to the first display
@@ -360,43 +304,9 @@ static void preserveArrangement(const vector<DisplayRect> &savedRects) {
         }
     }
 
-    // Nothing moved, so the arrangement already matches the desired layout
-    if (!changed) {
-        return;
-    }
-
-    UINT32 pathCount = (UINT32) paths.size();
-    UINT32 modeCount = (UINT32) modes.size();
-
-    // Prefer the exact reflowed layout; only let Windows adjust the remainder when a driver rejects the strict apply
-    if (SetDisplayConfig(pathCount, paths.data(), modeCount, modes.data(), SDC_SUPPLIED_APPLY_FLAGS) == ERROR_SUCCESS) {
-        return;
-    }
-
-    SetDisplayConfig(pathCount, paths.data(), modeCount, modes.data(), SDC_SUPPLIED_APPLY_FLAGS | SDC_ALLOW_CHANGES);
+    return changed;
 }
 
-/**
- * Converts a display's unrotated source-mode size to its on-desktop footprint. The CCD source mode always reports the
- * native (unrotated) size while rotation lives on the target, so a 90°/270° rotation swaps width and height to give the
- * footprint the desktop layout actually occupies.
- *
- * @param rotation
- *            - The target rotation (a DISPLAYCONFIG_ROTATION value) applied to the display
- * @param width
- *            - The source-mode width, swapped with height in place for a 90°/270° rotation
- * @param height
- *            - The source-mode height, swapped with width in place for a 90°/270° rotation
- */
-static void effectiveFootprint(UINT32 rotation, LONG &width, LONG &height) {
-    if (rotation != DISPLAYCONFIG_ROTATION_ROTATE90 && rotation != DISPLAYCONFIG_ROTATION_ROTATE270) {
-        return;
-    }
-
-    LONG swap = width;
-    width = height;
-    height = swap;
-}
 
 /**
  * Positions an unplaced neighbor flush against an already-placed anchor, preserving their edge adjacency (or, when
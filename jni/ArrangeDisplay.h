@@ -21,6 +21,7 @@
 
 #include <jni.h>
 #include <string>
+#include <vector>
 #include <windows.h>
 
 using namespace std;
@@ -118,24 +119,40 @@ struct ReflowRect {
 };
 
 /**
- * Captures the current multi-display arrangement as an encoded String[] (one rectangle per active display) for the
- * caller to hold and hand back to preserveDisplayArrangement after a batch of display changes. This is the read half of
- * arrangement preservation; GetDisplay's JNI simply forwards to it.
+ * Reads the desktop rectangle of every active display out of an already queried configuration, so a caller that is
+ * about to modify that configuration in memory can reflow around the arrangement it started from.
  *
- * @param env
- *            - The JNI environment pointer
+ * @param paths
+ *            - The active path array to read
+ * @param modes
+ *            - The active mode array to read
  *
- * @return A String[] snapshot of the current arrangement, one entry per active display
+ * @return The stable ID, source-mode position, and on-desktop footprint of each active display
  */
-jobjectArray captureDisplayArrangement(JNIEnv *env);
+vector<DisplayRect> displayRectsForConfig(const vector<DISPLAYCONFIG_PATH_INFO> &paths,
+                                          const vector<DISPLAYCONFIG_MODE_INFO> &modes);
 
 /**
- * Reflows the multi-display arrangement from the given snapshot so every display keeps its relative position and
- * alignment after one or more displays were resized. This is the write half; SetDisplay's JNI simply forwards to it.
+ * Reflows the given configuration in memory against the rectangles captured before its displays were resized, writing
+ * the new desktop positions into its source modes without submitting it.
  *
- * @param env
- *            - The JNI environment pointer
- * @param snapshot
- *            - The arrangement snapshot returned by captureDisplayArrangement before the batch of changes
+ * @param savedRects
+ *            - The desktop rectangle captured for each display before the change
+ * @param paths
+ *            - The path array holding the new rotations
+ * @param modes
+ *            - The mode array holding the new source sizes, whose positions are rewritten in place
+ *
+ * @return Whether any display's position changed
+ */
+bool reflowArrangement(const vector<DisplayRect> &savedRects, const vector<DISPLAYCONFIG_PATH_INFO> &paths,
+                       vector<DISPLAYCONFIG_MODE_INFO> &modes);
+
+/**
+ * Queries the live configuration, reflows it against the given rectangles, and commits the new arrangement if any
+ * display moved.
+ *
+ * @param savedRects
+ *            - The desktop rectangle captured for each display before the change
  */
-void preserveDisplayArrangement(JNIEnv *env, jobjectArray snapshot);
+void preserveArrangement(const vector<DisplayRect> &savedRects);
@@ -776,6 +776,27 @@ int findActivePathForDisplay(const vector<DISPLAYCONFIG_PATH_INFO> &paths, const
     return -1;
 }
 
+/**
+ * Converts between a display's CCD source-mode size and its on-desktop footprint, swapping width and height for a
+ * 90°/270° rotation. See DisplayConfig.h for the rule.
+ *
+ * @param rotation
+ *            - The target rotation (a DISPLAYCONFIG_ROTATION value) the display has or is about to have
+ * @param width
+ *            - The width to convert, swapped with height in place for a 90°/270° rotation
+ * @param height
+ *            - The height to convert, swapped with width in place for a 90°/270° rotation
+ */
+void swapSizeForRotation(UINT32 rotation, UINT32 &width, UINT32 &height) {
+    if (rotation != DISPLAYCONFIG_ROTATION_ROTATE90 && rotation != DISPLAYCONFIG_ROTATION_ROTATE270) {
+        return;
+    }
+
+    UINT32 swap = width;
+    width = height;
+    height = swap;
+}
+
 /**
  * Sets the source resolution and refresh rate on the chosen path of copies of the base arrays, then submits them to
  * SetDisplayConfig with the given flags. Taking the arrays by value keeps the caller's base config reusable.
@@ -332,6 +332,21 @@ bool queryActiveCcdConfig(vector<DISPLAYCONFIG_PATH_INFO> &paths, vector<DISPLAY
  */
 int findActivePathForDisplay(const vector<DISPLAYCONFIG_PATH_INFO> &paths, const string &stableId);
 
+/**
+ * Converts between a display's CCD source-mode size and its on-desktop footprint. This is the one rule every CCD read
+ * and write follows: the source mode always holds the native (unrotated) size while rotation lives on the target, so a
+ * 90°/270° rotation swaps width and height. Slot resolutions and display states are footprints, so they are swapped on
+ * the way into and out of a source mode. The swap is its own inverse, so the same call converts either way.
+ *
+ * @param rotation
+ *            - The target rotation (a DISPLAYCONFIG_ROTATION value) the display has or is about to have
+ * @param width
+ *            - The width to convert, swapped with height in place for a 90°/270° rotation
+ * @param height
+ *            - The height to convert, swapped with width in place for a 90°/270° rotation
+ */
+void swapSizeForRotation(UINT32 rotation, UINT32 &width, UINT32 &height);
+
 /**
  * Sets the source resolution and target refresh rate on the chosen path of copies of the base arrays, then submits them
  * to SetDisplayConfig with the given flags. Taking the arrays by value keeps the caller's base config reusable.
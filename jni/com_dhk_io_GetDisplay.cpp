@@ -42,6 +42,9 @@ static vector<ModeInfo> enumDisplayOutputModes(const wstring &gdiDeviceName);
 static void collectOutputModes(IDXGIOutput *output, vector<ModeInfo> &modes);
 static void addCustomResolutionRefreshRates(vector<ModeInfo> &modes, map<long long, pair<int, int>> &canonicalRates);
 static long long rateKey(int refreshNumerator, int refreshDenominator);
+static vector<string> readDisplayIds(JNIEnv *env, jobjectArray displayIds);
+static int32_t currentDpiScalePercentage(const DISPLAYCONFIG_PATH_SOURCE_INFO &sourceInfo);
+static int32_t toScalingMode(DISPLAYCONFIG_SCALING scaling);
 
 /**
  * Number of integer fields packed per mode in the flat enumDisplayModes result: width, height, refresh-rate numerator,
@@ -49,6 +52,12 @@ static long long rateKey(int refreshNumerator, int refreshDenominator);
  */
 static const jsize FIELDS_PER_MODE = 4;
 
+/**
+ * Number of integer fields packed per display in the flat queryDisplayStates result: width, height, refresh-rate
+ * numerator, refresh-rate denominator, scaling mode, DPI scale percentage, and orientation.
+ */
+static const jsize FIELDS_PER_STATE = 7;
+
 /**
  * Enumerates the supported display modes for the given display, reading each mode's exact rational refresh rate from
  * the matching DXGI output so no truncated integer rate is ever used, then augmenting GPU-scaled custom resolutions
@@ -312,12 +321,110 @@ JNIEXPORT jintArray JNICALL Java_com_dhk_io_GetDisplay_queryVisibleDisplayOrient
 JNIEXPORT jintArray JNICALL Java_com_dhk_io_GetDisplay_enumVisibleDisplayNumbers(JNIEnv *env, jobject obj,
                                                                                  jobjectArray visibleIds) {
     (void) obj;
+    vector<int> displayNumbers = getVisibleDisplayNumbers(readDisplayIds(env, visibleIds));
+    jsize count = (jsize) displayNumbers.size();
+    jintArray numbers = env->NewIntArray(count);
+
+    if (numbers == nullptr) {
+        return nullptr;
+    }
+
+    if (count > 0) {
+        env->SetIntArrayRegion(numbers, 0, count, reinterpret_cast<const jint *>(displayNumbers.data()));
+    }
+
+    return numbers;
+}
+
+/**
+ * Gets the current state of each given display from a single query of the active configuration: the on-desktop
+ * resolution of the source mode and the target refresh rate, the scaling mode, the DPI scale percentage, and the
+ * orientation. A display that is not active, or a field that has no app equivalent, is reported as -1 so it never
+ * matches a requested value.
+ *
+ * @param env
+ *            - The JNI environment pointer
+ * @param obj
+ *            - The calling object instance
+ * @param displayIds
+ *            - The stable display IDs to get the current state of
+ *
+ * @return A flat int array of {width, height, refreshNumerator, refreshDenominator, scalingMode, dpiScalePercentage,
+ *         orientation} per display, index-for-index with displayIds, or null on native failure
+ */
+JNIEXPORT jintArray JNICALL Java_com_dhk_io_GetDisplay_queryDisplayStates(JNIEnv *env, jobject obj,
+                                                                          jobjectArray displayIds) {
+    (void) obj;
+    vector<string> ids = readDisplayIds(env, displayIds);
+    vector<jint> states(ids.size() * FIELDS_PER_STATE, -1);
+    vector<DISPLAYCONFIG_PATH_INFO> paths;
+    vector<DISPLAYCONFIG_MODE_INFO> modes;
+
+    if (queryActiveCcdConfig(paths, modes)) {
+        for (size_t i = 0; i < ids.size(); i++) {
+            int pathIndex = findActivePathForDisplay(paths, ids[i]);
+
+            if (pathIndex < 0) {
+                continue;
+            }
+
+            const DISPLAYCONFIG_PATH_INFO &path = paths[pathIndex];
+            UINT32 sourceModeIdx = path.sourceInfo.modeInfoIdx;
+            jint *state = &states[i * FIELDS_PER_STATE];
+
+            if (sourceModeIdx != DISPLAYCONFIG_PATH_MODE_IDX_INVALID && sourceModeIdx < modes.size() &&
+                modes[sourceModeIdx].infoType == DISPLAYCONFIG_MODE_INFO_TYPE_SOURCE) {
+                // Report the on-desktop footprint, which is what a slot's resolution is compared against
+                UINT32 width = modes[sourceModeIdx].sourceMode.width;
+                UINT32 height = modes[sourceModeIdx].sourceMode.height;
+                swapSizeForRotation(path.targetInfo.rotation, width, height);
+
+                state[0] = (jint) width;
+                state[1] = (jint) height;
+            }
+
+            state[2] = (jint) path.targetInfo.refreshRate.Numerator;
+            state[3] = (jint) path.targetInfo.refreshRate.Denominator;
+            state[4] = toScalingMode(path.targetInfo.scaling);
+            state[5] = currentDpiScalePercentage(path.sourceInfo);
+
+            // DISPLAYCONFIG_ROTATION starts at 1 for landscape, while app orientations start at 0
+            state[6] = (jint) path.targetInfo.rotation - 1;
+        }
+    }
+
+    jsize count = (jsize) states.size();
+    jintArray stateArray = env->NewIntArray(count);
+
+    if (stateArray == nullptr) {
+        return nullptr;
+    }
+
+    if (count > 0) {
+        env->SetIntArrayRegion(stateArray, 0, count, states.data());
+    }
+
+    return stateArray;
+}
+
+/**
+ * Reads the given Java array of display IDs into native strings, substituting an empty string for a null element so
+ * the result stays index-for-index with the input.
+ *
+ * @param env
+ *            - The JNI environment pointer
+ * @param displayIds
+ *            - The Java array of display IDs to read
+ *
+ * @return The display IDs, index-for-index with displayIds
+ */
+static vector<string> readDisplayIds(JNIEnv *env, jobjectArray displayIds) {
     vector<string> ids;
-    jsize idCount = visibleIds != nullptr ? env->GetArrayLength(visibleIds) : 0;
+    jsize idCount = displayIds != nullptr ? env->GetArrayLength(displayIds) : 0;
     ids.reserve((size_t) idCount);
 
     for (jsize i = 0; i < idCount; i++) {
-        jstring element = (jstring) env->GetObjectArrayElement(visibleIds, i);
+        jstring element = (jstring) env->GetObjectArrayElement(displayIds, i);
 
         if (element == nullptr) {
             ids.push_back("");
@@ -334,35 +441,58 @@ JNIEXPORT jintArray JNICALL Java_com_dhk_io_GetDisplay_enumVisibleDisplayNumbers
         env->DeleteLocalRef(element);
     }
 
-    vector<int> displayNumbers = getVisibleDisplayNumbers(ids);
-    jsize count = (jsize) displayNumbers.size();
-    jintArray numbers = env->NewIntArray(count);
+    return ids;
+}
 
-    if (numbers == nullptr) {
-        return nullptr;
+/**
+ * Gets the DPI scale percentage currently applied to the given source.
+ *
+ * @param sourceInfo
+ *            - The source of the active path to read the DPI scale percentage of
+ *
+ * @return The current DPI scale percentage, or -1 if it could not be read
+ */
+static int32_t currentDpiScalePercentage(const DISPLAYCONFIG_PATH_SOURCE_INFO &sourceInfo) {
+    DISPLAYCONFIG_GET_DPI_SCALE_INDICES getIndices = {};
+    getIndices.header.type = (DISPLAYCONFIG_DEVICE_INFO_TYPE) DISPLAYCONFIG_DEVICE_INFO_HEADER_GET_DPI_TYPE;
+    getIndices.header.size = sizeof(getIndices);
+    getIndices.header.adapterId = sourceInfo.adapterId;
+    getIndices.header.id = sourceInfo.id;
+
+    if (DisplayConfigGetDeviceInfo(&getIndices.header) != ERROR_SUCCESS) {
+        return -1;
     }
 
-    if (count > 0) {
-        env->SetIntArrayRegion(numbers, 0, count, reinterpret_cast<const jint *>(displayNumbers.data()));
+    // The indices are relative to the recommended scale, whose absolute index is the magnitude of the relative minimum
+    int32_t recommendedAbsoluteIndex = abs(getIndices.relativeMinimumDpiScaleIndex);
+    int32_t currentAbsoluteIndex = recommendedAbsoluteIndex + getIndices.relativeCurrentDpiScaleIndex;
+
+    if (currentAbsoluteIndex < 0 || currentAbsoluteIndex >= NUM_OF_DPI_SCALE_PERCENTAGES) {
+        return -1;
     }
 
-    return numbers;
+    return DPI_SCALE_PERCENTAGES.at(currentAbsoluteIndex);
 }
 
 /**
- * Captures the current multi-display arrangement, forwarding to ArrangeDisplay so the caller can hand it back to
- * SetDisplay's preserveDisplayArrangement after a batch of display changes.
+ * Maps a DISPLAYCONFIG_SCALING value to its app scaling mode.
  *
- * @param env
- *            - The JNI environment pointer
- * @param obj
- *            - The calling object instance
+ * @param scaling
+ *            - The DISPLAYCONFIG_SCALING value to map
  *
- * @return A String[] with one encoded rectangle per active display
+ * @return The app scaling mode (0 = aspect ratio, 1 = stretched, 2 = centered), or -1 if it has no app equivalent
  */
-JNIEXPORT jobjectArray JNICALL Java_com_dhk_io_GetDisplay_captureDisplayArrangement(JNIEnv *env, jobject obj) {
-    (void) obj;
-    return captureDisplayArrangement(env);
+static int32_t toScalingMode(DISPLAYCONFIG_SCALING scaling) {
+    switch (scaling) {
+    case DISPLAYCONFIG_SCALING_ASPECTRATIOCENTEREDMAX:
+        return 0;
+    case DISPLAYCONFIG_SCALING_STRETCHED:
+        return 1;
+    case DISPLAYCONFIG_SCALING_CENTERED:
+        return 2;
+    default:
+        return -1;
+    }
 }
 
 /**
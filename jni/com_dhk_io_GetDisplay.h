@@ -49,11 +49,11 @@ JNIEXPORT jintArray JNICALL Java_com_dhk_io_GetDisplay_getSupportedDpiScalePerce
 
 /*
  * Class:     com_dhk_io_GetDisplay
- * Method:    captureDisplayArrangement
- * Signature: ()[Ljava/lang/String;
+ * Method:    queryDisplayStates
+ * Signature: ([Ljava/lang/String;)[I
  */
-JNIEXPORT jobjectArray JNICALL Java_com_dhk_io_GetDisplay_captureDisplayArrangement
-  (JNIEnv *, jobject);
+JNIEXPORT jintArray JNICALL Java_com_dhk_io_GetDisplay_queryDisplayStates
+  (JNIEnv *, jobject, jobjectArray);
 
 #ifdef __cplusplus
 }
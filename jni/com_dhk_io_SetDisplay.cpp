@@ -21,10 +21,59 @@
 #include "ArrangeDisplay.h"
 #include "DisplayConfig.h"
 #include <jni.h>
+#include <vector>
 
 using namespace std;
 
+/**
+ * The settings to apply to one display as part of a batch submitted in a single CCD commit.
+ */
+struct DisplaySettings {
+    /**
+     * The stable display ID of the display to modify.
+     */
+    string stableId;
+
+    /**
+     * The horizontal resolution to apply.
+     */
+    UINT32 width;
+
+    /**
+     * The vertical resolution to apply.
+     */
+    UINT32 height;
+
+    /**
+     * The numerator of the exact refresh rate to apply (Hz = numerator / denominator).
+     */
+    UINT32 refreshNumerator;
+
+    /**
+     * The denominator of the exact refresh rate to apply (Hz = numerator / denominator).
+     */
+    UINT32 refreshDenominator;
+
+    /**
+     * The scaling mode to apply (0 = aspect ratio, 1 = stretched, 2 = centered).
+     */
+    UINT32 scalingMode;
+
+    /**
+     * The DPI scale percentage to apply (e.g. 100, 125, 150).
+     */
+    int32_t dpiScalePercentage;
+
+    /**
+     * The orientation to apply (0 = landscape, 1 = portrait, 2 = inverted landscape, 3 = inverted portrait).
+     */
+    UINT32 orientation;
+};
+
 static int resolveDisplayIndex(const string &stableId);
+static vector<DisplaySettings> readDisplaySettings(JNIEnv *env, jobjectArray displayIds, jintArray settings);
+static jint applyDisplaySettingsBatch(const vector<DisplaySettings> &batch);
+static jint ccdApplyDisplaySettingsBatch(const vector<DisplaySettings> &batch, vector<DisplayRect> &savedRects);
 bool setDisplayMode(const string &stableId, UINT32 displayIndex, UINT32 width, UINT32 height, UINT32 refreshNumerator,
                     UINT32 refreshDenominator);
 static bool applyLargestSelectableMode(const WCHAR *gdiDeviceName, UINT32 excludeWidth, UINT32 excludeHeight);
@@ -33,8 +82,9 @@ static bool ccdApplySourceMode(const string &stableId, UINT32 width, UINT32 heig
 static void waitForCcdSourceModeResolution(UINT32 displayIndex, UINT32 width, UINT32 height);
 void setDisplayScalingMode(UINT32 displayIndex, UINT32 scalingMode);
 static DISPLAYCONFIG_SCALING toScalingValue(UINT32 scalingMode);
+static DISPLAYCONFIG_ROTATION toRotationValue(UINT32 orientation);
 static LONG applyDisplayConfig(const DisplayConfig &config);
-void setDpiScalePercentage(UINT32 displayIndex, int32_t dpiScalePercentage);
+bool setDpiScalePercentage(UINT32 displayIndex, int32_t dpiScalePercentage);
 void setDisplayOrientation(UINT32 displayIndex, UINT32 orientation);
 
 /**
@@ -43,7 +93,69 @@ void setDisplayOrientation(UINT32 displayIndex, UINT32 orientation);
 static const UINT32 SDC_SUPPLIED_APPLY_FLAGS = SDC_APPLY | SDC_USE_SUPPLIED_DISPLAY_CONFIG | SDC_SAVE_TO_DATABASE;
 
 /**
- * Applies display settings (resolution, refresh rate, scaling mode, and DPI scale percentage) to a display.
+ * Number of int fields per display in a setDisplays settings array: width, height, refresh numerator, refresh
+ * denominator, scaling mode, DPI scale percentage, and orientation.
+ */
+static const jsize FIELDS_PER_DISPLAY = 7;
+
+/**
+ * Apply status when the display settings were applied, matching ApplyResult.APPLIED.
+ */
+static const jint APPLY_STATUS_APPLIED = 0;
+
+/**
+ * Apply status when every display already matched, matching ApplyResult.UNCHANGED.
+ */
+static const jint APPLY_STATUS_UNCHANGED = 1;
+
+/**
+ * Apply status when Windows rejected the display settings, matching ApplyResult.FAILED.
+ */
+static const jint APPLY_STATUS_FAILED = 2;
+
+/**
+ * Apply status when a display is not part of the active configuration, matching ApplyResult.DISPLAY_NOT_FOUND.
+ */
+static const jint APPLY_STATUS_DISPLAY_NOT_FOUND = 3;
+
+/**
+ * Apply status when the settings arrays are missing or misaligned, matching ApplyResult.INVALID_REQUEST.
+ */
+static const jint APPLY_STATUS_INVALID_REQUEST = 4;
+
+/**
+ * Applies the display settings (resolution, refresh rate, scaling mode, orientation, and DPI scale percentage) of one
+ * or more displays together. The orientation, mode, and scaling of every display are submitted with the reflowed
+ * arrangement in a single SetDisplayConfig commit, so the whole batch costs one reconfiguration, then each display's
+ * DPI scale percentage is applied immediately after since it is not part of the CCD configuration.
+ *
+ * @param env
+ *            - The JNI environment pointer
+ * @param obj
+ *            - The calling object instance
+ * @param displayIds
+ *            - The stable display IDs of the displays to modify
+ * @param settings
+ *            - The settings of each display, FIELDS_PER_DISPLAY ints per display in displayIds order
+ *
+ * @return The apply status
+ */
+JNIEXPORT jint JNICALL Java_com_dhk_io_SetDisplay_setDisplays(JNIEnv *env, jobject obj, jobjectArray displayIds,
+                                                              jintArray settings) {
+    (void) obj;
+    vector<DisplaySettings> batch = readDisplaySettings(env, displayIds, settings);
+
+    if (batch.empty()) {
+        return APPLY_STATUS_INVALID_REQUEST;
+    }
+
+    return applyDisplaySettingsBatch(batch);
+}
+
+/**
+ * Switches only the refresh rate of a display, keeping its active resolution. The source mode footprint and position
+ * are unchanged, so the mode is submitted on its own through the CCD API, with no orientation change, scaling re-apply,
+ * DPI change, or arrangement capture and reflow.
  *
  * @param env
  *            - The JNI environment pointer
@@ -52,93 +164,257 @@ static const UINT32 SDC_SUPPLIED_APPLY_FLAGS = SDC_APPLY | SDC_USE_SUPPLIED_DISP
  * @param displayId
  *            - The stable display ID of the display to modify
  * @param resWidth
- *            - The horizontal resolution to apply
+ *            - The active horizontal resolution of the display
  * @param resHeight
- *            - The vertical resolution to apply
+ *            - The active vertical resolution of the display
  * @param refreshNumerator
  *            - The numerator of the exact refresh rate to apply (Hz = numerator / denominator)
  * @param refreshDenominator
  *            - The denominator of the exact refresh rate to apply (Hz = numerator / denominator)
- * @param scalingMode
- *            - The scaling mode to apply (0 = aspect ratio, 1 = stretched, 2 = centered)
- * @param dpiScalePercentage
- *            - The DPI scale percentage to apply (e.g. 100, 125, 150)
+ *
+ * @return The apply status
  */
-JNIEXPORT void JNICALL Java_com_dhk_io_SetDisplay_setDisplay(JNIEnv *env, jobject obj, jstring displayId, jint resWidth,
-                                                             jint resHeight, jint refreshNumerator,
-                                                             jint refreshDenominator, jint scalingMode,
-                                                             jint dpiScalePercentage) {
-    jboolean isCopy;
-    const char *displayIdChars = env->GetStringUTFChars(displayId, &isCopy);
-    string stableId = displayIdChars;
+JNIEXPORT jint JNICALL Java_com_dhk_io_SetDisplay_setRefreshRate(JNIEnv *env, jobject obj, jstring displayId,
+                                                                 jint resWidth, jint resHeight, jint refreshNumerator,
+                                                                 jint refreshDenominator) {
+    (void) obj;
+    const char *displayIdChars = displayId != nullptr ? env->GetStringUTFChars(displayId, nullptr) : nullptr;
 
-    int displayIndex = resolveDisplayIndex(stableId);
+    if (displayIdChars == nullptr) {
+        return APPLY_STATUS_INVALID_REQUEST;
+    }
 
-    if (displayIndex < 0) {
-        env->ReleaseStringUTFChars(displayId, displayIdChars);
+    DisplaySettings display = {};
+    display.stableId = displayIdChars;
+    display.width = (UINT32) resWidth;
+    display.height = (UINT32) resHeight;
+    display.refreshNumerator = (UINT32) refreshNumerator;
+    display.refreshDenominator = (UINT32) refreshDenominator;
 
-        // The display disappeared or is invalid
-        return;
-    }
+    env->ReleaseStringUTFChars(displayId, displayIdChars);
 
-    // Apply the resolution, then settle so the scaling re-apply does not revert it with a stale source mode
-    if (setDisplayMode(stableId, displayIndex, resWidth, resHeight, refreshNumerator, refreshDenominator)) {
-        waitForCcdSourceModeResolution(displayIndex, resWidth, resHeight);
+    if (resolveDisplayIndex(display.stableId) < 0) {
+        return APPLY_STATUS_DISPLAY_NOT_FOUND;
     }
 
-    setDisplayScalingMode(displayIndex, scalingMode);
-    setDpiScalePercentage(displayIndex, dpiScalePercentage);
+    if (!ccdApplySourceMode(display.stableId, display.width, display.height, display.refreshNumerator,
+                            display.refreshDenominator)) {
+        return APPLY_STATUS_FAILED;
+    }
 
-    env->ReleaseStringUTFChars(displayId, displayIdChars);
+    return APPLY_STATUS_APPLIED;
 }
 
 /**
- * Applies a new orientation to the given display.
+ * Reads the display IDs and their flat settings records into a batch, skipping any entry without a display ID.
  *
  * @param env
  *            - The JNI environment pointer
- * @param obj
- *            - The calling object instance
- * @param displayId
- *            - The stable display ID of the display to modify
- * @param orientation
- *            - The orientation (0 = landscape, 1 = portrait, 2 = inverted landscape, 3 = inverted portrait)
+ * @param displayIds
+ *            - The stable display IDs of the displays to modify
+ * @param settings
+ *            - The settings of each display, FIELDS_PER_DISPLAY ints per display in displayIds order
+ *
+ * @return The batch of display settings, empty if the arrays are missing or misaligned
  */
-JNIEXPORT void JNICALL Java_com_dhk_io_SetDisplay_setOrientation(JNIEnv *env, jobject obj, jstring displayId,
-                                                                 jint orientation) {
-    jboolean isCopy;
-    const char *displayIdChars = env->GetStringUTFChars(displayId, &isCopy);
-    string stableId = displayIdChars;
+static vector<DisplaySettings> readDisplaySettings(JNIEnv *env, jobjectArray displayIds, jintArray settings) {
+    vector<DisplaySettings> batch;
 
-    int displayIndex = resolveDisplayIndex(stableId);
+    if (displayIds == nullptr || settings == nullptr) {
+        return batch;
+    }
 
-    if (displayIndex < 0) {
-        env->ReleaseStringUTFChars(displayId, displayIdChars);
+    jsize count = env->GetArrayLength(displayIds);
 
-        // The display disappeared or is invalid
-        return;
+    if (env->GetArrayLength(settings) != count * FIELDS_PER_DISPLAY) {
+        return batch;
     }
 
-    setDisplayOrientation(displayIndex, orientation);
+    vector<jint> records(count * FIELDS_PER_DISPLAY);
+    env->GetIntArrayRegion(settings, 0, count * FIELDS_PER_DISPLAY, records.data());
+    batch.reserve(count);
 
-    env->ReleaseStringUTFChars(displayId, displayIdChars);
+    for (jsize i = 0; i < count; i++) {
+        jstring displayId = (jstring) env->GetObjectArrayElement(displayIds, i);
+
+        if (displayId == nullptr) {
+            continue;
+        }
+
+        const char *displayIdChars = env->GetStringUTFChars(displayId, nullptr);
+
+        if (displayIdChars != nullptr) {
+            const jint *record = records.data() + i * FIELDS_PER_DISPLAY;
+
+            DisplaySettings display = {};
+            display.stableId = displayIdChars;
+            display.width = (UINT32) record[0];
+            display.height = (UINT32) record[1];
+            display.refreshNumerator = (UINT32) record[2];
+            display.refreshDenominator = (UINT32) record[3];
+            display.scalingMode = (UINT32) record[4];
+            display.dpiScalePercentage = (int32_t) record[5];
+            display.orientation = (UINT32) record[6];
+            batch.push_back(display);
+
+            env->ReleaseStringUTFChars(displayId, displayIdChars);
+        }
+
+        env->DeleteLocalRef(displayId);
+    }
+
+    return batch;
 }
 
 /**
- * Reflows the multi-display arrangement against the snapshot from GetDisplay's captureDisplayArrangement, forwarding to
- * ArrangeDisplay so every display keeps its relative position and alignment after a batch of display changes.
+ * Applies a batch of display settings in a single CCD commit, then applies each display's DPI scale percentage. If the
+ * driver rejects the combined commit, it falls back to applying each display's orientation, mode, and scaling in turn
+ * and reflowing the arrangement once afterwards, the same way the individual entry points do.
  *
- * @param env
- *            - The JNI environment pointer
- * @param obj
- *            - The calling object instance
- * @param snapshot
- *            - The arrangement snapshot as "id|x|y|width|height" strings, one per display
+ * @param batch
+ *            - The settings of each display to modify
+ *
+ * @return The apply status: applied, unchanged, failed if any display's mode was rejected, or display not found
  */
-JNIEXPORT void JNICALL Java_com_dhk_io_SetDisplay_preserveDisplayArrangement(JNIEnv *env, jobject obj,
-                                                                             jobjectArray snapshot) {
-    (void) obj;
-    preserveDisplayArrangement(env, snapshot);
+static jint applyDisplaySettingsBatch(const vector<DisplaySettings> &batch) {
+    vector<DisplayRect> savedRects;
+    jint status = ccdApplyDisplaySettingsBatch(batch, savedRects);
+
+    if (status == APPLY_STATUS_DISPLAY_NOT_FOUND) {
+        return status;
+    }
+
+    if (status == APPLY_STATUS_FAILED) {
+        status = APPLY_STATUS_APPLIED;
+
+        for (const DisplaySettings &display : batch) {
+            int displayIndex = resolveDisplayIndex(display.stableId);
+
+            if (displayIndex < 0) {
+                status = APPLY_STATUS_FAILED;
+                continue;
+            }
+
+            setDisplayOrientation(displayIndex, display.orientation);
+
+            if (setDisplayMode(display.stableId, displayIndex, display.width, display.height, display.refreshNumerator,
+                               display.refreshDenominator)) {
+                waitForCcdSourceModeResolution(displayIndex, display.width, display.height);
+            } else {
+                status = APPLY_STATUS_FAILED;
+            }
+
+            setDisplayScalingMode(displayIndex, display.scalingMode);
+        }
+
+        preserveArrangement(savedRects);
+    }
+
+    // DPI is a per-source device setting outside the CCD configuration, so it follows the commit
+    for (const DisplaySettings &display : batch) {
+        int displayIndex = resolveDisplayIndex(display.stableId);
+
+        // A DPI-only change still changes the desktop, so it counts as applied even when the commit was unchanged
+        if (displayIndex >= 0 && setDpiScalePercentage(displayIndex, display.dpiScalePercentage) &&
+            status == APPLY_STATUS_UNCHANGED) {
+            status = APPLY_STATUS_APPLIED;
+        }
+    }
+
+    return status;
+}
+
+/**
+ * Writes the orientation, source resolution, exact refresh rate, and scaling of every display in the batch into one
+ * copy of the active configuration, reflows the arrangement around the new footprints in memory, and submits the whole
+ * configuration in a single SetDisplayConfig call: strictly first, then with SDC_ALLOW_CHANGES. The requested
+ * resolution is swapped into the source mode by the requested rotation, the same way ccdApplySourceMode swaps it by
+ * the rotation in effect, so the single commit lands on the configuration the sequential path would reach.
+ *
+ * @param batch
+ *            - The settings of each display to modify
+ * @param savedRects
+ *            - Receives the arrangement captured from the queried configuration before it is modified, for the caller
+ *            to reflow against if it has to fall back to the sequential path
+ *
+ * @return The apply status: applied, unchanged if every display already matched, display not found if a display has
+ *         no active path, or failed if the configuration could not be queried or was rejected
+ */
+static jint ccdApplyDisplaySettingsBatch(const vector<DisplaySettings> &batch, vector<DisplayRect> &savedRects) {
+    vector<DISPLAYCONFIG_PATH_INFO> paths;
+    vector<DISPLAYCONFIG_MODE_INFO> modes;
+
+    if (!queryActiveCcdConfig(paths, modes)) {
+        return APPLY_STATUS_FAILED;
+    }
+
+    savedRects = displayRectsForConfig(paths, modes);
+    bool anyChanged = false;
+
+    for (const DisplaySettings &display : batch) {
+        int pathIndex = findActivePathForDisplay(paths, display.stableId);
+
+        if (pathIndex < 0) {
+            return APPLY_STATUS_DISPLAY_NOT_FOUND;
+        }
+
+        DISPLAYCONFIG_PATH_INFO &path = paths[pathIndex];
+        UINT32 sourceModeIdx = path.sourceInfo.modeInfoIdx;
+
+        if (sourceModeIdx == DISPLAYCONFIG_PATH_MODE_IDX_INVALID || sourceModeIdx >= modes.size() ||
+            modes[sourceModeIdx].infoType != DISPLAYCONFIG_MODE_INFO_TYPE_SOURCE) {
+            return APPLY_STATUS_FAILED;
+        }
+
+        DISPLAYCONFIG_SOURCE_MODE &source = modes[sourceModeIdx].sourceMode;
+        DISPLAYCONFIG_ROTATION rotation = toRotationValue(display.orientation);
+        DISPLAYCONFIG_SCALING scaling = toScalingValue(display.scalingMode);
+        const DISPLAYCONFIG_RATIONAL &currentRate = path.targetInfo.refreshRate;
+
+        // Compare the rate as a cross product so equal rationals with different terms are not treated as a change
+        bool sameRate = (UINT64) currentRate.Numerator * display.refreshDenominator ==
+                        (UINT64) display.refreshNumerator * currentRate.Denominator;
+
+        // The slot's resolution is a footprint, so swap it by the requested rotation into the unrotated source size
+        UINT32 sourceWidth = display.width;
+        UINT32 sourceHeight = display.height;
+        swapSizeForRotation(rotation, sourceWidth, sourceHeight);
+
+        if (source.width == sourceWidth && source.height == sourceHeight && sameRate &&
+            path.targetInfo.rotation == rotation && path.targetInfo.scaling == scaling) {
+            continue;
+        }
+
+        source.width = sourceWidth;
+        source.height = sourceHeight;
+
+        // Request the rate and clear the target mode index so Windows recomputes the target timing
+        path.targetInfo.rotation = rotation;
+        path.targetInfo.scaling = scaling;
+        path.targetInfo.refreshRate.Numerator = display.refreshNumerator;
+        path.targetInfo.refreshRate.Denominator = display.refreshDenominator;
+        path.targetInfo.scanLineOrdering = DISPLAYCONFIG_SCANLINE_ORDERING_PROGRESSIVE;
+        path.targetInfo.modeInfoIdx = DISPLAYCONFIG_PATH_MODE_IDX_INVALID;
+        anyChanged = true;
+    }
+
+    // Every display already matches, so there is nothing to commit
+    if (!anyChanged) {
+        return APPLY_STATUS_UNCHANGED;
+    }
+
+    reflowArrangement(savedRects, paths, modes);
+
+    UINT32 pathCount = (UINT32) paths.size();
+    UINT32 modeCount = (UINT32) modes.size();
+
+    if (SetDisplayConfig(pathCount, paths.data(), modeCount, modes.data(), SDC_SUPPLIED_APPLY_FLAGS) == ERROR_SUCCESS ||
+        SetDisplayConfig(pathCount, paths.data(), modeCount, modes.data(),
+                         SDC_SUPPLIED_APPLY_FLAGS | SDC_ALLOW_CHANGES) == ERROR_SUCCESS) {
+        return APPLY_STATUS_APPLIED;
+    }
+
+    return APPLY_STATUS_FAILED;
 }
 
 /**
@@ -310,9 +586,9 @@ static bool applyLargestSelectableMode(const WCHAR *gdiDeviceName, UINT32 exclud
  * @param stableId
  *            - The stable display ID of the display to modify
  * @param width
- *            - The horizontal (source) resolution to apply
+ *            - The horizontal on-desktop resolution to apply, swapped into the source mode by the current rotation
  * @param height
- *            - The vertical (source) resolution to apply
+ *            - The vertical on-desktop resolution to apply, swapped into the source mode by the current rotation
  * @param refreshNumerator
  *            - The numerator of the exact refresh rate to apply (Hz = numerator / denominator)
  * @param refreshDenominator
@@ -339,6 +615,9 @@ static bool ccdApplySourceMode(const string &stableId, UINT32 width, UINT32 heig
     rational.Numerator = refreshNumerator;
     rational.Denominator = refreshDenominator;
 
+    // The requested resolution is a footprint, so swap it by the rotation already in effect into the source size
+    swapSizeForRotation(paths[pathIndex].targetInfo.rotation, width, height);
+
     // Strict apply first, so an existing mode is selected without disturbing the rest of the configuration
     if (submitCcdSourceMode(paths, modes, pathIndex, width, height, rational, SDC_SUPPLIED_APPLY_FLAGS) ==
         ERROR_SUCCESS) {
@@ -377,15 +656,11 @@ static void waitForCcdSourceModeResolution(UINT32 displayIndex, UINT32 width, UI
             if (modeIdx != DISPLAYCONFIG_PATH_MODE_IDX_INVALID && modeIdx < config.numModeInfoArrayElements) {
                 const DISPLAYCONFIG_MODE_INFO &mode = config.modeInfoArray[modeIdx];
 
-                /*
-                 * The source mode is always the unrotated native size, so swap it by the target rotation before
-                 * comparing; otherwise a rotated display never matches
-                 */
-                DISPLAYCONFIG_ROTATION rotation = config.pathInfoArray[displayIndex].targetInfo.rotation;
-                bool rotated =
-                    rotation == DISPLAYCONFIG_ROTATION_ROTATE90 || rotation == DISPLAYCONFIG_ROTATION_ROTATE270;
-                UINT32 footprintWidth = rotated ? mode.sourceMode.height : mode.sourceMode.width;
-                UINT32 footprintHeight = rotated ? mode.sourceMode.width : mode.sourceMode.height;
+                // Swap the unrotated source size by rotation before comparing, or a rotated display never matches
+                UINT32 footprintWidth = mode.sourceMode.width;
+                UINT32 footprintHeight = mode.sourceMode.height;
+                swapSizeForRotation(config.pathInfoArray[displayIndex].targetInfo.rotation, footprintWidth,
+                                    footprintHeight);
 
                 // The legacy mode change has propagated once the source-mode footprint reports the requested resolution
                 matched = mode.infoType == DISPLAYCONFIG_MODE_INFO_TYPE_SOURCE && footprintWidth == width &&
@@ -471,8 +746,10 @@ static LONG applyDisplayConfig(const DisplayConfig &config) {
  *            - The QueryDisplayConfig index of the display to modify
  * @param dpiScalePercentage
  *            - The DPI scale percentage to apply (e.g. 100, 125, 150)
+ *
+ * @return Whether the DPI scale of the display was changed
  */
-void setDpiScalePercentage(UINT32 displayIndex, int32_t dpiScalePercentage) {
+bool setDpiScalePercentage(UINT32 displayIndex, int32_t dpiScalePercentage) {
     // Map the requested percentage to its absolute index in the supported list
     int32_t targetAbsoluteIndex = -1;
 
@@ -485,7 +762,7 @@ void setDpiScalePercentage(UINT32 displayIndex, int32_t dpiScalePercentage) {
 
     // Ignore unsupported percentages rather than applying a wrong value
     if (targetAbsoluteIndex < 0) {
-        return;
+        return false;
     }
 
     /*
@@ -496,12 +773,13 @@ void setDpiScalePercentage(UINT32 displayIndex, int32_t dpiScalePercentage) {
     const int MAX_ATTEMPTS = 8;
     const DWORD RETRY_DELAY_MS = 40;
     bool primed = false;
+    bool changed = false;
 
     for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
         DisplayConfig displayConfig = getDisplayConfig();
 
         if (displayIndex >= displayConfig.numPathInfoArrayElements) {
-            return;
+            return changed;
         }
 
         LUID adapterId = displayConfig.pathInfoArray[displayIndex].sourceInfo.adapterId;
@@ -544,7 +822,7 @@ void setDpiScalePercentage(UINT32 displayIndex, int32_t dpiScalePercentage) {
                 primeIndex.header.id = sourceId;
                 primeIndex.relativeDpiScaleIndex = primeAbsoluteIndex - recommendedAbsoluteIndex;
 
-                DisplayConfigSetDeviceInfo(&primeIndex.header);
+                changed |= DisplayConfigSetDeviceInfo(&primeIndex.header) == ERROR_SUCCESS;
                 primed = true;
             }
 
@@ -558,7 +836,7 @@ void setDpiScalePercentage(UINT32 displayIndex, int32_t dpiScalePercentage) {
 
         // Already at the desired scale; nothing to do
         if (currentAbsoluteIndex == desiredAbsoluteIndex) {
-            return;
+            return changed;
         }
 
         DISPLAYCONFIG_SET_DPI_SCALE_INDEX setIndex = {};
@@ -574,6 +852,8 @@ void setDpiScalePercentage(UINT32 displayIndex, int32_t dpiScalePercentage) {
             continue;
         }
 
+        changed = true;
+
         /*
          * Verify against the absolute scale actually in effect. If the baseline was still stale when this attempt
          * computed the relative index, the applied absolute scale will not match, so re-query (which also lets the
@@ -590,13 +870,15 @@ void setDpiScalePercentage(UINT32 displayIndex, int32_t dpiScalePercentage) {
             int32_t verifyCurrentAbsolute = verifyRecommended + verifyIndices.relativeCurrentDpiScaleIndex;
 
             if (verifyCurrentAbsolute == desiredAbsoluteIndex) {
-                return;
+                return true;
             }
         }
 
         // Not yet applied; let the reconfiguration settle and try again
         Sleep(RETRY_DELAY_MS);
     }
+
+    return changed;
 }
 
 /**
@@ -608,31 +890,7 @@ void setDpiScalePercentage(UINT32 displayIndex, int32_t dpiScalePercentage) {
  *            - The orientation (0 = landscape, 1 = portrait, 2 = inverted landscape, 3 = inverted portrait)
  */
 void setDisplayOrientation(UINT32 displayIndex, UINT32 orientation) {
-    DISPLAYCONFIG_ROTATION rotation;
-
-    switch (orientation) {
-    case 0:
-        // Landscape mode
-        rotation = DISPLAYCONFIG_ROTATION_IDENTITY;
-        break;
-    case 1:
-        // Portrait mode
-        rotation = DISPLAYCONFIG_ROTATION_ROTATE90;
-        break;
-    case 2:
-        // Inverted landscape mode
-        rotation = DISPLAYCONFIG_ROTATION_ROTATE180;
-        break;
-    case 3:
-        // Inverted portrait mode
-        rotation = DISPLAYCONFIG_ROTATION_ROTATE270;
-        break;
-    default:
-        // Landscape mode
-        rotation = DISPLAYCONFIG_ROTATION_IDENTITY;
-        break;
-    }
-
+    DISPLAYCONFIG_ROTATION rotation = toRotationValue(orientation);
     DisplayConfig displayConfig = getDisplayConfig();
 
     if (displayIndex >= displayConfig.numPathInfoArrayElements) {
@@ -648,3 +906,28 @@ void setDisplayOrientation(UINT32 displayIndex, UINT32 orientation) {
 
     applyDisplayConfig(displayConfig);
 }
+
+/**
+ * Maps an app orientation to its DISPLAYCONFIG_ROTATION value.
+ *
+ * @param orientation
+ *            - The orientation to map (0 = landscape, 1 = portrait, 2 = inverted landscape, 3 = inverted portrait)
+ *
+ * @return The DISPLAYCONFIG_ROTATION value, defaulting to landscape for unknown orientations
+ */
+static DISPLAYCONFIG_ROTATION toRotationValue(UINT32 orientation) {
+    switch (orientation) {
+    case 1:
+        // Portrait mode
+        return DISPLAYCONFIG_ROTATION_ROTATE90;
+    case 2:
+        // Inverted landscape mode
+        return DISPLAYCONFIG_ROTATION_ROTATE180;
+    case 3:
+        // Inverted portrait mode
+        return DISPLAYCONFIG_ROTATION_ROTATE270;
+    default:
+        // Landscape mode
+        return DISPLAYCONFIG_ROTATION_IDENTITY;
+    }
+}
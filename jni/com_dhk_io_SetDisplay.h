@@ -7,29 +7,23 @@
 #ifdef __cplusplus
 extern "C" {
 #endif
+#undef com_dhk_io_SetDisplay_FIELDS_PER_DISPLAY
+#define com_dhk_io_SetDisplay_FIELDS_PER_DISPLAY 7L
 /*
  * Class:     com_dhk_io_SetDisplay
- * Method:    setDisplay
- * Signature: (Ljava/lang/String;IIIIII)V
+ * Method:    setDisplays
+ * Signature: ([Ljava/lang/String;[I)I
  */
-JNIEXPORT void JNICALL Java_com_dhk_io_SetDisplay_setDisplay
-  (JNIEnv *, jobject, jstring, jint, jint, jint, jint, jint, jint);
+JNIEXPORT jint JNICALL Java_com_dhk_io_SetDisplay_setDisplays
+  (JNIEnv *, jobject, jobjectArray, jintArray);
 
 /*
  * Class:     com_dhk_io_SetDisplay
- * Method:    setOrientation
- * Signature: (Ljava/lang/String;I)V
+ * Method:    setRefreshRate
+ * Signature: (Ljava/lang/String;IIII)I
  */
-JNIEXPORT void JNICALL Java_com_dhk_io_SetDisplay_setOrientation
-  (JNIEnv *, jobject, jstring, jint);
-
-/*
- * Class:     com_dhk_io_SetDisplay
- * Method:    preserveDisplayArrangement
- * Signature: ([Ljava/lang/String;)V
- */
-JNIEXPORT void JNICALL Java_com_dhk_io_SetDisplay_preserveDisplayArrangement
-  (JNIEnv *, jobject, jobjectArray);
+JNIEXPORT jint JNICALL Java_com_dhk_io_SetDisplay_setRefreshRate
+  (JNIEnv *, jobject, jstring, jint, jint, jint, jint);
 
 #ifdef __cplusplus
 }
@@ -0,0 +1,250 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright © 2026 Jonathan R. Miller
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and
+ * to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+package com.dhk.view;
+
+import java.awt.Component;
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JPanel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.dhk.io.DisplayConfig;
+import com.dhk.model.DhkModel;
+import com.dhk.model.DisplayMode;
+import com.dhk.model.HotKey;
+import com.dhk.model.Key;
+import com.dhk.utility.DisplayModeInverter;
+import com.formdev.flatlaf.FlatIntelliJLaf;
+import com.formdev.flatlaf.FlatLaf;
+
+/**
+ * Measures building the slot panels of every display from scratch, headless and without the native display libraries,
+ * across the number of displays, the number of slots per display, and the number of display modes each display offers.
+ * Run it with "mvn -P jmh compile exec:exec", which also reports the bytes allocated per build through the GC profiler.
+ *
+ * @author Jonathan R. Miller
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class SlotPanelBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    private int numOfDisplays;
+
+    @Param({"1", "4", "12"})
+    private int numOfSlots;
+
+    @Param({"10", "100", "300"})
+    private int numOfModes;
+
+    private DhkModel model;
+
+    /**
+     * Installs the app's light theme and builds the synthetic model for the current parameters.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("java.awt.headless", "true");
+
+        FlatLaf.registerCustomDefaultsSource("com.dhk.theme");
+        FlatIntelliJLaf.setup();
+
+        model = new SyntheticModel(numOfDisplays, numOfSlots, numOfModes);
+    }
+
+    /**
+     * Builds the slot panel of every display with all of its slots, starting from an empty builder so the shared
+     * display mode lists are built as well, the way the first build of the view does.
+     *
+     * @param blackhole
+     *            - Consumes the laid out size of each panel so the builds are not optimized away
+     */
+    @Benchmark
+    public void buildSlotPanels(Blackhole blackhole) {
+        SlotPanelBuilder slotPanelBuilder = new SlotPanelBuilder(model);
+
+        for (int displayIndex = 0; displayIndex < numOfDisplays; displayIndex++) {
+            JPanel slotPanel = slotPanelBuilder.createSlotPanel();
+
+            // The header occupies the first row of the slot panel
+            ((SlotTableLayout) slotPanel.getLayout()).setNumOfRows(numOfSlots + 1);
+
+            for (int slotIndex = 0; slotIndex < numOfSlots; slotIndex++) {
+                List<Component> slotComponents = slotPanelBuilder.buildSlot(displayIndex, slotIndex).getComponents();
+
+                for (int column = 0; column < slotComponents.size(); column++) {
+                    slotPanel.add(slotComponents.get(column), new Point(column, slotIndex + 1));
+                }
+            }
+
+            blackhole.consume(slotPanel.getPreferredSize());
+        }
+    }
+
+    /**
+     * A model of identical displays whose slots cycle through the display modes and orientations, so every slot
+     * selects a different mode and both the landscape and the portrait lists are built.
+     */
+    private static class SyntheticModel extends DhkModel {
+
+        private final String[] displayIds;
+        private final List<List<com.dhk.model.Slot>> slots;
+        private final DisplayConfig displayConfig;
+
+        /**
+         * Constructor for the {@link SyntheticModel} class.
+         *
+         * @param numOfDisplays
+         *            - The number of connected displays
+         * @param numOfSlots
+         *            - The number of slots of each display
+         * @param numOfModes
+         *            - The number of display modes each display offers
+         */
+        private SyntheticModel(int numOfDisplays, int numOfSlots, int numOfModes) {
+            SyntheticDisplayConfig syntheticDisplayConfig = new SyntheticDisplayConfig(numOfModes);
+            DisplayMode[] displayModes = syntheticDisplayConfig.getLandscapeDisplayModes(null);
+            List<Key> hotKeyKeys = List.of(new Key(17, "Ctrl", false), new Key(18, "Alt", false));
+
+            displayIds = new String[numOfDisplays];
+            slots = new ArrayList<>(numOfDisplays);
+            displayConfig = syntheticDisplayConfig;
+
+            for (int displayIndex = 0; displayIndex < numOfDisplays; displayIndex++) {
+                List<com.dhk.model.Slot> displaySlots = new ArrayList<>(numOfSlots);
+
+                displayIds[displayIndex] = "SYNTHETIC" + displayIndex;
+
+                for (int slotIndex = 0; slotIndex < numOfSlots; slotIndex++) {
+                    int orientationMode = slotIndex % 4;
+                    DisplayMode displayMode = displayModes[(slotIndex * 7) % displayModes.length];
+
+                    // Portrait slots store the inverted mode, as the settings file does
+                    if (orientationMode == 1 || orientationMode == 3) {
+                        displayMode = DisplayModeInverter.invertDisplayMode(displayMode);
+                    }
+
+                    displaySlots.add(new com.dhk.model.Slot(displayMode, slotIndex % 3, 100, orientationMode, false,
+                            new HotKey(new ArrayList<>(hotKeyKeys))));
+                }
+
+                slots.add(displaySlots);
+            }
+        }
+
+        @Override
+        public DisplayConfig getDisplayConfig() {
+            return displayConfig;
+        }
+
+        @Override
+        public String[] getDisplayIds() {
+            return displayIds;
+        }
+
+        @Override
+        public int getNumOfConnectedDisplays() {
+            return displayIds.length;
+        }
+
+        @Override
+        public com.dhk.model.Slot getSlot(int displayIndex, int slotIndex) {
+            return slots.get(displayIndex).get(slotIndex);
+        }
+
+        @Override
+        public int getMaxNumOfSlots() {
+            return slots.isEmpty() ? 0 : slots.get(0).size();
+        }
+
+    }
+
+    /**
+     * A display configuration that offers the same generated display modes for every display. The native display
+     * libraries are not loaded in the benchmark, so every method the builder calls is answered here instead.
+     */
+    private static class SyntheticDisplayConfig extends DisplayConfig {
+
+        private final DisplayMode[] landscapeDisplayModes;
+        private final DisplayMode[] portraitDisplayModes;
+
+        private static final int[] REFRESH_RATES = {240, 165, 144, 120, 60};
+        private static final List<Integer> DPI_SCALE_PERCENTAGES = List.of(100, 125, 150, 175, 200);
+
+        /**
+         * Constructor for the {@link SyntheticDisplayConfig} class.
+         *
+         * @param numOfModes
+         *            - The number of display modes to generate, sorted from the largest resolution and fastest
+         *            refresh rate down, as the display configuration sorts them
+         */
+        private SyntheticDisplayConfig(int numOfModes) {
+            int numOfResolutions = (numOfModes + REFRESH_RATES.length - 1) / REFRESH_RATES.length;
+
+            landscapeDisplayModes = new DisplayMode[numOfModes];
+
+            for (int modeIndex = 0; modeIndex < numOfModes; modeIndex++) {
+                int width = 1280 + 64 * (numOfResolutions - 1 - modeIndex / REFRESH_RATES.length);
+                int refreshRate = REFRESH_RATES[modeIndex % REFRESH_RATES.length];
+
+                landscapeDisplayModes[modeIndex] = DisplayMode.of(width, width * 9 / 16, refreshRate, 1);
+            }
+
+            portraitDisplayModes = DisplayModeInverter.invertDisplayModes(landscapeDisplayModes);
+        }
+
+        @Override
+        public DisplayMode[] getLandscapeDisplayModes(String displayId) {
+            return landscapeDisplayModes;
+        }
+
+        @Override
+        public DisplayMode[] getPortraitDisplayModes(String displayId) {
+            return portraitDisplayModes;
+        }
+
+        @Override
+        public List<Integer> getSupportedDpiScalePercentageList(int width, int height) {
+            return DPI_SCALE_PERCENTAGES;
+        }
+
+    }
+
+}
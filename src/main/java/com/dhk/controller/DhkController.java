@@ -36,6 +36,7 @@ import com.dhk.io.ShellRestartHandler;
 import com.dhk.model.DhkModel;
 import com.dhk.view.DhkView;
 import com.dhk.view.MinimizeToTray;
+import com.dhk.view.SlotBuildListener;
 
 import lc.kra.system.keyboard.GlobalKeyboardHook;
 import lc.kra.system.mouse.GlobalMouseHook;
@@ -45,7 +46,7 @@ import lc.kra.system.mouse.GlobalMouseHook;
  *
  * @author Jonathan R. Miller
  */
-public class DhkController implements IController {
+public class DhkController implements IController, SlotBuildListener {
 
     private DhkModel model;
     private DhkView view;
@@ -60,6 +61,7 @@ public class DhkController implements IController {
     private DisplayEventNotifier displayNotifications;
     private ShellRestartHandler shellRestartHandler;
     private MinimizeToTray minimizeToTray;
+    private boolean slotListenersInitialized;
 
     /**
      * Constructor for the {@link DhkController} class.
@@ -100,30 +102,22 @@ public class DhkController implements IController {
 
     @Override
     public void initController() {
-        controllers = new ArrayList<IController>();
+        // Wire each slot's listeners when the view first builds it, since slots are only built once they are shown
+        view.setSlotBuildListener(this);
 
         // Recreate the mouse hook only if it never existed; normally it stays alive across re-inits
         if (mouseHook == null) {
             mouseHook = GlobalHookInstaller.createMouseHook();
         }
 
-        // Create the hot keys controller early so other controllers can notify it
-        hotKeysController = new HotKeysController(model, view, this, settingsMgr, heldKeyTracker);
-        controllers.add(hotKeysController);
-
-        controllers.add(new ApplySlotButtonController(model, view, this, settingsMgr));
-        controllers.add(new ClearAllButtonController(model, view, this, settingsMgr));
-        controllers.add(new ClearHotKeyButtonController(model, view, settingsMgr, hotKeysController));
-        controllers.add(new ClearSlotButtonController(model, view, this, settingsMgr));
-        controllers.add(new DisplayModeController(model, view, settingsMgr));
-        controllers.add(new DpiScaleController(model, view, settingsMgr));
-        controllers.add(new FrameDragController(view, mouseHook));
-        controllers.add(new MenuController(model, view, settingsMgr));
-        controllers.add(new NumberOfSlotsController(model, view, settingsMgr));
-        controllers.add(new OrientationController(model, view, this, settingsMgr));
-        controllers.add(new ScalingModeController(model, view, settingsMgr));
-        controllers.add(new SelectedDisplayController(model, view));
-        controllers.add(new WindowController(model, view, minimizeToTray));
+        /*
+         * Create the sub-controllers once and re-initialize the same instances on every re-init. The view pools its
+         * slot components across re-inits, and the listeners the sub-controllers attached to them stay valid only as
+         * long as the sub-controllers do
+         */
+        if (controllers == null) {
+            createControllers();
+        }
 
         // Initialize all sub-controllers
         for (IController controller : controllers) {
@@ -144,7 +138,7 @@ public class DhkController implements IController {
             keyboardHook.addKeyListener(heldKeyTracker);
         }
 
-        // Attach the new dispatch listener; the persistent held-key tracker remains attached across re-inits
+        // Re-attach the dispatch listener; the persistent held-key tracker remains attached across re-inits
         keyboardHook.addKeyListener(hotKeysController);
 
         // A frame held back for the tray is handed off by the window controller, so leave its state alone
@@ -153,19 +147,75 @@ public class DhkController implements IController {
         }
     }
 
+    /**
+     * Creates the sub-controllers for the application. The hot keys controller is created first so other controllers
+     * can notify it.
+     */
+    private void createControllers() {
+        controllers = new ArrayList<IController>();
+
+        hotKeysController = new HotKeysController(model, view, this, settingsMgr, heldKeyTracker);
+        controllers.add(hotKeysController);
+
+        controllers.add(new ApplySlotButtonController(model, view, this, settingsMgr));
+        controllers.add(new ClearAllButtonController(model, view, this, settingsMgr));
+        controllers.add(new ClearHotKeyButtonController(model, view, settingsMgr, hotKeysController));
+        controllers.add(new ClearSlotButtonController(model, view, this, settingsMgr));
+        controllers.add(new DisplayModeController(model, view, settingsMgr));
+        controllers.add(new DpiScaleController(model, view, settingsMgr));
+        controllers.add(new FrameDragController(view, mouseHook));
+        controllers.add(new MenuController(model, view, settingsMgr));
+        controllers.add(new NumberOfSlotsController(model, view, settingsMgr));
+        controllers.add(new OrientationController(model, view, this, settingsMgr));
+        controllers.add(new ScalingModeController(model, view, settingsMgr));
+        controllers.add(new SelectedDisplayController(model, view));
+        controllers.add(new WindowController(model, view, minimizeToTray));
+    }
+
     @Override
     public void initListeners() {
         for (IController controller : controllers) {
             controller.initListeners();
         }
+
+        /*
+         * Wire the slots the view built before the sub-controllers existed. Pooled slots keep their listeners across
+         * re-inits, and any slot built later is wired as it is built, so this only happens once
+         */
+        if (!slotListenersInitialized) {
+            for (int displayIndex = 0; displayIndex < model.getNumOfConnectedDisplays(); displayIndex++) {
+                for (int slotIndex = 0; slotIndex < model.getMaxNumOfSlots(); slotIndex++) {
+                    if (view.isSlotBuilt(displayIndex, slotIndex)) {
+                        initSlotListeners(displayIndex, slotIndex);
+                    }
+                }
+            }
+
+            slotListenersInitialized = true;
+        }
+    }
+
+    @Override
+    public void initSlotListeners(int displayIndex, int slotIndex) {
+        for (IController controller : controllers) {
+            controller.initSlotListeners(displayIndex, slotIndex);
+        }
+    }
+
+    @Override
+    public void slotBuilt(int displayIndex, int slotIndex) {
+        // Slots built before the sub-controllers first listened are wired by initListeners instead
+        if (slotListenersInitialized) {
+            initSlotListeners(displayIndex, slotIndex);
+        }
     }
 
     @Override
     public void cleanUp() {
         /*
-         * Detach only the current dispatch listener so the old hot keys controller can be garbage collected. The hook
-         * and its held-key tracker stay alive so keys held across app refreshes are never missed, and the process exit
-         * reclaims the native hook
+         * Detach the dispatch listener while the app is re-initialized; it is re-attached once the hot keys controller
+         * is re-initialized. The hook and its held-key tracker stay alive so keys held across app refreshes are never
+         * missed, and the process exit reclaims the native hook
          */
         if (keyboardHook != null) {
             try {
@@ -175,7 +225,7 @@ public class DhkController implements IController {
             }
         }
 
-        // Ensure EDT tasks that may access controllers have been processed before we clean up references
+        // Ensure EDT tasks that may access controllers have been processed before the controllers are cleaned up
         if (!SwingUtilities.isEventDispatchThread()) {
             try {
                 SwingUtilities.invokeAndWait(() -> {
@@ -185,6 +235,7 @@ public class DhkController implements IController {
             }
         }
 
+        // The sub-controllers are kept for the next re-init, so only their timers and transient state are cleaned up
         if (controllers != null) {
             for (IController controller : controllers) {
                 try {
@@ -193,10 +244,6 @@ public class DhkController implements IController {
                     e.printStackTrace();
                 }
             }
-
-            // Remove references to allow GC
-            controllers.clear();
-            controllers = null;
         }
 
         // Stop native display notifications
@@ -247,6 +294,19 @@ public class DhkController implements IController {
         initListeners();
     }
 
+    /**
+     * Keeps the live controllers in step with an in-place model refresh, so the hot key dispatch matches any hot keys
+     * the refresh replaced.
+     *
+     * @param hotKeysChanged
+     *            - Whether the refresh replaced any slot's hot key
+     */
+    public void refreshController(boolean hotKeysChanged) {
+        if (hotKeysChanged && hotKeysController != null) {
+            hotKeysController.rebuildActiveKeyCodes();
+        }
+    }
+
     /**
      * Gets the application-lifetime minimize-to-tray object.
      *
@@ -61,20 +61,15 @@ public class DisplayModeController implements IController {
 
     @Override
     public void initListeners() {
-        for (int i = 0; i < model.getNumOfConnectedDisplays(); i++) {
-            int displayIndex = i;
-
-            // Set the action listeners for each slot in the view
-            for (int j = 0; j < model.getMaxNumOfSlots(); j++) {
-                int slotIndex = j;
+    }
 
-                view.getSlot(displayIndex, slotIndex).getResolutions()
-                        .addActionListener(e -> selectSlotResolution(displayIndex, slotIndex));
+    @Override
+    public void initSlotListeners(int displayIndex, int slotIndex) {
+        view.getSlot(displayIndex, slotIndex).getResolutions()
+                .addActionListener(e -> selectSlotResolution(displayIndex, slotIndex));
 
-                view.getSlot(displayIndex, slotIndex).getRefreshRates()
-                        .addActionListener(e -> saveSlotDisplayMode(displayIndex, slotIndex));
-            }
-        }
+        view.getSlot(displayIndex, slotIndex).getRefreshRates()
+                .addActionListener(e -> saveSlotDisplayMode(displayIndex, slotIndex));
     }
 
     @Override
@@ -123,8 +118,7 @@ public class DisplayModeController implements IController {
 
         String displayId = model.getDisplayIds()[displayIndex];
         int slotId = slotIndex + 1;
-        DisplayMode selectedDisplayMode = new DisplayMode(selectedResolution.getWidth(), selectedResolution.getHeight(),
-                selectedRefreshRate.getNumerator(), selectedRefreshRate.getDenominator());
+        DisplayMode selectedDisplayMode = DisplayMode.of(selectedResolution, selectedRefreshRate);
 
         model.getSlot(displayIndex, slotIndex).setDisplayMode(selectedDisplayMode);
         settingsMgr.saveIniSlotDisplayMode(displayId, slotId, selectedDisplayMode);
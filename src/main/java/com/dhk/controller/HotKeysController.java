@@ -22,28 +22,24 @@ package com.dhk.controller;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 
 import javax.swing.JButton;
 import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 
-import com.dhk.io.DisplayConfig;
 import com.dhk.io.KeyText;
-import com.dhk.io.SetDisplay;
 import com.dhk.io.SettingsManager;
 import com.dhk.main.AppRefresher;
 import com.dhk.model.DhkModel;
 import com.dhk.model.FramePlacement;
 import com.dhk.model.HotKey;
 import com.dhk.model.Key;
-import com.dhk.model.button.Button;
+import com.dhk.model.Profile;
 import com.dhk.utility.FrameUtil;
 import com.dhk.view.DhkView;
 
@@ -63,8 +59,7 @@ public class HotKeysController implements IController, GlobalKeyListener {
     private DhkModel model;
     private DhkController controller;
     private SettingsManager settingsMgr;
-    private DisplayConfig displayConfig;
-    private SetDisplay setDisplay;
+    private SlotApplier slotApplier;
     private HotKey hotKeyBackup;
     private Timer idleTimer;
     private Timer releaseMessageTimer;
@@ -76,6 +71,8 @@ public class HotKeysController implements IController, GlobalKeyListener {
     private boolean anyHotKeySubset;
     private volatile boolean anyHotKeyChanging;
     private Set<Integer> activeKeyCodes;
+    private Map<Integer, List<int[]>> slotsByKeyCode;
+    private List<Profile> activeProfiles;
     private HeldKeyTracker heldKeyTracker;
 
     private static final String CHANGE_HOT_KEY_TEXT = "Change Hot Key";
@@ -87,6 +84,7 @@ public class HotKeysController implements IController, GlobalKeyListener {
     private static final int IDLE_INPUT_TIMEOUT = 2500;
     private static final int RELEASE_MESSAGE_TIMEOUT = 1500;
     private static final int MAX_KEY_COUNT = 3;
+    private static final List<int[]> NO_SLOTS = List.of();
 
     /**
      * Constructor for the {@link HotKeysController} class.
@@ -115,30 +113,24 @@ public class HotKeysController implements IController, GlobalKeyListener {
     public void initController() {
         currentKeyCount = 0;
         maxNumOfSlots = settingsMgr.getMaxNumOfSlots();
-        setDisplay = new SetDisplay();
         showReleaseMessage = false;
         anyHotKeySubset = false;
         anyHotKeyChanging = false;
         activeKeyCodes = new HashSet<>();
         rebuildActiveKeyCodes();
         seedHeldKeyStates();
-        displayConfig = settingsMgr.getDisplayConfig();
+        slotApplier = new SlotApplier(model, settingsMgr.getDisplayConfig());
         appRefresher = new AppRefresher(model, view, controller, settingsMgr);
     }
 
     @Override
     public void initListeners() {
-        for (int i = 0; i < model.getNumOfConnectedDisplays(); i++) {
-            int displayIndex = i;
-
-            // Set the action listener for each Change Hot Key button in the view
-            for (int j = 0; j < maxNumOfSlots; j++) {
-                int slotIndex = j;
+    }
 
-                view.getSlot(displayIndex, slotIndex).getChangeHotKeyButton()
-                        .addActionListener(e -> slotHotKeyChangeEvent(displayIndex, slotIndex));
-            }
-        }
+    @Override
+    public void initSlotListeners(int displayIndex, int slotIndex) {
+        view.getSlot(displayIndex, slotIndex).getChangeHotKeyButton()
+                .addActionListener(e -> slotHotKeyChangeEvent(displayIndex, slotIndex));
     }
 
     @Override
@@ -176,70 +168,52 @@ public class HotKeysController implements IController, GlobalKeyListener {
             public void run() {
                 Map<Integer, Integer> displayToSlotMap = new HashMap<>();
 
-                for (int displayIndex = 0; displayIndex < model.getNumOfConnectedDisplays(); displayIndex++) {
-                    for (int slotIndex = 0; slotIndex < maxNumOfSlots; slotIndex++) {
-                        setPressedKeys(keyEvent, model.getSlot(displayIndex, slotIndex).getHotKey().getKeys());
-                        updateHotKeyState(model.getSlot(displayIndex, slotIndex).getHotKey());
-
-                        if (!showReleaseMessage) {
-                            // Only check the active slots for building a new key or setting a display mode
-                            if (slotIndex < model.getNumOfSlotsForDisplay(displayIndex)) {
-                                if (model.getSlot(displayIndex, slotIndex).getHotKey().isChangingHotKey()) {
-                                    buildHotKey(keyEvent, model.getSlot(displayIndex, slotIndex).getHotKey(),
-                                            slotIndex);
-
-                                    if (anyHotKeySubset()) {
-                                        // Notify the user that hot keys cannot be a subset of another hot key
-                                        view.getSlot(displayIndex, slotIndex).getChangeHotKeyButton()
-                                                .setText(NO_SUBSETS_TEXT);
-
-                                        anyHotKeySubset = true;
-                                    } else {
-                                        // Update the Change Hot Key button text to notify the user to release keys
-                                        view.getSlot(displayIndex, slotIndex).getChangeHotKeyButton()
-                                                .setText(RELEASE_TO_SET_TEXT);
-
-                                        anyHotKeySubset = false;
-                                    }
-                                }
-
-                                // If no hot key is being changed, and a hot key is pressed but not held down
-                                if (!anyHotKeyChanging
-                                        && model.getSlot(displayIndex, slotIndex).getHotKey().isHotKeyPressed()
-                                        && !model.getSlot(displayIndex, slotIndex).getHotKey().isHotKeyHeldDown()) {
-                                    /*
-                                     * Defer applying settings until after we finish scanning all slots to ensure
-                                     * multiple displays using the same hot key are all applied
-                                     */
-                                    displayToSlotMap.put(displayIndex, slotIndex);
-                                }
-                            }
+                // Visit only the slots whose hot key uses the key, unless a hot key is being changed
+                if (anyHotKeyChanging) {
+                    for (int displayIndex = 0; displayIndex < model.getNumOfConnectedDisplays(); displayIndex++) {
+                        for (int slotIndex = 0; slotIndex < maxNumOfSlots; slotIndex++) {
+                            pressSlotHotKey(keyEvent, displayIndex, slotIndex, displayToSlotMap);
                         }
                     }
+                } else {
+                    for (int[] slotRef : getIndexedSlots(keyEvent.getVirtualKeyCode())) {
+                        pressSlotHotKey(keyEvent, slotRef[0], slotRef[1], displayToSlotMap);
+                    }
                 }
 
-                // Capture the frame placement before any display reconfiguration relocates the window
-                FramePlacement placement = displayToSlotMap.isEmpty()
-                        ? null
-                        : FrameUtil.capturePlacement(view.getFrame());
-
-                // Apply settings for all collected slots, capturing the arrangement first so it is reflowed once after
-                boolean displaySettingsApplied = false;
+                List<Profile> pressedProfiles = new ArrayList<>();
 
-                if (!displayToSlotMap.isEmpty()) {
-                    // Dismiss a showing tray menu before the mode change, since it was placed against the old geometry
-                    controller.getMinimizeToTray().displayConfigurationChanged();
+                // Only profiles whose hot key overlaps no other hot key can fire, so one press never applies two
+                for (Profile profile : activeProfiles) {
+                    HotKey profileHotKey = profile.getHotKey();
 
-                    String[] arrangementSnapshot = displayConfig.captureArrangement();
+                    setPressedKeys(keyEvent, profileHotKey.getKeys());
+                    updateHotKeyState(profileHotKey);
 
-                    for (Entry<Integer, Integer> displayToSlot : displayToSlotMap.entrySet()) {
-                        displaySettingsApplied |= setDisplaySettings(displayToSlot.getKey(), displayToSlot.getValue());
+                    // A profile hot key fires like a slot hot key: once per press, never while a hot key is changing
+                    if (!showReleaseMessage && !anyHotKeyChanging && profileHotKey.isHotKeyPressed()
+                            && !profileHotKey.isHotKeyHeldDown()) {
+                        pressedProfiles.add(profile);
                     }
+                }
 
-                    // Reflow once, after every targeted display has been resized, so their arrangement is preserved
-                    if (displaySettingsApplied) {
-                        setDisplay.preserveArrangement(arrangementSnapshot);
-                    }
+                boolean applyPending = !displayToSlotMap.isEmpty() || !pressedProfiles.isEmpty();
+
+                // Capture the frame placement before any display reconfiguration relocates the window
+                FramePlacement placement = applyPending ? FrameUtil.capturePlacement(view.getFrame()) : null;
+
+                // Dismiss a showing tray menu before the mode change, since it was placed against the old geometry
+                if (applyPending) {
+                    controller.getMinimizeToTray().displayConfigurationChanged();
+                }
+
+                // Apply every collected slot together, so all targeted displays change in one reconfiguration
+                boolean displaySettingsApplied = !displayToSlotMap.isEmpty()
+                        && slotApplier.applySlots(displayToSlotMap, null);
+
+                // Each profile switches every display it references in a single reconfiguration
+                for (Profile profile : pressedProfiles) {
+                    displaySettingsApplied |= applyProfile(profile);
                 }
 
                 // Re-initialize the app once, after every targeted display has been updated
@@ -263,25 +237,116 @@ public class HotKeysController implements IController, GlobalKeyListener {
         SwingUtilities.invokeLater(new Runnable() {
             @Override
             public void run() {
-                for (int displayIndex = 0; displayIndex < model.getNumOfConnectedDisplays(); displayIndex++) {
-                    for (int slotIndex = 0; slotIndex < maxNumOfSlots; slotIndex++) {
-                        setReleasedKeys(keyEvent, model.getSlot(displayIndex, slotIndex).getHotKey().getKeys());
-                        updateHotKeyState(model.getSlot(displayIndex, slotIndex).getHotKey());
+                for (int profileIndex = 0; profileIndex < model.getNumOfProfiles(); profileIndex++) {
+                    HotKey profileHotKey = model.getProfile(profileIndex).getHotKey();
 
-                        // If the user releases the hot key during the "changing hot key" state
-                        if (model.getSlot(displayIndex, slotIndex).getHotKey().isChangingHotKey()
-                                && !model.getSlot(displayIndex, slotIndex).getHotKey().isHotKeyPressed()) {
-                            showReleaseMessage = true;
+                    setReleasedKeys(keyEvent, profileHotKey.getKeys());
+                    updateHotKeyState(profileHotKey);
+                }
 
-                            leaveChangingHotKeyState(slotIndex);
-                            startReleaseMessageTimer(RELEASE_MESSAGE_TIMEOUT, slotIndex);
+                // Visit only the slots whose hot key uses the key, unless a hot key is being changed
+                if (anyHotKeyChanging) {
+                    for (int displayIndex = 0; displayIndex < model.getNumOfConnectedDisplays(); displayIndex++) {
+                        for (int slotIndex = 0; slotIndex < maxNumOfSlots; slotIndex++) {
+                            releaseSlotHotKey(keyEvent, displayIndex, slotIndex);
                         }
                     }
+                } else {
+                    for (int[] slotRef : getIndexedSlots(keyEvent.getVirtualKeyCode())) {
+                        releaseSlotHotKey(keyEvent, slotRef[0], slotRef[1]);
+                    }
                 }
             }
         });
     }
 
+    /**
+     * Updates the given slot's hot key for a pressed key, building the hot key if it is being changed, and collects the
+     * slot for applying if its hot key was just pressed.
+     *
+     * @param keyEvent
+     *            - The key event that occurred
+     * @param displayIndex
+     *            - The index of the display the slot belongs to
+     * @param slotIndex
+     *            - The index of the slot to update the hot key for
+     * @param displayToSlotMap
+     *            - The map of display indexes to the index of the slot to apply for that display
+     */
+    private void pressSlotHotKey(GlobalKeyEvent keyEvent, int displayIndex, int slotIndex,
+            Map<Integer, Integer> displayToSlotMap) {
+        setPressedKeys(keyEvent, model.getSlot(displayIndex, slotIndex).getHotKey().getKeys());
+        updateHotKeyState(model.getSlot(displayIndex, slotIndex).getHotKey());
+
+        if (!showReleaseMessage) {
+            // Only check the active slots for building a new key or setting a display mode
+            if (slotIndex < model.getNumOfSlotsForDisplay(displayIndex)) {
+                if (model.getSlot(displayIndex, slotIndex).getHotKey().isChangingHotKey()) {
+                    buildHotKey(keyEvent, model.getSlot(displayIndex, slotIndex).getHotKey(), slotIndex);
+
+                    if (anyHotKeySubset()) {
+                        // Notify the user that hot keys cannot be a subset of another hot key
+                        view.getSlot(displayIndex, slotIndex).getChangeHotKeyButton().setText(NO_SUBSETS_TEXT);
+
+                        anyHotKeySubset = true;
+                    } else {
+                        // Update the Change Hot Key button text to notify the user to release keys
+                        view.getSlot(displayIndex, slotIndex).getChangeHotKeyButton().setText(RELEASE_TO_SET_TEXT);
+
+                        anyHotKeySubset = false;
+                    }
+                }
+
+                // If no hot key is being changed, and a hot key is pressed but not held down
+                if (!anyHotKeyChanging && model.getSlot(displayIndex, slotIndex).getHotKey().isHotKeyPressed()
+                        && !model.getSlot(displayIndex, slotIndex).getHotKey().isHotKeyHeldDown()) {
+                    /*
+                     * Defer applying settings until after we finish scanning all slots to ensure multiple displays
+                     * using the same hot key are all applied
+                     */
+                    displayToSlotMap.put(displayIndex, slotIndex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the given slot's hot key for a released key, leaving the "changing hot key" state if the hot key being
+     * changed was released.
+     *
+     * @param keyEvent
+     *            - The key event that occurred
+     * @param displayIndex
+     *            - The index of the display the slot belongs to
+     * @param slotIndex
+     *            - The index of the slot to update the hot key for
+     */
+    private void releaseSlotHotKey(GlobalKeyEvent keyEvent, int displayIndex, int slotIndex) {
+        setReleasedKeys(keyEvent, model.getSlot(displayIndex, slotIndex).getHotKey().getKeys());
+        updateHotKeyState(model.getSlot(displayIndex, slotIndex).getHotKey());
+
+        // If the user releases the hot key during the "changing hot key" state
+        if (model.getSlot(displayIndex, slotIndex).getHotKey().isChangingHotKey()
+                && !model.getSlot(displayIndex, slotIndex).getHotKey().isHotKeyPressed()) {
+            showReleaseMessage = true;
+
+            leaveChangingHotKeyState(slotIndex);
+            startReleaseMessageTimer(RELEASE_MESSAGE_TIMEOUT, slotIndex);
+        }
+    }
+
+    /**
+     * Gets the slots whose hot key uses the given key code, in display then slot order.
+     *
+     * @param keyCode
+     *            - The key code to get the slots for
+     *
+     * @return The display and slot index pairs of the slots whose hot key uses the key code
+     */
+    private List<int[]> getIndexedSlots(int keyCode) {
+        return slotsByKeyCode.getOrDefault(keyCode, NO_SLOTS);
+    }
+
     /**
      * Lightweight check to determine whether the given key code is relevant to any hot key (either already set or
      * currently being changed). This method performs minimal work and avoids allocations so it can be called directly
@@ -311,15 +376,120 @@ public class HotKeysController implements IController, GlobalKeyListener {
 
         activeKeyCodes.clear();
 
+        // Index the slots by the key codes of their hot keys, so a key event only visits the slots it can affect
+        Map<Integer, List<int[]>> newSlotsByKeyCode = new HashMap<>();
+
         for (int displayIndex = 0; displayIndex < model.getNumOfConnectedDisplays(); displayIndex++) {
             for (int slotIndex = 0; slotIndex < maxNumOfSlots; slotIndex++) {
                 List<Key> keys = model.getSlot(displayIndex, slotIndex).getHotKey().getKeys();
 
                 for (int k = 0; k < keys.size(); k++) {
                     activeKeyCodes.add(keys.get(k).getKey());
+                    newSlotsByKeyCode.computeIfAbsent(keys.get(k).getKey(), keyCode -> new ArrayList<>())
+                            .add(new int[]{displayIndex, slotIndex});
                 }
             }
         }
+
+        slotsByKeyCode = newSlotsByKeyCode;
+
+        // Leave out a profile whose hot key overlaps a slot's or another profile's, since one press would apply both
+        List<Profile> newActiveProfiles = new ArrayList<>();
+
+        for (int profileIndex = 0; profileIndex < model.getNumOfProfiles(); profileIndex++) {
+            Profile profile = model.getProfile(profileIndex);
+            List<Key> keys = profile.getHotKey().getKeys();
+
+            if (keys.isEmpty() || isProfileHotKeyConflicting(profileIndex)) {
+                continue;
+            }
+
+            newActiveProfiles.add(profile);
+
+            for (Key key : keys) {
+                activeKeyCodes.add(key.getKey());
+            }
+        }
+
+        activeProfiles = newActiveProfiles;
+    }
+
+    /**
+     * Checks if the hot key of the specified profile overlaps the hot key of any slot or any other profile.
+     *
+     * @param profileIndexToCheck
+     *            - The index of the profile containing the hot key to check
+     *
+     * @return Whether or not the profile's hot key overlaps another hot key
+     */
+    private boolean isProfileHotKeyConflicting(int profileIndexToCheck) {
+        List<Key> keysToCheck = model.getProfile(profileIndexToCheck).getHotKey().getKeys();
+
+        if (isHotKeyOverlappingAnySlot(keysToCheck)) {
+            return true;
+        }
+
+        for (int profileIndex = 0; profileIndex < model.getNumOfProfiles(); profileIndex++) {
+            if (profileIndex != profileIndexToCheck
+                    && isHotKeyOverlapping(keysToCheck, model.getProfile(profileIndex).getHotKey().getKeys())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if the given hot key keys overlap the hot key of any slot on any display.
+     *
+     * @param keysToCheck
+     *            - The keys of the hot key to check
+     *
+     * @return Whether or not the keys overlap any slot's hot key
+     */
+    private boolean isHotKeyOverlappingAnySlot(List<Key> keysToCheck) {
+        for (int displayIndex = 0; displayIndex < model.getNumOfConnectedDisplays(); displayIndex++) {
+            for (int slotIndex = 0; slotIndex < maxNumOfSlots; slotIndex++) {
+                if (isHotKeyOverlapping(keysToCheck, model.getSlot(displayIndex, slotIndex).getHotKey().getKeys())) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if the given hot key keys overlap the hot key of any profile.
+     *
+     * @param keysToCheck
+     *            - The keys of the hot key to check
+     *
+     * @return Whether or not the keys overlap any profile's hot key
+     */
+    private boolean isHotKeyOverlappingAnyProfile(List<Key> keysToCheck) {
+        for (int profileIndex = 0; profileIndex < model.getNumOfProfiles(); profileIndex++) {
+            if (isHotKeyOverlapping(keysToCheck, model.getProfile(profileIndex).getHotKey().getKeys())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if two set hot keys overlap, meaning they are equal or one is a subset of the other, so pressing one also
+     * presses the other.
+     *
+     * @param keys
+     *            - The keys of the first hot key
+     * @param otherKeys
+     *            - The keys of the second hot key
+     *
+     * @return Whether or not both hot keys are set and one contains the other
+     */
+    private boolean isHotKeyOverlapping(List<Key> keys, List<Key> otherKeys) {
+        return keys.size() > 0 && otherKeys.size() > 0 && (keys.containsAll(otherKeys) || otherKeys.containsAll(keys));
     }
 
     /**
@@ -329,20 +499,33 @@ public class HotKeysController implements IController, GlobalKeyListener {
     private void seedHeldKeyStates() {
         for (int displayIndex = 0; displayIndex < model.getNumOfConnectedDisplays(); displayIndex++) {
             for (int slotIndex = 0; slotIndex < maxNumOfSlots; slotIndex++) {
-                HotKey hotKey = model.getSlot(displayIndex, slotIndex).getHotKey();
-                List<Key> keys = hotKey.getKeys();
-                boolean allKeysPressed = keys.size() > 0;
-
-                for (int keyIndex = 0; keyIndex < keys.size(); keyIndex++) {
-                    boolean keyHeld = heldKeyTracker.isKeyHeld(keys.get(keyIndex).getKey());
-                    keys.get(keyIndex).setKeyPressed(keyHeld);
-                    allKeysPressed &= keyHeld;
-                }
-
-                hotKey.setHotKeyPressed(allKeysPressed);
-                hotKey.setHotKeyHeldDown(allKeysPressed);
+                seedHeldKeyState(model.getSlot(displayIndex, slotIndex).getHotKey());
             }
         }
+
+        for (int profileIndex = 0; profileIndex < model.getNumOfProfiles(); profileIndex++) {
+            seedHeldKeyState(model.getProfile(profileIndex).getHotKey());
+        }
+    }
+
+    /**
+     * Restores the physically held key states onto the given hot key.
+     *
+     * @param hotKey
+     *            - The hot key to restore the held key states for
+     */
+    private void seedHeldKeyState(HotKey hotKey) {
+        List<Key> keys = hotKey.getKeys();
+        boolean allKeysPressed = keys.size() > 0;
+
+        for (int keyIndex = 0; keyIndex < keys.size(); keyIndex++) {
+            boolean keyHeld = heldKeyTracker.isKeyHeld(keys.get(keyIndex).getKey());
+            keys.get(keyIndex).setKeyPressed(keyHeld);
+            allKeysPressed &= keyHeld;
+        }
+
+        hotKey.setHotKeyPressed(allKeysPressed);
+        hotKey.setHotKeyHeldDown(allKeysPressed);
     }
 
     /**
@@ -365,7 +548,7 @@ public class HotKeysController implements IController, GlobalKeyListener {
             model.getSlot(displayIndex, slotIndex).getHotKey().setKeys(new ArrayList<Key>());
             view.getSlot(displayIndex, slotIndex).getChangeHotKeyButton().setText(PRESS_HOT_KEY_TEXT);
 
-            disableComponents();
+            lockInput();
 
             model.getSlot(displayIndex, slotIndex).getHotKey().setChangingHotKey(true);
             anyHotKeyChanging = true;
@@ -470,7 +653,7 @@ public class HotKeysController implements IController, GlobalKeyListener {
 
                 view.getSlot(selectedDisplayIndex, slotIndex).getHotKey()
                         .setText(model.getSlot(selectedDisplayIndex, slotIndex).getHotKey().getHotKeyString());
-                FrameUtil.refreshFrame(view.getFrame());
+                FrameUtil.relayoutFrame(view.getFrame());
 
                 // Update cached active key codes
                 if (activeKeyCodes == null) {
@@ -485,7 +668,8 @@ public class HotKeysController implements IController, GlobalKeyListener {
     }
 
     /**
-     * Checks if any hot key is a subset of another hot key.
+     * Checks if any hot key is a subset of another hot key. The hot key being changed must not overlap any profile's
+     * hot key either, since a profile fires on the same press as a slot and both would be applied to the same display.
      *
      * @return Whether or not any hot key is a subset of another hot key
      */
@@ -497,7 +681,10 @@ public class HotKeysController implements IController, GlobalKeyListener {
         for (int displayIndex = 0; displayIndex < model.getNumOfConnectedDisplays(); displayIndex++) {
             for (int slotIndex = 0; slotIndex < maxNumOfSlots; slotIndex++) {
                 if (displayIndex == selectedDisplayIndex) {
-                    isHotKeySubsetInSelectedDisplay = isHotKeySubsetInSelectedDisplay(slotIndex);
+                    HotKey hotKey = model.getSlot(displayIndex, slotIndex).getHotKey();
+
+                    isHotKeySubsetInSelectedDisplay = isHotKeySubsetInSelectedDisplay(slotIndex)
+                            || (hotKey.isChangingHotKey() && isHotKeyOverlappingAnyProfile(hotKey.getKeys()));
                 } else {
                     isHotKeySubsetInAnotherDisplay = isHotKeySubsetInAnotherDisplay(slotIndex);
                 }
@@ -598,35 +785,28 @@ public class HotKeysController implements IController, GlobalKeyListener {
     }
 
     /**
-     * Sets the display settings if the display is connected. Does not refresh the app; the caller is responsible for
-     * triggering a single app refresh after all targeted displays have been updated.
+     * Applies the given profile's slots to every display the profile references in a single display reconfiguration.
+     * A reference to a slot beyond the display's number of slots is left out, since that slot is inactive and never
+     * shown, just as its slot hot key is never dispatched. Does not refresh the app; the caller is responsible for
+     * triggering a single app refresh afterwards.
      *
-     * @param displayIndex
-     *            - The index of the display to set the display settings for
-     * @param slotIndex
-     *            - The index of the slot to set the display settings for
-     * @return Whether the display settings were applied (the display is still connected and unchanged)
+     * @param profile
+     *            - The profile to apply
+     *
+     * @return Whether the profile was applied (the displays are unchanged and the profile references at least one)
      */
-    private boolean setDisplaySettings(int displayIndex, int slotIndex) {
-        displayConfig.updateConnectedDisplays();
-
-        String displayId = model.getDisplayIds()[displayIndex];
-
-        // If the connected displays have not changed
-        if (Arrays.equals(model.getDisplayIds(), displayConfig.getDisplayIds())) {
-            setDisplay.applyDisplayOrientation(displayId, model.getSlot(displayIndex, slotIndex).getOrientationMode());
-            setDisplay.applyDisplaySettings(displayId,
-                    model.getSlot(displayIndex, slotIndex).getDisplayMode().getWidth(),
-                    model.getSlot(displayIndex, slotIndex).getDisplayMode().getHeight(),
-                    model.getSlot(displayIndex, slotIndex).getDisplayMode().getRefreshNumerator(),
-                    model.getSlot(displayIndex, slotIndex).getDisplayMode().getRefreshDenominator(),
-                    model.getSlot(displayIndex, slotIndex).getScalingMode(),
-                    model.getSlot(displayIndex, slotIndex).getDpiScalePercentage());
+    private boolean applyProfile(Profile profile) {
+        Map<Integer, Integer> displayToSlotMap = new HashMap<>();
 
-            return true;
+        for (int displayIndex = 0; displayIndex < model.getNumOfConnectedDisplays(); displayIndex++) {
+            int slotIndex = profile.getSlotIndex(displayIndex);
+
+            if (slotIndex != Profile.NO_SLOT && slotIndex < model.getNumOfSlotsForDisplay(displayIndex)) {
+                displayToSlotMap.put(displayIndex, slotIndex);
+            }
         }
 
-        return false;
+        return slotApplier.applySlots(displayToSlotMap, profile.getName());
     }
 
     /**
@@ -679,7 +859,7 @@ public class HotKeysController implements IController, GlobalKeyListener {
                     .setText(model.getSlot(selectedDisplayIndex, slotIndex).getHotKey().getHotKeyString());
             anyHotKeySubset = false;
 
-            FrameUtil.refreshFrame(view.getFrame());
+            FrameUtil.relayoutFrame(view.getFrame());
         } else {
             view.getSlot(selectedDisplayIndex, slotIndex).getChangeHotKeyButton().setText(HOT_KEY_SET_TEXT);
         }
@@ -695,7 +875,7 @@ public class HotKeysController implements IController, GlobalKeyListener {
         if (!showReleaseMessage) {
             view.getSlot(selectedDisplayIndex, slotIndex).getChangeHotKeyButton().setText(CHANGE_HOT_KEY_TEXT);
 
-            enableComponents();
+            unlockInput(selectedDisplayIndex, slotIndex);
         }
     }
 
@@ -716,7 +896,7 @@ public class HotKeysController implements IController, GlobalKeyListener {
 
                 view.getSlot(selectedDisplayIndex, slotIndex).getChangeHotKeyButton().setText(CHANGE_HOT_KEY_TEXT);
 
-                enableComponents();
+                unlockInput(selectedDisplayIndex, slotIndex);
             }
         });
 
@@ -745,99 +925,47 @@ public class HotKeysController implements IController, GlobalKeyListener {
     }
 
     /**
-     * Disables all interactive view components to avoid unintended selection during changing the hot key.
+     * Locks the frame against input to avoid unintended selection during changing the hot key. A single glass pane
+     * overlay swallows the input and dims the frame, so the controls beneath keep their enabled state.
      */
-    private void disableComponents() {
+    private void lockInput() {
         // Ensure we run on the EDT
         if (!SwingUtilities.isEventDispatchThread()) {
-            SwingUtilities.invokeLater(this::disableComponents);
-            return;
-        }
-
-        if (view.getFrame() == null) {
+            SwingUtilities.invokeLater(this::lockInput);
             return;
         }
 
-        // Prevent the window from accepting input and causing focus traversal while we toggle components
-        view.getFrame().setEnabled(false);
-
-        // Disable top-level controls
-        view.getDisplayIds().setEnabled(false);
-
-        // Disable custom buttons
-        for (Button button : view.getButtons()) {
-            button.setEnabled(false);
-        }
-
-        // Disable slot controls
-        for (int displayIndex = 0; displayIndex < model.getNumOfConnectedDisplays(); displayIndex++) {
-            view.getNumberOfActiveSlots(displayIndex).setEnabled(false);
-
-            for (int slotIndex = 0; slotIndex < model.getNumOfSlotsForDisplay(displayIndex); slotIndex++) {
-                view.getSlot(displayIndex, slotIndex).getResolutions().setEnabled(false);
-                view.getSlot(displayIndex, slotIndex).getRefreshRates().setEnabled(false);
-                view.getSlot(displayIndex, slotIndex).getScalingModes().setEnabled(false);
-                view.getSlot(displayIndex, slotIndex).getDpiScalePercentages().setEnabled(false);
-                view.getSlot(displayIndex, slotIndex).getOrientationModes().setEnabled(false);
-                view.getSlot(displayIndex, slotIndex).getChangeHotKeyButton().setEnabled(false);
-            }
+        if (view.getInputLockPane() != null) {
+            view.getInputLockPane().lock();
         }
-
-        // One consolidated refresh to avoid incremental repaints
-        view.getFrame().revalidate();
-        view.getFrame().repaint();
     }
 
     /**
-     * Re-enables all interactive view components.
+     * Unlocks the frame for input after changing the specified slot's hot key.
+     *
+     * @param displayIndex
+     *            - The index of the display of the slot whose hot key was changed
+     * @param slotIndex
+     *            - The index of the slot whose hot key was changed
      */
-    private void enableComponents() {
+    private void unlockInput(int displayIndex, int slotIndex) {
         // Ensure we run on the EDT
         if (!SwingUtilities.isEventDispatchThread()) {
-            SwingUtilities.invokeLater(this::enableComponents);
+            SwingUtilities.invokeLater(() -> unlockInput(displayIndex, slotIndex));
             return;
         }
 
-        // Enable top-level controls
-        view.getDisplayIds().setEnabled(true);
+        // Enable the Clear Hot Key button only if a hot key is set for the changed slot
+        view.getSlot(displayIndex, slotIndex).getClearHotKeyButton()
+                .setEnabled(!model.getSlot(displayIndex, slotIndex).getHotKey().getKeys().isEmpty());
 
-        // Enable custom buttons
-        for (Button button : view.getButtons()) {
-            button.setEnabled(true);
+        if (view.getInputLockPane() != null) {
+            view.getInputLockPane().unlock();
         }
 
-        // Enable slot controls
-        for (int displayIndex = 0; displayIndex < model.getNumOfConnectedDisplays(); displayIndex++) {
-            view.getNumberOfActiveSlots(displayIndex).setEnabled(true);
-
-            for (int slotIndex = 0; slotIndex < model.getNumOfSlotsForDisplay(displayIndex); slotIndex++) {
-                view.getSlot(displayIndex, slotIndex).getResolutions().setEnabled(true);
-                view.getSlot(displayIndex, slotIndex).getRefreshRates().setEnabled(true);
-                view.getSlot(displayIndex, slotIndex).getScalingModes().setEnabled(true);
-                view.getSlot(displayIndex, slotIndex).getDpiScalePercentages().setEnabled(true);
-                view.getSlot(displayIndex, slotIndex).getOrientationModes().setEnabled(true);
-
-                JButton changeHotKeyButton = view.getSlot(displayIndex, slotIndex).getChangeHotKeyButton();
-                changeHotKeyButton.setEnabled(true);
-
-                // A button re-enabled under the cursor gets no mouseEntered, so restore rollover from the pointer
-                changeHotKeyButton.getModel().setRollover(changeHotKeyButton.getMousePosition() != null);
-
-                // Enable the Clear Hot Key button only if a hot key is set for this slot
-                if (model.getSlot(displayIndex, slotIndex).getHotKey().getKeys().size() > 0) {
-                    view.getSlot(displayIndex, slotIndex).getClearHotKeyButton().setEnabled(true);
-                } else {
-                    view.getSlot(displayIndex, slotIndex).getClearHotKeyButton().setEnabled(false);
-                }
-            }
-        }
-
-        // Re-enable the frame last so focus changes happen after component states are stable
-        if (view.getFrame() != null) {
-            view.getFrame().setEnabled(true);
-            view.getFrame().revalidate();
-            view.getFrame().repaint();
-        }
+        // A button uncovered under the cursor gets no mouseEntered, so restore rollover from the pointer
+        JButton changeHotKeyButton = view.getSlot(displayIndex, slotIndex).getChangeHotKeyButton();
+        changeHotKeyButton.getModel().setRollover(changeHotKeyButton.getMousePosition() != null);
     }
 
-}
\ No newline at end of file
+}
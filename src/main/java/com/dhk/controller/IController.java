@@ -36,6 +36,19 @@ public interface IController {
      */
     public void initListeners();
 
+    /**
+     * Initializes the listeners of the controller for a slot's view components. The view builds slot components only
+     * when they are first shown, so this is called once for each slot as it is built, rather than from initListeners.
+     * Controllers without slot listeners keep this default, which does nothing.
+     *
+     * @param displayIndex
+     *            - The index of the display the slot resides in
+     * @param slotIndex
+     *            - The index of the slot to initialize the listeners for
+     */
+    public default void initSlotListeners(int displayIndex, int slotIndex) {
+    }
+
     /**
      * Cleans up after the controller before re-initialization.
      */
@@ -87,15 +87,15 @@ public class NumberOfSlotsController implements IController {
 
         // If decreasing the number of slots
         if (oldNumOfSlots > newNumOfSlots) {
-            view.popSlots(slotsToRemove);
+            view.popSlots(displayIndex, slotsToRemove);
         }
         // Else, if increasing the number of slots
         else if (oldNumOfSlots < newNumOfSlots) {
-            // Add slots to the view starting at the last ending slot index
-            view.pushSlots(displayIndex, oldNumOfSlots);
+            // Add slots to the view up to the new number of slots
+            view.pushSlots(displayIndex);
         }
 
-        FrameUtil.refreshFrame(view.getFrame());
+        FrameUtil.relayoutFrame(view.getFrame());
     }
 
 }
@@ -73,17 +73,12 @@ public class OrientationController implements IController {
 
     @Override
     public void initListeners() {
-        for (int i = 0; i < model.getNumOfConnectedDisplays(); i++) {
-            int displayIndex = i;
-
-            // Set the action listener for each slot in the view.
-            for (int j = 0; j < model.getMaxNumOfSlots(); j++) {
-                int slotIndex = j;
+    }
 
-                view.getSlot(displayIndex, slotIndex).getOrientationModes()
-                        .addActionListener(e -> orientationModeAction(displayIndex, slotIndex));
-            }
-        }
+    @Override
+    public void initSlotListeners(int displayIndex, int slotIndex) {
+        view.getSlot(displayIndex, slotIndex).getOrientationModes()
+                .addActionListener(e -> orientationModeAction(displayIndex, slotIndex));
     }
 
     @Override
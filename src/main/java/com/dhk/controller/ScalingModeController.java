@@ -57,16 +57,12 @@ public class ScalingModeController implements IController {
 
     @Override
     public void initListeners() {
-        for (int i = 0; i < model.getNumOfConnectedDisplays(); i++) {
-            int displayIndex = i;
-
-            for (int j = 0; j < model.getMaxNumOfSlots(); j++) {
-                int slotIndex = j;
+    }
 
-                view.getSlot(displayIndex, slotIndex).getScalingModes()
-                        .addActionListener(e -> saveSlotScalingMode(displayIndex, slotIndex));
-            }
-        }
+    @Override
+    public void initSlotListeners(int displayIndex, int slotIndex) {
+        view.getSlot(displayIndex, slotIndex).getScalingModes()
+                .addActionListener(e -> saveSlotScalingMode(displayIndex, slotIndex));
     }
 
     @Override
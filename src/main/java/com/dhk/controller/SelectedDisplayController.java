@@ -68,20 +68,13 @@ public class SelectedDisplayController implements IController {
         int prevSelectedDisplayIndex = view.getPreviouslySelectedDisplayIndex();
 
         if (displayIndex != prevSelectedDisplayIndex) {
-            int newNumOfActiveSlots = model.getNumOfSlotsForDisplay(displayIndex);
-            int oldNumOfActiveSlots = model.getNumOfSlotsForDisplay(prevSelectedDisplayIndex);
-
             view.showNumberOfActiveSlotsForDisplay(displayIndex);
-            view.replaceActiveSlots();
 
-            if (oldNumOfActiveSlots > newNumOfActiveSlots) {
-                view.popSlots(oldNumOfActiveSlots - newNumOfActiveSlots);
-            } else {
-                view.pushSlots(displayIndex, oldNumOfActiveSlots);
-            }
+            // Each display keeps its own slot panel, so switching displays only flips which panel is visible
+            view.showSlotsForDisplay(displayIndex);
 
-            view.setPreviouslySelectedDisplayIndex(view.getDisplayIds().getSelectedIndex());
-            FrameUtil.refreshFrame(view.getFrame());
+            view.setPreviouslySelectedDisplayIndex(displayIndex);
+            FrameUtil.relayoutFrame(view.getFrame());
         }
     }
 
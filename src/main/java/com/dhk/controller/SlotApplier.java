@@ -0,0 +1,222 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright © 2026 Jonathan R. Miller
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and
+ * to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+package com.dhk.controller;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.dhk.io.ApplyResult;
+import com.dhk.io.DisplayConfig;
+import com.dhk.io.SetDisplay;
+import com.dhk.model.DhkModel;
+import com.dhk.model.DisplayState;
+import com.dhk.model.Slot;
+import com.dhk.view.ApplyFailedNoticeDialog;
+
+/**
+ * Applies slots to their displays for the Apply Slot buttons, the slot hot keys, and the profile hot keys alike. Slots
+ * that are already active are skipped, unsupported slots are refused before they reach native code, a lone refresh
+ * rate switch is applied on its own, and a failed apply is reported with a notice. A profile is applied as a whole or
+ * not at all. Refreshing the app is left to the
+ * caller.
+ *
+ * @author Jonathan R. Miller
+ */
+public class SlotApplier {
+
+    private DhkModel model;
+    private DisplayConfig displayConfig;
+    private SetDisplay setDisplay;
+
+    /**
+     * Constructor for the {@link SlotApplier} class.
+     *
+     * @param model
+     *            - The model holding the slots to apply
+     * @param displayConfig
+     *            - The display configuration to check the slots against
+     */
+    public SlotApplier(DhkModel model, DisplayConfig displayConfig) {
+        this.model = model;
+        this.displayConfig = displayConfig;
+
+        setDisplay = new SetDisplay();
+    }
+
+    /**
+     * Applies the given slot to its display, unless its settings are already active on the display.
+     *
+     * @param displayIndex
+     *            - The index of the display to apply the slot to
+     * @param slotIndex
+     *            - The index of the slot to apply
+     *
+     * @return Whether the slot was applied in a way that changes what the app shows, so the app needs a refresh
+     */
+    public boolean applySlot(int displayIndex, int slotIndex) {
+        return applySlots(Map.of(displayIndex, slotIndex), null);
+    }
+
+    /**
+     * Applies the given slots to their displays in a single display reconfiguration. Every display whose slot
+     * settings are already active is left out, so re-applying a slot does nothing. The orientation, display mode,
+     * scaling mode, and display arrangement of every remaining display are committed together, then each display's DPI
+     * scale percentage is applied. A lone display that only switches its refresh rate is applied as a single mode
+     * change instead. A profile with any slot its display does not support is refused as a whole, so the displays are
+     * never left half switched.
+     *
+     * @param displayToSlotMap
+     *            - The map of display indexes to the index of the slot to apply for that display
+     * @param profileName
+     *            - The name of the profile the slots belong to, named in any notice, or null for slots applied alone
+     *
+     * @return Whether any slot was applied in a way that changes what the app shows, so the app needs a refresh
+     */
+    public boolean applySlots(Map<Integer, Integer> displayToSlotMap, String profileName) {
+        displayConfig.updateConnectedDisplays();
+
+        if (displayToSlotMap.isEmpty() || !Arrays.equals(model.getDisplayIds(), displayConfig.getDisplayIds())) {
+            return false;
+        }
+
+        /*
+         * Another app or Windows Settings may have changed a refresh rate, scaling mode, or DPI scale without changing
+         * the display topology, so query the active settings again rather than trusting the cached display states
+         */
+        displayConfig.invalidateDisplayStates();
+
+        Map<Integer, Integer> changedDisplayToSlotMap = new HashMap<>();
+        boolean anySlotUnsupported = false;
+
+        for (Entry<Integer, Integer> displayToSlot : displayToSlotMap.entrySet()) {
+            String displayId = model.getDisplayIds()[displayToSlot.getKey()];
+            Slot slot = model.getSlot(displayToSlot.getKey(), displayToSlot.getValue());
+            DisplayState displayState = displayConfig.getDisplayState(displayId);
+
+            // Leave out every display whose slot settings are already active, so re-applying one does nothing
+            if (displayState != null && displayState.matches(slot)) {
+                continue;
+            }
+
+            // Refuse a slot the display does not support before it reaches native code
+            if (!displayConfig.isSlotSupported(displayId, slot)) {
+                anySlotUnsupported = true;
+                continue;
+            }
+
+            changedDisplayToSlotMap.put(displayToSlot.getKey(), displayToSlot.getValue());
+        }
+
+        if (anySlotUnsupported) {
+            new ApplyFailedNoticeDialog().showFailedNotice(ApplyResult.refused(ApplyResult.UNSUPPORTED_MODE),
+                    profileName);
+
+            // A profile switches its displays together, so applying only the supported slots would leave it half done
+            if (profileName != null) {
+                return false;
+            }
+        }
+
+        if (changedDisplayToSlotMap.isEmpty()) {
+            return false;
+        }
+
+        // Several displays still share one reconfiguration, so only a lone refresh rate switch takes the fast path
+        if (changedDisplayToSlotMap.size() == 1) {
+            Entry<Integer, Integer> displayToSlot = changedDisplayToSlotMap.entrySet().iterator().next();
+            String displayId = model.getDisplayIds()[displayToSlot.getKey()];
+            Slot slot = model.getSlot(displayToSlot.getKey(), displayToSlot.getValue());
+            DisplayState displayState = displayConfig.getDisplayState(displayId);
+
+            if (displayState != null && displayState.differsOnlyInRefreshRate(slot)) {
+                applyRefreshRate(displayId, slot, profileName);
+
+                return false;
+            }
+        }
+
+        int numOfDisplays = changedDisplayToSlotMap.size();
+        String[] displayIds = new String[numOfDisplays];
+        int[] resWidths = new int[numOfDisplays];
+        int[] resHeights = new int[numOfDisplays];
+        int[] refreshNumerators = new int[numOfDisplays];
+        int[] refreshDenominators = new int[numOfDisplays];
+        int[] scalingModes = new int[numOfDisplays];
+        int[] dpiScalePercentages = new int[numOfDisplays];
+        int[] orientationModes = new int[numOfDisplays];
+        int i = 0;
+
+        for (Entry<Integer, Integer> displayToSlot : changedDisplayToSlotMap.entrySet()) {
+            Slot slot = model.getSlot(displayToSlot.getKey(), displayToSlot.getValue());
+
+            displayIds[i] = model.getDisplayIds()[displayToSlot.getKey()];
+            resWidths[i] = slot.getDisplayMode().getWidth();
+            resHeights[i] = slot.getDisplayMode().getHeight();
+            refreshNumerators[i] = slot.getDisplayMode().getRefreshNumerator();
+            refreshDenominators[i] = slot.getDisplayMode().getRefreshDenominator();
+            scalingModes[i] = slot.getScalingMode();
+            dpiScalePercentages[i] = slot.getDpiScalePercentage();
+            orientationModes[i] = slot.getOrientationMode();
+            i++;
+        }
+
+        ApplyResult result = numOfDisplays == 1
+                ? setDisplay.applySlot(displayIds[0], resWidths[0], resHeights[0], refreshNumerators[0],
+                        refreshDenominators[0], scalingModes[0], dpiScalePercentages[0], orientationModes[0])
+                : setDisplay.applyMultiDisplaySettings(displayIds, resWidths, resHeights, refreshNumerators,
+                        refreshDenominators, scalingModes, dpiScalePercentages, orientationModes);
+
+        displayConfig.invalidateDisplayStates();
+
+        // A failed apply leaves nothing new to show, so report it instead of refreshing the app
+        if (result.isFailed()) {
+            new ApplyFailedNoticeDialog().showFailedNotice(result, profileName);
+        }
+
+        return result.isApplied();
+    }
+
+    /**
+     * Switches only the refresh rate of the given display to the given slot's, reporting a failed apply with a notice.
+     * The resolution, scaling, DPI, orientation, and arrangement are already those of the slot, so nothing the app
+     * shows changes and no app refresh is needed.
+     *
+     * @param displayId
+     *            - The ID of the display to apply the refresh rate for
+     * @param slot
+     *            - The slot holding the refresh rate to apply
+     * @param profileName
+     *            - The name of the profile the slot belongs to, named in any notice, or null for a slot applied alone
+     */
+    private void applyRefreshRate(String displayId, Slot slot, String profileName) {
+        ApplyResult result = setDisplay.applyRefreshRate(displayId, slot.getDisplayMode().getWidth(),
+                slot.getDisplayMode().getHeight(), slot.getDisplayMode().getRefreshNumerator(),
+                slot.getDisplayMode().getRefreshDenominator());
+
+        displayConfig.invalidateDisplayStates();
+
+        if (result.isFailed()) {
+            new ApplyFailedNoticeDialog().showFailedNotice(result, profileName);
+        }
+    }
+
+}
@@ -70,6 +70,8 @@ public class WindowController implements IController, WindowListener {
 
     @Override
     public void initListeners() {
+        // The frame lasts for the life of the application, so only attach the listener the first time
+        view.getFrame().removeWindowListener(this);
         view.getFrame().addWindowListener(this);
     }
 
@@ -92,7 +94,7 @@ public class WindowController implements IController, WindowListener {
     @Override
     public void windowDeiconified(WindowEvent e) {
         // Re-fit after the frame is shown so staleness accrued while iconified does not surface as scroll bars
-        SwingUtilities.invokeLater(() -> FrameUtil.refreshFrame(view.getFrame()));
+        SwingUtilities.invokeLater(() -> FrameUtil.relayoutFrame(view.getFrame()));
     }
 
     @Override
@@ -19,14 +19,11 @@
  */
 package com.dhk.controller.button;
 
-import java.util.Arrays;
-
 import javax.swing.Timer;
 
 import com.dhk.controller.DhkController;
 import com.dhk.controller.IController;
-import com.dhk.io.DisplayConfig;
-import com.dhk.io.SetDisplay;
+import com.dhk.controller.SlotApplier;
 import com.dhk.io.SettingsManager;
 import com.dhk.main.AppRefresher;
 import com.dhk.model.DhkModel;
@@ -46,8 +43,7 @@ public class ApplySlotButtonController extends AbstractButtonController implemen
     private DhkModel model;
     private DhkController controller;
     private SettingsManager settingsMgr;
-    private DisplayConfig displayConfig;
-    private SetDisplay setDisplay;
+    private SlotApplier slotApplier;
     private AppRefresher appRefresher;
     private Timer reInitTimer;
 
@@ -73,26 +69,21 @@ public class ApplySlotButtonController extends AbstractButtonController implemen
 
     @Override
     public void initController() {
-        setDisplay = new SetDisplay();
-        displayConfig = settingsMgr.getDisplayConfig();
+        slotApplier = new SlotApplier(model, settingsMgr.getDisplayConfig());
         appRefresher = new AppRefresher(model, view, controller, settingsMgr);
     }
 
     @Override
     public void initListeners() {
-        for (int i = 0; i < model.getNumOfConnectedDisplays(); i++) {
-            int displayIndex = i;
-
-            for (int j = 0; j < model.getMaxNumOfSlots(); j++) {
-                int slotIndex = j;
+    }
 
-                view.getSlot(displayIndex, slotIndex).getApplySlotButton()
-                        .addActionListener(e -> applySlotButtonAction(displayIndex, slotIndex));
+    @Override
+    public void initSlotListeners(int displayIndex, int slotIndex) {
+        view.getSlot(displayIndex, slotIndex).getApplySlotButton()
+                .addActionListener(e -> applySlotButtonAction(displayIndex, slotIndex));
 
-                initStateChangeListeners(view.getSlot(displayIndex, slotIndex).getApplySlotButton(),
-                        view.getDefaultFocusComponent());
-            }
-        }
+        initStateChangeListeners(view.getSlot(displayIndex, slotIndex).getApplySlotButton(),
+                view.getDefaultFocusComponent());
     }
 
     @Override
@@ -105,7 +96,7 @@ public class ApplySlotButtonController extends AbstractButtonController implemen
     }
 
     /**
-     * Immediately applies the associated slot display settings.
+     * Immediately applies the associated slot display settings, unless they are already active on the display.
      *
      * @param displayIndex
      *            - The index of the display to set the display settings for
@@ -113,43 +104,28 @@ public class ApplySlotButtonController extends AbstractButtonController implemen
      *            - The index of the slot to set the display settings for
      */
     private void applySlotButtonAction(int displayIndex, int slotIndex) {
-        displayConfig.updateConnectedDisplays();
-
-        String displayId = model.getDisplayIds()[displayIndex];
-
-        // If the connected displays have not changed
-        if (Arrays.equals(model.getDisplayIds(), displayConfig.getDisplayIds())) {
-            // Capture the frame placement before the display reconfiguration relocates the window
-            FramePlacement placement = FrameUtil.capturePlacement(view.getFrame());
-
-            // Capture the display arrangement before the display reconfiguration rearranges the display
-            String[] arrangementSnapshot = displayConfig.captureArrangement();
-
-            setDisplay.applyDisplayOrientation(displayId, model.getSlot(displayIndex, slotIndex).getOrientationMode());
-            setDisplay.applyDisplaySettings(displayId,
-                    model.getSlot(displayIndex, slotIndex).getDisplayMode().getWidth(),
-                    model.getSlot(displayIndex, slotIndex).getDisplayMode().getHeight(),
-                    model.getSlot(displayIndex, slotIndex).getDisplayMode().getRefreshNumerator(),
-                    model.getSlot(displayIndex, slotIndex).getDisplayMode().getRefreshDenominator(),
-                    model.getSlot(displayIndex, slotIndex).getScalingMode(),
-                    model.getSlot(displayIndex, slotIndex).getDpiScalePercentage());
-            setDisplay.preserveArrangement(arrangementSnapshot);
-
-            /*
-             * Re-initialize the app to prevent window corruption, but defer briefly so the display reconfiguration
-             * settles first; otherwise the rebuilt frame is placed against stale display bounds. Rapid successive
-             * applies coalesce into one refresh that reproduces the placement captured before the first apply
-             */
-            if (reInitTimer != null && reInitTimer.isRunning()) {
-                reInitTimer.restart();
-
-                return;
-            }
-
-            reInitTimer = new Timer(FrameUtil.REFRESH_DELAY_MS, e -> appRefresher.reInitApp(placement));
-            reInitTimer.setRepeats(false);
-            reInitTimer.start();
+        // Capture the frame placement before the display reconfiguration relocates the window
+        FramePlacement placement = FrameUtil.capturePlacement(view.getFrame());
+
+        // Nothing the app shows changed, so there is nothing to refresh
+        if (!slotApplier.applySlot(displayIndex, slotIndex)) {
+            return;
         }
+
+        /*
+         * Re-initialize the app to prevent window corruption, but defer briefly so the display reconfiguration settles
+         * first; otherwise the rebuilt frame is placed against stale display bounds. Rapid successive applies coalesce
+         * into one refresh that reproduces the placement captured before the first apply
+         */
+        if (reInitTimer != null && reInitTimer.isRunning()) {
+            reInitTimer.restart();
+
+            return;
+        }
+
+        reInitTimer = new Timer(FrameUtil.REFRESH_DELAY_MS, e -> appRefresher.reInitApp(placement));
+        reInitTimer.setRepeats(false);
+        reInitTimer.start();
     }
 
 }
@@ -143,7 +143,11 @@ public class ClearAllButtonController extends AbstractButtonController implement
             // Flag the slot as clearing so the orientation combo box change does not raise the confirmation dialog
             model.getSlot(displayIndex, slotIndex).setClearingSlot(true);
             model.getSlot(displayIndex, slotIndex).setOrientationMode(0);
-            view.getSlot(displayIndex, slotIndex).getOrientationModes().setSelectedIndex(0);
+
+            if (view.isSlotBuilt(displayIndex, slotIndex)) {
+                view.getSlot(displayIndex, slotIndex).getOrientationModes().setSelectedIndex(0);
+            }
+
             settingsMgr.saveIniSlotOrientationMode(displayId, slotId, 0);
             model.getSlot(displayIndex, slotIndex).setClearingSlot(false);
         }
@@ -162,8 +166,12 @@ public class ClearAllButtonController extends AbstractButtonController implement
             DisplayMode defaultDisplayMode = displayModes[0];
 
             model.getSlot(displayIndex, slotIndex).setDisplayMode(defaultDisplayMode);
-            view.getSlot(displayIndex, slotIndex).getResolutions().setSelectedIndex(0);
-            view.getSlot(displayIndex, slotIndex).getRefreshRates().setSelectedIndex(0);
+
+            if (view.isSlotBuilt(displayIndex, slotIndex)) {
+                view.getSlot(displayIndex, slotIndex).getResolutions().setSelectedIndex(0);
+                view.getSlot(displayIndex, slotIndex).getRefreshRates().setSelectedIndex(0);
+            }
+
             settingsMgr.saveIniSlotDisplayMode(displayId, slotId, defaultDisplayMode);
         }
     }
@@ -179,7 +187,11 @@ public class ClearAllButtonController extends AbstractButtonController implement
             int slotId = slotIndex + 1;
 
             model.getSlot(displayIndex, slotIndex).setScalingMode(0);
-            view.getSlot(displayIndex, slotIndex).getScalingModes().setSelectedIndex(0);
+
+            if (view.isSlotBuilt(displayIndex, slotIndex)) {
+                view.getSlot(displayIndex, slotIndex).getScalingModes().setSelectedIndex(0);
+            }
+
             settingsMgr.saveIniSlotScalingMode(displayId, slotId, 0);
         }
     }
@@ -195,7 +207,11 @@ public class ClearAllButtonController extends AbstractButtonController implement
             int slotId = slotIndex + 1;
 
             model.getSlot(displayIndex, slotIndex).setDpiScalePercentage(100);
-            view.getSlot(displayIndex, slotIndex).getDpiScalePercentages().setSelectedIndex(0);
+
+            if (view.isSlotBuilt(displayIndex, slotIndex)) {
+                view.getSlot(displayIndex, slotIndex).getDpiScalePercentages().setSelectedIndex(0);
+            }
+
             settingsMgr.saveIniSlotDpiScalePercentage(displayId, slotId, 100);
         }
     }
@@ -211,8 +227,12 @@ public class ClearAllButtonController extends AbstractButtonController implement
             int slotId = slotIndex + 1;
 
             model.getSlot(displayIndex, slotIndex).getHotKey().getKeys().clear();
-            view.getSlot(displayIndex, slotIndex).getHotKey().setText("Not Set");
-            view.getSlot(displayIndex, slotIndex).getClearHotKeyButton().setEnabled(false);
+
+            if (view.isSlotBuilt(displayIndex, slotIndex)) {
+                view.getSlot(displayIndex, slotIndex).getHotKey().setText("Not Set");
+                view.getSlot(displayIndex, slotIndex).getClearHotKeyButton().setEnabled(false);
+            }
+
             settingsMgr.saveIniSlotHotKey(displayId, slotId, model.getSlot(displayIndex, slotIndex).getHotKey());
         }
     }
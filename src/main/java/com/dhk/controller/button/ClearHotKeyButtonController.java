@@ -65,23 +65,19 @@ public class ClearHotKeyButtonController extends AbstractButtonController implem
 
     @Override
     public void initListeners() {
-        for (int i = 0; i < model.getNumOfConnectedDisplays(); i++) {
-            int displayIndex = i;
-
-            for (int j = 0; j < model.getMaxNumOfSlots(); j++) {
-                int slotIndex = j;
+    }
 
-                view.getSlot(displayIndex, slotIndex).getClearHotKeyButton()
-                        .addActionListener(e -> clearHotKeyButtonAction(displayIndex, slotIndex));
+    @Override
+    public void initSlotListeners(int displayIndex, int slotIndex) {
+        view.getSlot(displayIndex, slotIndex).getClearHotKeyButton()
+                .addActionListener(e -> clearHotKeyButtonAction(displayIndex, slotIndex));
 
-                initStateChangeListeners(view.getSlot(displayIndex, slotIndex).getClearHotKeyButton(),
-                        view.getDefaultFocusComponent());
+        initStateChangeListeners(view.getSlot(displayIndex, slotIndex).getClearHotKeyButton(),
+                view.getDefaultFocusComponent());
 
-                // Enable the clear hot key buttons for the hot keys that are set
-                if (model.getSlot(displayIndex, slotIndex).getHotKey().getKeys().size() > 0) {
-                    view.getSlot(displayIndex, slotIndex).getClearHotKeyButton().setEnabled(true);
-                }
-            }
+        // Enable the clear hot key buttons for the hot keys that are set
+        if (model.getSlot(displayIndex, slotIndex).getHotKey().getKeys().size() > 0) {
+            view.getSlot(displayIndex, slotIndex).getClearHotKeyButton().setEnabled(true);
         }
     }
 
@@ -105,7 +101,7 @@ public class ClearHotKeyButtonController extends AbstractButtonController implem
         view.getSlot(displayIndex, slotIndex).getHotKey().setText("Not Set");
         view.getSlot(displayIndex, slotIndex).getClearHotKeyButton().setEnabled(false);
         settingsMgr.saveIniSlotHotKey(displayId, slotId, model.getSlot(displayIndex, slotIndex).getHotKey());
-        FrameUtil.refreshFrame(view.getFrame());
+        FrameUtil.relayoutFrame(view.getFrame());
 
         if (hotKeysController != null) {
             hotKeysController.rebuildActiveKeyCodes();
@@ -72,19 +72,15 @@ public class ClearSlotButtonController extends AbstractButtonController implemen
 
     @Override
     public void initListeners() {
-        for (int i = 0; i < model.getNumOfConnectedDisplays(); i++) {
-            int displayIndex = i;
-
-            for (int j = 0; j < model.getMaxNumOfSlots(); j++) {
-                int slotIndex = j;
+    }
 
-                view.getSlot(displayIndex, slotIndex).getClearSlotButton()
-                        .addActionListener(e -> clearSlotButtonAction(displayIndex, slotIndex));
+    @Override
+    public void initSlotListeners(int displayIndex, int slotIndex) {
+        view.getSlot(displayIndex, slotIndex).getClearSlotButton()
+                .addActionListener(e -> clearSlotButtonAction(displayIndex, slotIndex));
 
-                initStateChangeListeners(view.getSlot(displayIndex, slotIndex).getClearSlotButton(),
-                        view.getDefaultFocusComponent());
-            }
-        }
+        initStateChangeListeners(view.getSlot(displayIndex, slotIndex).getClearSlotButton(),
+                view.getDefaultFocusComponent());
     }
 
     @Override
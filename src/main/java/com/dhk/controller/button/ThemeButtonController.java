@@ -75,14 +75,15 @@ public class ThemeButtonController extends AbstractButtonController implements I
     }
 
     /**
-     * Toggles the "dark mode" state and update the UI, and then save the new settings.
+     * Toggles the "dark mode" state and update the UI, and then save the new settings. The frame is the only window
+     * that can be showing while the button is pressed, so only its component tree is updated for the new theme.
      */
     private void themeButtonAction() {
         model.toggleDarkMode();
         themeUpdater.useDarkMode(model.isDarkMode());
         buttonThemesUpdater.updateButtonThemes();
         settingsMgr.saveIniDarkMode(model.isDarkMode());
-        FrameUtil.refreshFrame(view.getFrame());
+        FrameUtil.refreshFrameUI(view.getFrame());
     }
 
 }
@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright © 2026 Jonathan R. Miller
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and
+ * to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+package com.dhk.io;
+
+/**
+ * The outcome of applying display settings as a status code. This type only depends on the JDK, so it compiles
+ * together with SetDisplay when the JNI header is generated.
+ *
+ * @author Jonathan R. Miller
+ */
+public class ApplyResult {
+
+    /**
+     * Status code when the display settings were applied.
+     */
+    public static final int APPLIED = 0;
+
+    /**
+     * Status code when every display was already in the requested settings, so nothing was applied.
+     */
+    public static final int UNCHANGED = 1;
+
+    /**
+     * Status code when Windows rejected the display settings.
+     */
+    public static final int FAILED = 2;
+
+    /**
+     * Status code when a requested display is not part of the active display configuration.
+     */
+    public static final int DISPLAY_NOT_FOUND = 3;
+
+    /**
+     * Status code when the request itself was malformed, such as misaligned settings arrays.
+     */
+    public static final int INVALID_REQUEST = 4;
+
+    /**
+     * Status code when the request was refused before reaching native code, because a display does not support the
+     * requested display mode, scaling mode, or orientation mode.
+     */
+    public static final int UNSUPPORTED_MODE = 5;
+
+    private final int status;
+
+    /**
+     * Constructor for the {@link ApplyResult} class.
+     *
+     * @param status
+     *            - The status code of the apply
+     */
+    public ApplyResult(int status) {
+        this.status = status;
+    }
+
+    /**
+     * Creates a result for a request refused before reaching native code.
+     *
+     * @param status
+     *            - The status code explaining why the request was refused
+     *
+     * @return The result of the refused request
+     */
+    public static ApplyResult refused(int status) {
+        return new ApplyResult(status);
+    }
+
+    /**
+     * Gets the status code of the apply.
+     *
+     * @return The status code of the apply
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Checks whether the display settings were applied, meaning a display reconfiguration took place.
+     *
+     * @return Whether the display settings were applied
+     */
+    public boolean isApplied() {
+        return status == APPLIED;
+    }
+
+    /**
+     * Checks whether the apply failed, as opposed to being applied or having nothing to change.
+     *
+     * @return Whether the apply failed
+     */
+    public boolean isFailed() {
+        return status != APPLIED && status != UNCHANGED;
+    }
+
+}
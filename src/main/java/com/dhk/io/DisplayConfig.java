@@ -22,15 +22,19 @@ package com.dhk.io;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.dhk.model.DisplayMode;
+import com.dhk.model.DisplayState;
+import com.dhk.model.Slot;
 import com.dhk.utility.DisplayModeInverter;
 
 /**
  * Gets the current information for the connected displays, including display IDs, supported display modes, and
  * orientation-aware landscape/portrait mode mappings. Uses visible display IDs to reflect the current desktop
- * configuration.
+ * configuration. The settings active on each display are cached per topology generation, which advances whenever the
+ * display configuration is re-enumerated, the connected displays change, or display settings are applied.
  *
  * @author Jonathan R. Miller
  */
@@ -41,8 +45,11 @@ public class DisplayConfig {
     private GetDisplay getDisplay;
     private Map<String, DisplayMode[]> landscapeDisplayModesMap;
     private Map<String, DisplayMode[]> portraitDisplayModesMap;
-    private Map<Long, Integer[]> supportedDpiScalePercentages;
+    private Map<Long, List<Integer>> supportedDpiScalePercentages;
     private int numOfConnectedDisplays;
+    private Map<String, DisplayState> displayStates;
+    private long topologyGeneration;
+    private long displayStatesGeneration;
 
     /**
      * Number of int fields per mode in a getDisplayModeRecords result: width, height, refresh numerator, and refresh
@@ -50,6 +57,12 @@ public class DisplayConfig {
      */
     private static final int FIELDS_PER_MODE = 4;
 
+    /**
+     * Number of int fields per display in a getDisplayStateRecords result: width, height, refresh numerator, refresh
+     * denominator, scaling mode, DPI scale percentage, and orientation mode.
+     */
+    private static final int FIELDS_PER_STATE = 7;
+
     /**
      * Number of times to re-enumerate a connected display's modes while the result is empty before giving up.
      */
@@ -74,18 +87,55 @@ public class DisplayConfig {
         getDisplay = new GetDisplay();
         landscapeDisplayModesMap = new HashMap<String, DisplayMode[]>();
         portraitDisplayModesMap = new HashMap<String, DisplayMode[]>();
-        supportedDpiScalePercentages = new HashMap<Long, Integer[]>();
+        supportedDpiScalePercentages = new HashMap<Long, List<Integer>>();
+        displayStates = new HashMap<String, DisplayState>();
+        displayStatesGeneration = -1;
     }
 
     /**
      * Updates the current display configuration, including connected displays and their supported display modes.
      */
     public void updateDisplayConfig() {
+        invalidateDisplayStates();
         updateConnectedDisplays();
         updateDisplayNumbers();
         updateDisplayModes();
     }
 
+    /**
+     * Updates the current display configuration like updateDisplayConfig, but keeps the enumerated display modes while
+     * the same displays are connected. A display's supported modes do not change with the mode, scaling, DPI scale, or
+     * orientation applied to it, and enumerating them is by far the slowest part of a display query, so only a
+     * different set of displays, or a display whose enumeration came back empty, is enumerated again. The connected
+     * displays are not queried again, so the caller must have just updated them with updateConnectedDisplays.
+     */
+    public void refreshDisplayConfig() {
+        invalidateDisplayStates();
+        updateDisplayNumbers();
+
+        // The cached modes cover exactly the connected displays only if the same displays were enumerated last time
+        if (landscapeDisplayModesMap.size() != numOfConnectedDisplays || !hasDisplayModesForAllDisplays()) {
+            updateDisplayModes();
+        }
+    }
+
+    /**
+     * Checks if a non-empty list of display modes is cached for every connected display.
+     *
+     * @return True if every connected display has enumerated display modes, false otherwise
+     */
+    private boolean hasDisplayModesForAllDisplays() {
+        for (String displayId : displayIds) {
+            DisplayMode[] displayModes = landscapeDisplayModesMap.get(displayId);
+
+            if (displayModes == null || displayModes.length == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     /**
      * Updates the current array of unique visible display IDs and stores the number of connected (visible) displays.
      */
@@ -108,6 +158,11 @@ public class DisplayConfig {
             }
         }
 
+        // A different set of connected displays invalidates the cached display states
+        if (!Arrays.equals(displayIds, filteredDisplayIds)) {
+            invalidateDisplayStates();
+        }
+
         displayIds = filteredDisplayIds;
         numOfConnectedDisplays = filteredDisplayIds.length;
     }
@@ -187,7 +242,7 @@ public class DisplayConfig {
 
         for (int i = 0; i < modeCount; i++) {
             int offset = i * FIELDS_PER_MODE;
-            displayModes[i] = new DisplayMode(modeRecords[offset], modeRecords[offset + 1], modeRecords[offset + 2],
+            displayModes[i] = DisplayMode.of(modeRecords[offset], modeRecords[offset + 1], modeRecords[offset + 2],
                     modeRecords[offset + 3]);
         }
 
@@ -237,6 +292,41 @@ public class DisplayConfig {
         return portraitDisplayModesMap.get(displayId);
     }
 
+    /**
+     * Checks whether the given display supports the given slot, using the display modes already enumerated for it. The
+     * slot's display mode must be one of the display's supported modes for the slot's orientation, its DPI scale
+     * percentage must be one Windows offers for the slot's resolution, and its scaling and orientation modes must be
+     * known values, so an unsupported request is refused without reaching native code.
+     *
+     * @param displayId
+     *            - The ID of the display to check the slot against
+     * @param slot
+     *            - The slot to check
+     *
+     * @return Whether the display supports the slot's display mode, DPI scale percentage, scaling mode, and
+     *         orientation mode
+     */
+    public boolean isSlotSupported(String displayId, Slot slot) {
+        int orientationMode = slot.getOrientationMode();
+        int scalingMode = slot.getScalingMode();
+
+        if (orientationMode < 0 || orientationMode > 3 || scalingMode < 0 || scalingMode > 2) {
+            return false;
+        }
+
+        boolean landscapeOrientation = orientationMode == 0 || orientationMode == 2;
+        DisplayMode[] displayModes = landscapeOrientation ? landscapeDisplayModesMap.get(displayId)
+                : portraitDisplayModesMap.get(displayId);
+
+        if (displayModes == null || !Arrays.asList(displayModes).contains(slot.getDisplayMode())) {
+            return false;
+        }
+
+        // The DPI scale percentage is only applied after the mode change is committed, so check it up front as well
+        return getSupportedDpiScalePercentageList(slot.getDisplayMode().getWidth(), slot.getDisplayMode().getHeight())
+                .contains(slot.getDpiScalePercentage());
+    }
+
     /**
      * Gets the number of connected (visible) displays.
      *
@@ -258,28 +348,87 @@ public class DisplayConfig {
      * @return The array of supported DPI scale percentages for the given resolution
      */
     public Integer[] getSupportedDpiScalePercentages(int width, int height) {
+        return getSupportedDpiScalePercentageList(width, height).toArray(new Integer[0]);
+    }
+
+    /**
+     * Gets the shared, immutable list of supported DPI scale percentages for the given resolution. Every slot offering
+     * the same resolution reads from the same list, so the list must not be modified.
+     *
+     * @param width
+     *            - The horizontal resolution to get the supported DPI scale percentages for
+     * @param height
+     *            - The vertical resolution to get the supported DPI scale percentages for
+     *
+     * @return The immutable list of supported DPI scale percentages for the given resolution
+     */
+    public List<Integer> getSupportedDpiScalePercentageList(int width, int height) {
         // The supported set is a pure function of the resolution, so cache it to avoid repeated native queries
         long cacheKey = ((long) width << 32) | (height & 0xffffffffL);
-        Integer[] cachedPercentages = supportedDpiScalePercentages.get(cacheKey);
+        List<Integer> cachedPercentages = supportedDpiScalePercentages.get(cacheKey);
 
         if (cachedPercentages != null) {
-            return cachedPercentages.clone();
+            return cachedPercentages;
         }
 
-        Integer[] supportedPercentages = getDisplay.getDpiScalePercentages(width, height);
+        List<Integer> supportedPercentages = List.of(getDisplay.getDpiScalePercentages(width, height));
         supportedDpiScalePercentages.put(cacheKey, supportedPercentages);
 
-        return supportedPercentages.clone();
+        return supportedPercentages;
     }
 
     /**
-     * Captures the current multi-display arrangement so a following batch of applied display settings can be reflowed
-     * against it. The result is opaque and is passed back to SetDisplay to preserve the arrangement.
+     * Gets the settings currently active on the given connected display. The states of all connected displays are
+     * queried together on the first call of a topology generation, so later calls in the same generation are a cache
+     * lookup.
+     *
+     * @param displayId
+     *            - The ID of the connected display to get the active settings of
      *
-     * @return The captured arrangement, one encoded rectangle per active display
+     * @return The settings active on the given display, or null if the display is not connected
+     */
+    public DisplayState getDisplayState(String displayId) {
+        if (displayStatesGeneration != topologyGeneration) {
+            updateDisplayStates();
+        }
+
+        return displayStates.get(displayId);
+    }
+
+    /**
+     * Invalidates the cached display states by advancing the topology generation. This must be called before and after
+     * applying display settings, so the next lookup reflects changes made outside the app and the newly applied
+     * settings, respectively.
+     */
+    public void invalidateDisplayStates() {
+        topologyGeneration++;
+    }
+
+    /**
+     * Queries the settings active on every connected display and caches them for the current topology generation.
      */
-    public String[] captureArrangement() {
-        return getDisplay.captureArrangement();
+    private void updateDisplayStates() {
+        String[] connectedDisplayIds = displayIds != null ? displayIds : new String[0];
+        int[] stateRecords = getDisplay.getDisplayStateRecords(connectedDisplayIds);
+
+        displayStates = new HashMap<String, DisplayState>(connectedDisplayIds.length);
+
+        for (int displayIndex = 0; displayIndex < connectedDisplayIds.length; displayIndex++) {
+            int offset = displayIndex * FIELDS_PER_STATE;
+
+            // Leave a display out if the native query failed or returned fewer records than requested
+            if (stateRecords == null || offset + FIELDS_PER_STATE > stateRecords.length) {
+                break;
+            }
+
+            DisplayMode displayMode = DisplayMode.of(stateRecords[offset], stateRecords[offset + 1],
+                    stateRecords[offset + 2], stateRecords[offset + 3]);
+
+            displayStates.put(connectedDisplayIds[displayIndex], new DisplayState(displayMode,
+                    stateRecords[offset + 4], stateRecords[offset + 5], stateRecords[offset + 6]));
+        }
+
+        displayStatesGeneration = topologyGeneration;
     }
 
 }
@@ -21,7 +21,7 @@ package com.dhk.io;
 
 /**
  * Utilizes the GetDisplay JNI library to retrieve current display settings, including supported display modes,
- * connected display IDs, visible display IDs, and display orientations.
+ * connected display IDs, visible display IDs, display orientations, and the settings active on each display.
  *
  * @author Jonathan R. Miller
  */
@@ -90,11 +90,15 @@ public class GetDisplay {
     private native int[] getSupportedDpiScalePercentages(int width, int height);
 
     /**
-     * Defines a JNI function to capture the current multi-display arrangement as encoded strings.
+     * Defines a JNI function to get the settings currently active on each given display from a single query.
      *
-     * @return The captured arrangement, one encoded rectangle per active display
+     * @param displayIds
+     *            - The IDs of the displays to get the active settings of
+     *
+     * @return A flat int array of {width, height, refreshNumerator, refreshDenominator, scalingMode,
+     *         dpiScalePercentage, orientationMode} per display, index-for-index with displayIds
      */
-    private native String[] captureDisplayArrangement();
+    private native int[] queryDisplayStates(String[] displayIds);
 
     /**
      * Gets the supported display modes for the given display as a flat int array of {width, height, refreshNumerator,
@@ -163,13 +167,17 @@ public class GetDisplay {
     }
 
     /**
-     * Captures the current multi-display arrangement so a following batch of applied display settings can be reflowed
-     * against it. The result is opaque and is passed back to SetDisplay to preserve the arrangement.
+     * Gets the settings currently active on each given display as a flat int array of {width, height,
+     * refreshNumerator, refreshDenominator, scalingMode, dpiScalePercentage, orientationMode} records. A display that
+     * is not active, or a setting with no app equivalent, is reported as -1.
+     *
+     * @param displayIds
+     *            - The IDs of the displays to get the active settings of
      *
-     * @return The captured arrangement, one encoded rectangle per active display
+     * @return A flat int array of active settings per display, index-for-index with displayIds
      */
-    public String[] captureArrangement() {
-        return captureDisplayArrangement();
+    public int[] getDisplayStateRecords(String[] displayIds) {
+        return queryDisplayStates(displayIds);
     }
 
 }
@@ -21,12 +21,20 @@ package com.dhk.io;
 
 /**
  * Utilizes the SetDisplay JNI library to immediately apply the given display mode, scaling mode, DPI scale percentage,
- * and orientation mode for the given display.
+ * and orientation mode for the given display. The combined apply methods report their outcome as an
+ * {@link ApplyResult}, which is the only other type this class may depend on so the JNI header can still be generated
+ * from the two sources alone.
  *
  * @author Jonathan R. Miller
  */
 public class SetDisplay {
 
+    /**
+     * Number of int fields per display in a setDisplays settings array: width, height, refresh numerator, refresh
+     * denominator, scaling mode, DPI scale percentage, and orientation mode.
+     */
+    private static final int FIELDS_PER_DISPLAY = 7;
+
     /**
      * Default constructor for the {@link SetDisplay} class.
      */
@@ -42,10 +50,47 @@ public class SetDisplay {
     }
 
     /**
-     * Defines a JNI function to immediately apply the given settings for the given display.
+     * Defines a JNI function to apply the given settings for several displays in a single display reconfiguration.
+     *
+     * @param displayIds
+     *            - The IDs of the displays to apply the display settings for
+     * @param displaySettings
+     *            - The settings of each display, FIELDS_PER_DISPLAY ints per display in displayIds order: width,
+     *            height, refresh numerator, refresh denominator, scaling mode, DPI scale percentage, and orientation
+     *            mode
+     *
+     * @return The apply status
+     */
+    private native int setDisplays(String[] displayIds, int[] displaySettings);
+
+    /**
+     * Defines a JNI function to switch only the refresh rate of the given display, keeping its resolution, scaling,
+     * orientation, and position.
      *
      * @param displayId
-     *            - The ID of the display to apply the display settings for
+     *            - The ID of the display to apply the refresh rate for
+     * @param resWidth
+     *            - The active horizontal resolution of the given display
+     * @param resHeight
+     *            - The active vertical resolution of the given display
+     * @param refreshNumerator
+     *            - The numerator of the new exact refresh rate (Hz = numerator / denominator)
+     * @param refreshDenominator
+     *            - The denominator of the new exact refresh rate (Hz = numerator / denominator)
+     *
+     * @return The apply status
+     */
+    private native int setRefreshRate(String displayId, int resWidth, int resHeight, int refreshNumerator,
+            int refreshDenominator);
+
+    /**
+     * Applies all of a slot's settings for the given display at once. The orientation mode, display mode, and scaling
+     * mode are submitted together with the reflowed multi-display arrangement in a single display reconfiguration, then
+     * the DPI scale percentage is applied immediately afterwards, so no separate orientation change or arrangement
+     * reflow is needed.
+     *
+     * @param displayId
+     *            - The ID of the display to apply the slot for
      * @param resWidth
      *            - The new horizontal resolution for the given display
      * @param resHeight
@@ -58,75 +103,98 @@ public class SetDisplay {
      *            - The new scaling mode for the given display
      * @param dpiScalePercentage
      *            - The new DPI scale percentage for the given display
-     */
-    private native void setDisplay(String displayId, int resWidth, int resHeight, int refreshNumerator,
-            int refreshDenominator, int scalingMode, int dpiScalePercentage);
-
-    /**
-     * Defines a JNI function to immediately apply the given orientation mode for the given display.
-     *
-     * @param displayId
-     *            - The ID of the display to apply the orientation mode for
      * @param orientationMode
      *            - The new orientation mode for the given display. 0 for Landscape, 1 for Portrait, 2 for Inverted
      *            Landscape, and 3 for Inverted Portrait
+     *
+     * @return The result of the apply
      */
-    private native void setOrientation(String displayId, int orientationMode);
+    public ApplyResult applySlot(String displayId, int resWidth, int resHeight, int refreshNumerator,
+            int refreshDenominator, int scalingMode, int dpiScalePercentage, int orientationMode) {
+        return submitDisplays(new String[] {displayId}, new int[] {resWidth, resHeight, refreshNumerator,
+                refreshDenominator, scalingMode, dpiScalePercentage, orientationMode});
+    }
 
     /**
-     * Defines a JNI function to reflow the multi-display arrangement after a batch of display changes.
+     * Applies the given settings for several displays at once. The orientation mode, display mode, and scaling mode of
+     * every display are submitted together with the reflowed multi-display arrangement in a single display
+     * reconfiguration, then each display's DPI scale percentage is applied. All arrays are aligned index-for-index with
+     * the display IDs.
+     *
+     * @param displayIds
+     *            - The IDs of the displays to apply the display settings for
+     * @param resWidths
+     *            - The new horizontal resolution for each display
+     * @param resHeights
+     *            - The new vertical resolution for each display
+     * @param refreshNumerators
+     *            - The numerator of the new exact refresh rate for each display (Hz = numerator / denominator)
+     * @param refreshDenominators
+     *            - The denominator of the new exact refresh rate for each display (Hz = numerator / denominator)
+     * @param scalingModes
+     *            - The new scaling mode for each display
+     * @param dpiScalePercentages
+     *            - The new DPI scale percentage for each display
+     * @param orientationModes
+     *            - The new orientation mode for each display. 0 for Landscape, 1 for Portrait, 2 for Inverted
+     *            Landscape, and 3 for Inverted Portrait
      *
-     * @param arrangementSnapshot
-     *            - The arrangement captured before the batch, one encoded rectangle per display
+     * @return The result of the apply
      */
-    private native void preserveDisplayArrangement(String[] arrangementSnapshot);
+    public ApplyResult applyMultiDisplaySettings(String[] displayIds, int[] resWidths, int[] resHeights,
+            int[] refreshNumerators, int[] refreshDenominators, int[] scalingModes, int[] dpiScalePercentages,
+            int[] orientationModes) {
+        int[] displaySettings = new int[displayIds.length * FIELDS_PER_DISPLAY];
+
+        for (int displayIndex = 0; displayIndex < displayIds.length; displayIndex++) {
+            int offset = displayIndex * FIELDS_PER_DISPLAY;
+
+            displaySettings[offset] = resWidths[displayIndex];
+            displaySettings[offset + 1] = resHeights[displayIndex];
+            displaySettings[offset + 2] = refreshNumerators[displayIndex];
+            displaySettings[offset + 3] = refreshDenominators[displayIndex];
+            displaySettings[offset + 4] = scalingModes[displayIndex];
+            displaySettings[offset + 5] = dpiScalePercentages[displayIndex];
+            displaySettings[offset + 6] = orientationModes[displayIndex];
+        }
+
+        return submitDisplays(displayIds, displaySettings);
+    }
 
     /**
-     * Immediately applies the given settings for the given display.
+     * Switches only the refresh rate of the given display in a single mode change. The resolution must be the one
+     * already active, so the desktop geometry is untouched and no orientation change or arrangement reflow is needed.
      *
      * @param displayId
-     *            - The ID of the display to apply the display settings for
+     *            - The ID of the display to apply the refresh rate for
      * @param resWidth
-     *            - The new horizontal resolution for the given display
+     *            - The active horizontal resolution of the given display
      * @param resHeight
-     *            - The new vertical resolution for the given display
+     *            - The active vertical resolution of the given display
      * @param refreshNumerator
      *            - The numerator of the new exact refresh rate (Hz = numerator / denominator)
      * @param refreshDenominator
      *            - The denominator of the new exact refresh rate (Hz = numerator / denominator)
-     * @param scalingMode
-     *            - The new scaling mode for the given display
-     * @param dpiScalePercentage
-     *            - The new DPI scale percentage for the given display
-     */
-    public void applyDisplaySettings(String displayId, int resWidth, int resHeight, int refreshNumerator,
-            int refreshDenominator, int scalingMode, int dpiScalePercentage) {
-        setDisplay(displayId, resWidth, resHeight, refreshNumerator, refreshDenominator, scalingMode,
-                dpiScalePercentage);
-    }
-
-    /**
-     * Immediately applies the given orientation mode for the given display.
      *
-     * @param displayId
-     *            - The ID of the display to apply the orientation mode for
-     * @param orientationMode
-     *            - The new orientation mode for the given display. 0 for Landscape, 1 for Portrait, 2 for Inverted
-     *            Landscape, and 3 for Inverted Portrait
+     * @return The result of the apply
      */
-    public void applyDisplayOrientation(String displayId, int orientationMode) {
-        setOrientation(displayId, orientationMode);
+    public ApplyResult applyRefreshRate(String displayId, int resWidth, int resHeight, int refreshNumerator,
+            int refreshDenominator) {
+        return new ApplyResult(setRefreshRate(displayId, resWidth, resHeight, refreshNumerator, refreshDenominator));
     }
 
     /**
-     * Reflows the multi-display arrangement against the given snapshot (from GetDisplay's captureArrangement), so every
-     * display keeps its relative position and alignment after one or more displays were resized.
+     * Submits the given settings records to native code and wraps the returned status in an {@link ApplyResult}.
+     *
+     * @param displayIds
+     *            - The IDs of the displays to apply the display settings for
+     * @param displaySettings
+     *            - The settings of each display, FIELDS_PER_DISPLAY ints per display in displayIds order
      *
-     * @param arrangementSnapshot
-     *            - The arrangement captured before applying the batch, one encoded rectangle per display
+     * @return The result of the apply
      */
-    public void preserveArrangement(String[] arrangementSnapshot) {
-        preserveDisplayArrangement(arrangementSnapshot);
+    private ApplyResult submitDisplays(String[] displayIds, int[] displaySettings) {
+        return new ApplyResult(setDisplays(displayIds, displaySettings));
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,315 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright © 2026 Jonathan R. Miller
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and
+ * to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+package com.dhk.io;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.ini4j.Profile.Section;
+import org.ini4j.Wini;
+
+/**
+ * Compacts the settings file by removing the sections and properties of displays that have not been connected within
+ * the display retention window, or that fall beyond the max number of retained displays when ranked by when they were
+ * last seen. Connected displays are never compacted. This keeps the settings file, and the time to parse and store it,
+ * bounded for users who connect to many different displays over time.
+ *
+ * @author Jonathan R. Miller
+ */
+public class SettingsCompactor {
+
+    private SettingsManager settingsMgr;
+    private Wini ini;
+    private Set<String> connectedDisplayIds;
+    private boolean lastSeenDaysStamped;
+
+    /**
+     * Guards against stacking compactions when the settings manager is re-initialized back to back.
+     */
+    private static final AtomicBoolean compactionInProgress = new AtomicBoolean();
+
+    private static volatile int lastRemovedEntries;
+    private static volatile int lastRemovedDisplays;
+    private static volatile long lastSettingsFileSize = -1;
+
+    /**
+     * The suffix that separates a display ID from the slot number in the name of a slot section.
+     */
+    private static final String SLOT_SECTION_SEPARATOR = "--Slot";
+
+    /**
+     * Constructor for the {@link SettingsCompactor} class.
+     *
+     * @param settingsMgr
+     *            - The manager for the settings file
+     */
+    public SettingsCompactor(SettingsManager settingsMgr) {
+        this.settingsMgr = settingsMgr;
+        ini = settingsMgr.getIni();
+        connectedDisplayIds = new HashSet<String>(Arrays.asList(settingsMgr.getDisplayIds()));
+    }
+
+    /**
+     * Compacts the settings file on a background thread. Does nothing if a compaction is already running.
+     */
+    public void compactInBackground() {
+        if (ini == null || !compactionInProgress.compareAndSet(false, true)) {
+            return;
+        }
+
+        Thread compactionThread = new Thread(() -> {
+            try {
+                compact();
+            } catch (Exception e) {
+                e.printStackTrace();
+            } finally {
+                compactionInProgress.set(false);
+            }
+        }, "DisplayHotKeys-SettingsCompaction");
+
+        compactionThread.setDaemon(true);
+        compactionThread.start();
+    }
+
+    /**
+     * Removes the sections and properties of every stale display from the settings file object, then stores the
+     * settings file once if anything was removed or a first last seen day was recorded. Holds the settings manager's
+     * lock so no property is read or saved while sections are being removed.
+     */
+    private void compact() {
+        synchronized (settingsMgr) {
+            // The settings manager was re-initialized since this compaction was scheduled, so leave it to the next one
+            if (settingsMgr.getIni() != ini) {
+                return;
+            }
+
+            Set<String> staleDisplayIds = findStaleDisplayIds();
+            int removedEntryCount = 0;
+
+            for (String displayId : staleDisplayIds) {
+                removedEntryCount += removeDisplay(displayId);
+            }
+
+            // A first last seen day must be stored too, or the retention window restarts on every launch
+            if (removedEntryCount > 0 || lastSeenDaysStamped) {
+                settingsMgr.updateSettingsFile();
+            }
+
+            File settingsFile = settingsMgr.getSettingsFile();
+
+            lastRemovedDisplays = staleDisplayIds.size();
+            lastRemovedEntries = removedEntryCount;
+            lastSettingsFileSize = settingsFile != null ? settingsFile.length() : -1;
+        }
+    }
+
+    /**
+     * Finds the disconnected displays whose settings should be removed. A display is stale if it was last seen before
+     * the display retention window, or if it ranks beyond the max number of retained displays once the connected
+     * displays and the more recently seen disconnected displays are counted. A display with settings but no last seen
+     * day predates retention tracking, so it is recorded as seen today to give it the full retention window.
+     *
+     * @return The IDs of the stale displays
+     */
+    private Set<String> findStaleDisplayIds() {
+        long today = LocalDate.now().toEpochDay();
+        long oldestRetainedDay = today - settingsMgr.getIniDisplayRetentionDays();
+        int retainedSlotsLeft = settingsMgr.getIniMaxRetainedDisplays() - connectedDisplayIds.size();
+        Map<String, Long> lastSeenDays = new HashMap<String, Long>();
+        Set<String> staleDisplayIds = new HashSet<String>();
+
+        for (String displayId : findKnownDisplayIds()) {
+            if (connectedDisplayIds.contains(displayId)) {
+                continue;
+            }
+
+            long lastSeenDay = getLastSeenDay(displayId, today);
+
+            if (lastSeenDay < oldestRetainedDay) {
+                staleDisplayIds.add(displayId);
+            } else {
+                lastSeenDays.put(displayId, lastSeenDay);
+            }
+        }
+
+        // Keep the most recently seen displays within the limit and evict the least recently seen rest
+        List<String> retainedDisplayIds = new ArrayList<String>(lastSeenDays.keySet());
+        retainedDisplayIds.sort(Comparator.comparing((String displayId) -> lastSeenDays.get(displayId)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        for (int rank = Math.max(0, retainedSlotsLeft); rank < retainedDisplayIds.size(); rank++) {
+            staleDisplayIds.add(retainedDisplayIds.get(rank));
+        }
+
+        return staleDisplayIds;
+    }
+
+    /**
+     * Finds the ID of every display that has a slot section, a number of slots property, or a last seen day in the
+     * settings file object.
+     *
+     * @return The IDs of every display with settings in the settings file
+     */
+    private Set<String> findKnownDisplayIds() {
+        Set<String> knownDisplayIds = new HashSet<String>();
+
+        for (String sectionName : ini.keySet()) {
+            int separatorIndex = sectionName.lastIndexOf(SLOT_SECTION_SEPARATOR);
+
+            if (separatorIndex > 0) {
+                knownDisplayIds.add(sectionName.substring(0, separatorIndex));
+            }
+        }
+
+        addPrefixedPropertyIds(ini.get("Application"), "numOfSlotsFor--", knownDisplayIds);
+        addPrefixedPropertyIds(ini.get("DisplayRetention"), "lastSeen--", knownDisplayIds);
+
+        return knownDisplayIds;
+    }
+
+    /**
+     * Adds the display ID that follows the given prefix in each matching property name of a section.
+     *
+     * @param section
+     *            - The section to scan (may be null)
+     * @param prefix
+     *            - The prefix that precedes the display ID in the property name
+     * @param displayIds
+     *            - The set to add the display IDs to
+     */
+    private void addPrefixedPropertyIds(Section section, String prefix, Set<String> displayIds) {
+        if (section == null) {
+            return;
+        }
+
+        for (String propertyName : section.keySet()) {
+            if (propertyName.startsWith(prefix) && propertyName.length() > prefix.length()) {
+                displayIds.add(propertyName.substring(prefix.length()));
+            }
+        }
+    }
+
+    /**
+     * Gets the day the given display was last seen, recording the given day for it if none is recorded or the recorded
+     * value is not a valid day.
+     *
+     * @param displayId
+     *            - The ID of the display to get the last seen day for
+     * @param today
+     *            - The current day, recorded for a display without a valid last seen day
+     *
+     * @return The day the display was last seen, as a count of days since the epoch
+     */
+    private long getLastSeenDay(String displayId, long today) {
+        String iniProperty = "lastSeen--" + displayId;
+        String lastSeen = ini.get("DisplayRetention", iniProperty);
+
+        try {
+            if (lastSeen != null) {
+                return Long.parseLong(lastSeen);
+            }
+        } catch (NumberFormatException e) {
+            // Fall through and restart the retention window for the malformed value
+        }
+
+        ini.put("DisplayRetention", iniProperty, Long.toString(today));
+        lastSeenDaysStamped = true;
+
+        return today;
+    }
+
+    /**
+     * Removes every slot section and property of the given display from the settings file object.
+     *
+     * @param displayId
+     *            - The ID of the display to remove
+     *
+     * @return The number of sections and properties removed
+     */
+    private int removeDisplay(String displayId) {
+        List<String> slotSectionNames = new ArrayList<String>();
+        String slotSectionPrefix = displayId + SLOT_SECTION_SEPARATOR;
+        int removedEntryCount = 0;
+
+        for (String sectionName : ini.keySet()) {
+            if (sectionName.startsWith(slotSectionPrefix)) {
+                slotSectionNames.add(sectionName);
+            }
+        }
+
+        for (String sectionName : slotSectionNames) {
+            ini.remove(sectionName);
+            removedEntryCount++;
+        }
+
+        if (ini.remove("Application", "numOfSlotsFor--" + displayId) != null) {
+            removedEntryCount++;
+        }
+
+        if (ini.remove("DisplayRetention", "lastSeen--" + displayId) != null) {
+            removedEntryCount++;
+        }
+
+        for (int profileId = 1; profileId <= settingsMgr.getMaxNumOfProfiles(); profileId++) {
+            if (ini.remove("Profile" + Integer.toString(profileId), "slotFor--" + displayId) != null) {
+                removedEntryCount++;
+            }
+        }
+
+        return removedEntryCount;
+    }
+
+    /**
+     * Gets the number of sections and properties removed by the last completed compaction.
+     *
+     * @return The number of removed entries
+     */
+    public static int getLastRemovedEntries() {
+        return lastRemovedEntries;
+    }
+
+    /**
+     * Gets the number of displays whose settings were removed by the last completed compaction.
+     *
+     * @return The number of removed displays
+     */
+    public static int getLastRemovedDisplays() {
+        return lastRemovedDisplays;
+    }
+
+    /**
+     * Gets the size of the settings file after the last completed compaction.
+     *
+     * @return The settings file size in bytes, or -1 if no compaction has completed
+     */
+    public static long getLastSettingsFileSize() {
+        return lastSettingsFileSize;
+    }
+
+}
@@ -24,6 +24,7 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
@@ -51,9 +52,14 @@ public class SettingsManager {
     private Map<String, DisplayMode[]> landscapeDisplayModesMap;
     private Map<String, DisplayMode[]> portraitDisplayModesMap;
     private File settingsFile;
+    private long settingsFileLastModified;
+    private long settingsFileLength;
 
-    // The max number of visible slots in the application frame
-    private static final int MAX_NUM_OF_SLOTS = 12;
+    // The max number of slots per display; the view only realizes the slot rows scrolled into view
+    private static final int MAX_NUM_OF_SLOTS = 50;
+
+    // The max number of multi-display profiles
+    private static final int MAX_NUM_OF_PROFILES = 4;
 
     /**
      * Constructor for the {@link SettingsManager} class.
@@ -63,11 +69,34 @@ public class SettingsManager {
     }
 
     /**
-     * Initializes the displays and settings file for the settings manager.
+     * Initializes the displays and settings file for the settings manager, then compacts the settings file in the
+     * background. This runs at start up and whenever the connected displays change, the only times a display can
+     * become stale.
      */
-    public void initSettingsManager() {
+    public synchronized void initSettingsManager() {
         initDisplays();
         initSettingsFile();
+
+        // Prune the sections of long-disconnected displays off the calling thread so start up and re-init never wait
+        new SettingsCompactor(this).compactInBackground();
+    }
+
+    /**
+     * Re-initializes the displays and settings file for the settings manager like initSettingsManager, but reuses the
+     * display modes already enumerated for the connected displays while they are unchanged. The same displays are
+     * still connected, so the settings file is not compacted again, and it is only parsed and validated again if it
+     * changed on disk since it was last loaded or stored; otherwise the settings file object in memory is kept. The
+     * caller must have just updated the connected displays on the display configuration.
+     */
+    public synchronized void refreshSettingsManager() {
+        displayConfig.refreshDisplayConfig();
+        initDisplayModesMaps();
+
+        if (ini == null || !isSettingsFileUnchanged()) {
+            initSettingsFile();
+        } else if (recordLastSeenDisplays()) {
+            updateSettingsFile();
+        }
     }
 
     /**
@@ -75,7 +104,7 @@ public class SettingsManager {
      *
      * @return The value for the dark mode property
      */
-    public boolean getIniDarkMode() {
+    public synchronized boolean getIniDarkMode() {
         return ini.get("Application", "darkMode", boolean.class);
     }
 
@@ -85,7 +114,7 @@ public class SettingsManager {
      * @param darkMode
      *            - The new value for the dark mode property
      */
-    public void saveIniDarkMode(boolean darkMode) {
+    public synchronized void saveIniDarkMode(boolean darkMode) {
         ini.put("Application", "darkMode", darkMode);
 
         updateSettingsFile();
@@ -120,7 +149,7 @@ public class SettingsManager {
      *
      * @return The value for the minimize to tray property
      */
-    public boolean getIniMinimizeToTray() {
+    public synchronized boolean getIniMinimizeToTray() {
         return ini.get("Application", "minimizeToTray", boolean.class);
     }
 
@@ -130,7 +159,7 @@ public class SettingsManager {
      * @param minimizeToTray
      *            - The new value for the minimize to tray property
      */
-    public void saveIniMinimizeToTray(boolean minimizeToTray) {
+    public synchronized void saveIniMinimizeToTray(boolean minimizeToTray) {
         ini.put("Application", "minimizeToTray", minimizeToTray);
 
         updateSettingsFile();
@@ -141,7 +170,7 @@ public class SettingsManager {
      *
      * @return The value for the run on startup property
      */
-    public boolean getIniRunOnStartup() {
+    public synchronized boolean getIniRunOnStartup() {
         return ini.get("Application", "runOnStartup", boolean.class);
     }
 
@@ -151,7 +180,7 @@ public class SettingsManager {
      * @param runOnStartup
      *            - The new value for the run on startup property
      */
-    public void saveIniRunOnStartup(boolean runOnStartup) {
+    public synchronized void saveIniRunOnStartup(boolean runOnStartup) {
         ini.put("Application", "runOnStartup", runOnStartup);
 
         updateSettingsFile();
@@ -165,7 +194,7 @@ public class SettingsManager {
      *
      * @return The value for the number of slots property
      */
-    public int getIniNumOfSlotsForDisplay(String displayId) {
+    public synchronized int getIniNumOfSlotsForDisplay(String displayId) {
         return ini.get("Application", "numOfSlotsFor--" + displayId, int.class);
     }
 
@@ -177,12 +206,32 @@ public class SettingsManager {
      * @param numOfSlots
      *            - The new value for the number of slots property
      */
-    public void saveIniNumOfSlotsForDisplay(String displayId, int numOfSlots) {
+    public synchronized void saveIniNumOfSlotsForDisplay(String displayId, int numOfSlots) {
         ini.put("Application", "numOfSlotsFor--" + displayId, numOfSlots);
 
         updateSettingsFile();
     }
 
+    /**
+     * Gets the number of days a disconnected display's settings are retained before they are compacted out of the
+     * settings file.
+     *
+     * @return The value for the display retention days property
+     */
+    public synchronized int getIniDisplayRetentionDays() {
+        return ini.get("Application", "displayRetentionDays", int.class);
+    }
+
+    /**
+     * Gets the max number of displays whose settings are retained in the settings file, counting the connected displays
+     * first and then the most recently seen disconnected displays.
+     *
+     * @return The value for the max retained displays property
+     */
+    public synchronized int getIniMaxRetainedDisplays() {
+        return ini.get("Application", "maxRetainedDisplays", int.class);
+    }
+
     /**
      * Gets the specified slot's display mode built from the display mode properties in the settings file object.
      *
@@ -193,14 +242,14 @@ public class SettingsManager {
      *
      * @return The display mode from the display property values for the specified slot ID
      */
-    public DisplayMode getIniSlotDisplayMode(String displayId, int slotId) {
+    public synchronized DisplayMode getIniSlotDisplayMode(String displayId, int slotId) {
         String iniSection = displayId + "--Slot" + Integer.toString(slotId);
 
         /*
          * The validator writes the exact refresh rate as a numerator/denominator pair before the model is built (a slot
          * missing it, such as a pre-fractional one, is reset to the default), so both are present here
          */
-        DisplayMode slotDisplayMode = new DisplayMode(ini.get(iniSection, "displayModeWidth", int.class),
+        DisplayMode slotDisplayMode = DisplayMode.of(ini.get(iniSection, "displayModeWidth", int.class),
                 ini.get(iniSection, "displayModeHeight", int.class),
                 ini.get(iniSection, "displayModeRefreshNumerator", int.class),
                 ini.get(iniSection, "displayModeRefreshDenominator", int.class));
@@ -219,7 +268,7 @@ public class SettingsManager {
      * @param displayMode
      *            - The new display mode for the specified slot
      */
-    public void saveIniSlotDisplayMode(String displayId, int slotId, DisplayMode displayMode) {
+    public synchronized void saveIniSlotDisplayMode(String displayId, int slotId, DisplayMode displayMode) {
         String iniSection = displayId + "--Slot" + Integer.toString(slotId);
 
         ini.put(iniSection, "displayModeWidth", displayMode.getWidth());
@@ -240,7 +289,7 @@ public class SettingsManager {
      *
      * @return The specified slot's scaling mode property value
      */
-    public int getIniSlotScalingMode(String displayId, int slotId) {
+    public synchronized int getIniSlotScalingMode(String displayId, int slotId) {
         String iniSection = displayId + "--Slot" + Integer.toString(slotId);
 
         return ini.get(iniSection, "scalingMode", int.class);
@@ -256,7 +305,7 @@ public class SettingsManager {
      * @param scalingMode
      *            - The specified slot's new value for the scaling mode property
      */
-    public void saveIniSlotScalingMode(String displayId, int slotId, int scalingMode) {
+    public synchronized void saveIniSlotScalingMode(String displayId, int slotId, int scalingMode) {
         String iniSection = displayId + "--Slot" + Integer.toString(slotId);
         ini.put(iniSection, "scalingMode", scalingMode);
 
@@ -273,7 +322,7 @@ public class SettingsManager {
      *
      * @return The specified slot's DPI scale percentage property value
      */
-    public int getIniSlotDpiScalePercentage(String displayId, int slotId) {
+    public synchronized int getIniSlotDpiScalePercentage(String displayId, int slotId) {
         String iniSection = displayId + "--Slot" + Integer.toString(slotId);
 
         return ini.get(iniSection, "dpiScalePercentage", int.class);
@@ -289,7 +338,7 @@ public class SettingsManager {
      * @param dpiScalePercentage
      *            - The specified slot's new value for the DPI scale percentage property
      */
-    public void saveIniSlotDpiScalePercentage(String displayId, int slotId, int dpiScalePercentage) {
+    public synchronized void saveIniSlotDpiScalePercentage(String displayId, int slotId, int dpiScalePercentage) {
         String iniSection = displayId + "--Slot" + Integer.toString(slotId);
         ini.put(iniSection, "dpiScalePercentage", dpiScalePercentage);
 
@@ -306,7 +355,7 @@ public class SettingsManager {
      *
      * @return The specified slot's orientation mode property value
      */
-    public int getIniSlotOrientationMode(String displayId, int slotId) {
+    public synchronized int getIniSlotOrientationMode(String displayId, int slotId) {
         String iniSection = displayId + "--Slot" + Integer.toString(slotId);
 
         return ini.get(iniSection, "orientationMode", int.class);
@@ -322,7 +371,7 @@ public class SettingsManager {
      * @param orientationMode
      *            - The specified slot's new value for the orientation mode property
      */
-    public void saveIniSlotOrientationMode(String displayId, int slotId, int orientationMode) {
+    public synchronized void saveIniSlotOrientationMode(String displayId, int slotId, int orientationMode) {
         String iniSection = displayId + "--Slot" + Integer.toString(slotId);
         ini.put(iniSection, "orientationMode", orientationMode);
 
@@ -339,17 +388,8 @@ public class SettingsManager {
      *
      * @return The specified slot's hot key
      */
-    public HotKey getIniSlotHotKey(String displayId, int slotId) {
-        HotKey hotKey = new HotKey(new ArrayList<Key>());
-        String iniSection = displayId + "--Slot" + Integer.toString(slotId);
-        int hotKeySize = ini.get(iniSection, "hotKeySize", int.class);
-
-        for (int keyId = 1; keyId <= hotKeySize; keyId++) {
-            int keyCode = ini.get(iniSection, "key" + Integer.toString(keyId), int.class);
-            hotKey.getKeys().add(new Key(keyCode, KeyText.getKeyCodeText(keyCode), false));
-        }
-
-        return hotKey;
+    public synchronized HotKey getIniSlotHotKey(String displayId, int slotId) {
+        return readHotKey(displayId + "--Slot" + Integer.toString(slotId));
     }
 
     /**
@@ -362,20 +402,90 @@ public class SettingsManager {
      * @param hotKey
      *            - The specified slot's hot key
      */
-    public void saveIniSlotHotKey(String displayId, int slotId, HotKey hotKey) {
-        int hotKeySize = hotKey.getKeys().size();
-        String iniSection = displayId + "--Slot" + Integer.toString(slotId);
-        ini.put(iniSection, "hotKeySize", hotKeySize);
+    public synchronized void saveIniSlotHotKey(String displayId, int slotId, HotKey hotKey) {
+        writeHotKey(displayId + "--Slot" + Integer.toString(slotId), hotKey);
 
-        for (int keyIndex = 0; keyIndex < 3; keyIndex++) {
-            // Only update key codes for the active keys in the hot key
-            if (keyIndex < hotKeySize) {
-                int keyCode = hotKey.getKeys().get(keyIndex).getKey();
-                ini.put(iniSection, "key" + Integer.toString(keyIndex + 1), keyCode);
-            } else {
-                ini.put(iniSection, "key" + Integer.toString(keyIndex + 1), 0);
-            }
-        }
+        updateSettingsFile();
+    }
+
+    /**
+     * Gets the specified profile's name from the settings file object.
+     *
+     * @param profileId
+     *            - The ID of the profile to get the name for
+     *
+     * @return The specified profile's name
+     */
+    public synchronized String getIniProfileName(int profileId) {
+        return ini.get("Profile" + Integer.toString(profileId), "name");
+    }
+
+    /**
+     * Sets the specified profile's name in the settings file object.
+     *
+     * @param profileId
+     *            - The ID of the profile to set the name for
+     * @param name
+     *            - The specified profile's new name
+     */
+    public synchronized void saveIniProfileName(int profileId, String name) {
+        ini.put("Profile" + Integer.toString(profileId), "name", name);
+
+        updateSettingsFile();
+    }
+
+    /**
+     * Gets the ID of the slot the specified profile applies to the given display from the settings file object.
+     *
+     * @param profileId
+     *            - The ID of the profile to get the slot ID for
+     * @param displayId
+     *            - The ID of the display to get the slot ID for
+     *
+     * @return The ID of the slot to apply to the display, or 0 if the profile leaves the display unchanged
+     */
+    public synchronized int getIniProfileSlotId(int profileId, String displayId) {
+        return ini.get("Profile" + Integer.toString(profileId), "slotFor--" + displayId, int.class);
+    }
+
+    /**
+     * Sets the ID of the slot the specified profile applies to the given display in the settings file object.
+     *
+     * @param profileId
+     *            - The ID of the profile to set the slot ID for
+     * @param displayId
+     *            - The ID of the display to set the slot ID for
+     * @param slotId
+     *            - The ID of the slot to apply to the display, or 0 to leave the display unchanged
+     */
+    public synchronized void saveIniProfileSlotId(int profileId, String displayId, int slotId) {
+        ini.put("Profile" + Integer.toString(profileId), "slotFor--" + displayId, slotId);
+
+        updateSettingsFile();
+    }
+
+    /**
+     * Gets the specified profile's hot key built from the hot key properties in the settings file object.
+     *
+     * @param profileId
+     *            - The ID of the profile to get the hot key for
+     *
+     * @return The specified profile's hot key
+     */
+    public synchronized HotKey getIniProfileHotKey(int profileId) {
+        return readHotKey("Profile" + Integer.toString(profileId));
+    }
+
+    /**
+     * Sets the specified profile's hot key properties in the settings file object.
+     *
+     * @param profileId
+     *            - The ID of the profile to set the hot key for
+     * @param hotKey
+     *            - The specified profile's hot key
+     */
+    public synchronized void saveIniProfileHotKey(int profileId, HotKey hotKey) {
+        writeHotKey("Profile" + Integer.toString(profileId), hotKey);
 
         updateSettingsFile();
     }
@@ -443,6 +553,15 @@ public class SettingsManager {
         return portraitDisplayModesMap;
     }
 
+    /**
+     * Gets the settings file on disk.
+     *
+     * @return The settings file on disk
+     */
+    public File getSettingsFile() {
+        return settingsFile;
+    }
+
     /**
      * Gets the max number of slots.
      *
@@ -452,12 +571,28 @@ public class SettingsManager {
         return MAX_NUM_OF_SLOTS;
     }
 
+    /**
+     * Gets the max number of profiles.
+     *
+     * @return The max number of profiles
+     */
+    public int getMaxNumOfProfiles() {
+        return MAX_NUM_OF_PROFILES;
+    }
+
     /**
      * Refreshes the connected displays and their supported display modes on the shared display configuration, then
      * caches the landscape and portrait display modes for each connected display by its ID.
      */
     private void initDisplays() {
         displayConfig.updateDisplayConfig();
+        initDisplayModesMaps();
+    }
+
+    /**
+     * Initializes the connected displays and their display modes from the current display configuration.
+     */
+    private void initDisplayModesMaps() {
         numOfConnectedDisplays = displayConfig.getNumOfConnectedDisplays();
         displayIds = displayConfig.getDisplayIds();
         displayNumbers = displayConfig.getDisplayNumbers();
@@ -499,13 +634,57 @@ public class SettingsManager {
 
         SettingsValidator validator = new SettingsValidator(this);
         boolean repaired = validator.validateAllProperties();
+        boolean lastSeenChanged = recordLastSeenDisplays();
 
         // Repairs only edit the in-memory settings file object, so persist them here in a single write
-        if (repaired) {
+        if (repaired || lastSeenChanged) {
             updateSettingsFile();
+        } else {
+            recordSettingsFileStamp();
         }
     }
 
+    /**
+     * Records the last modified time and length of the settings file, so a later refresh can tell whether the file
+     * changed on disk since the settings file object was loaded or stored.
+     */
+    private void recordSettingsFileStamp() {
+        settingsFileLastModified = settingsFile != null ? settingsFile.lastModified() : 0;
+        settingsFileLength = settingsFile != null ? settingsFile.length() : 0;
+    }
+
+    /**
+     * Checks whether the settings file on disk is unchanged since the settings file object was last loaded or stored.
+     *
+     * @return True if the settings file has the recorded last modified time and length, false otherwise
+     */
+    private boolean isSettingsFileUnchanged() {
+        return settingsFile != null && settingsFile.lastModified() == settingsFileLastModified
+                && settingsFile.length() == settingsFileLength;
+    }
+
+    /**
+     * Records today as the day each connected display was last seen. The day is stored rather than the exact time so
+     * the settings file is only rewritten for it at most once a day.
+     *
+     * @return Whether or not any last seen day changed
+     */
+    private boolean recordLastSeenDisplays() {
+        String today = Long.toString(LocalDate.now().toEpochDay());
+        boolean lastSeenChanged = false;
+
+        for (String displayId : displayIds) {
+            String iniProperty = "lastSeen--" + displayId;
+
+            if (!today.equals(ini.get("DisplayRetention", iniProperty))) {
+                ini.put("DisplayRetention", iniProperty, today);
+                lastSeenChanged = true;
+            }
+        }
+
+        return lastSeenChanged;
+    }
+
     /**
      * Deletes the settings file if it is from a previous application version so it can be rebuilt for the new
      * application version.
@@ -542,15 +721,60 @@ public class SettingsManager {
         }
     }
 
+    /**
+     * Builds a hot key from the hot key properties of the given section in the settings file object.
+     *
+     * @param iniSection
+     *            - The settings file section that holds the hot key properties
+     *
+     * @return The hot key built from the section
+     */
+    private HotKey readHotKey(String iniSection) {
+        HotKey hotKey = new HotKey(new ArrayList<Key>());
+        int hotKeySize = ini.get(iniSection, "hotKeySize", int.class);
+
+        for (int keyId = 1; keyId <= hotKeySize; keyId++) {
+            int keyCode = ini.get(iniSection, "key" + Integer.toString(keyId), int.class);
+            hotKey.getKeys().add(new Key(keyCode, KeyText.getKeyCodeText(keyCode), false));
+        }
+
+        return hotKey;
+    }
+
+    /**
+     * Writes the hot key properties of the given hot key to the given section in the settings file object.
+     *
+     * @param iniSection
+     *            - The settings file section to hold the hot key properties
+     * @param hotKey
+     *            - The hot key to write
+     */
+    private void writeHotKey(String iniSection, HotKey hotKey) {
+        int hotKeySize = hotKey.getKeys().size();
+        ini.put(iniSection, "hotKeySize", hotKeySize);
+
+        for (int keyIndex = 0; keyIndex < 3; keyIndex++) {
+            // Only update key codes for the active keys in the hot key
+            if (keyIndex < hotKeySize) {
+                int keyCode = hotKey.getKeys().get(keyIndex).getKey();
+                ini.put(iniSection, "key" + Integer.toString(keyIndex + 1), keyCode);
+            } else {
+                ini.put(iniSection, "key" + Integer.toString(keyIndex + 1), 0);
+            }
+        }
+    }
+
     /**
      * Wraps the Wini store call in a try/catch block.
      */
-    private void updateSettingsFile() {
+    synchronized void updateSettingsFile() {
         try {
             ini.store();
         } catch (IOException e) {
             e.printStackTrace();
         }
+
+        recordSettingsFileStamp();
     }
 
 }
@@ -21,10 +21,10 @@ package com.dhk.io;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.ini4j.Wini;
 
@@ -47,7 +47,7 @@ public class SettingsValidator {
     private String[] displayIds;
     private Map<String, DisplayMode[]> landscapeDisplayModesMap;
     private Map<String, DisplayMode[]> portraitDisplayModesMap;
-    private List<Integer> validkeyCodes;
+    private Set<Integer> validkeyCodes;
 
     /**
      * Whether any property was repaired during validation, so the caller knows to persist the settings file.
@@ -55,8 +55,12 @@ public class SettingsValidator {
     private boolean repairedProperty;
 
     private static final int UNSET_KEY_CODE = 0;
+    private static final int DEFAULT_DISPLAY_RETENTION_DAYS = 180;
+    private static final int MAX_DISPLAY_RETENTION_DAYS = 3650;
+    private static final int DEFAULT_MAX_RETAINED_DISPLAYS = 16;
+    private static final int MAX_RETAINED_DISPLAYS_LIMIT = 256;
     private static final String[] VALID_SCALING_MODES = {"0", "1", "2"};
-    private static final DisplayMode DEFAULT_DISPLAY_MODE = new DisplayMode(0, 0, 0, 0);
+    private static final DisplayMode DEFAULT_DISPLAY_MODE = DisplayMode.of(0, 0, 0, 0);
 
     /**
      * Constructor for the {@link SettingsValidator} class.
@@ -84,29 +88,31 @@ public class SettingsValidator {
         validateDarkMode();
         validateMinimizeToTray();
         validateRunOnStartup();
+        validateDisplayRetention();
         validateNumOfSlots();
         validateOrientationModes();
         validateDisplayModes();
         validateScalingModes();
         validateDpiScalePercentages();
         validateHotKeys();
+        validateProfiles();
 
         return repairedProperty;
     }
 
     /**
-     * Builds a list of valid key codes from the GlobalKeyEvent class.
+     * Builds a set of valid key codes from the GlobalKeyEvent class, so each stored key is checked in constant time.
      */
-    private List<Integer> buildValidKeyCodes() {
+    private Set<Integer> buildValidKeyCodes() {
         Field[] keyEventFields = GlobalKeyEvent.class.getDeclaredFields();
-        List<Integer> keyCodeList = new ArrayList<Integer>();
+        Set<Integer> keyCodes = new HashSet<Integer>();
 
         for (Field f : keyEventFields) {
             f.setAccessible(true);
 
             try {
                 if (Modifier.isStatic(f.getModifiers()) && Modifier.isPublic(f.getModifiers())) {
-                    keyCodeList.add(f.getInt(f.getName()));
+                    keyCodes.add(f.getInt(f.getName()));
                 }
             } catch (Exception e) {
                 e.printStackTrace();
@@ -114,9 +120,9 @@ public class SettingsValidator {
         }
 
         // Remove the "unknown" key code since it is the value used for a key that is not set
-        keyCodeList.removeIf(n -> (n == 0));
+        keyCodes.removeIf(n -> (n == 0));
 
-        return keyCodeList;
+        return keyCodes;
     }
 
     /**
@@ -208,6 +214,27 @@ public class SettingsValidator {
         }
     }
 
+    /**
+     * Validates the values for the displayRetentionDays and maxRetainedDisplays properties from the settings file. If
+     * either value is not in the correct range, then it writes the default value for that property.
+     */
+    private void validateDisplayRetention() {
+        String retentionDays = ini.get("Application", "displayRetentionDays");
+
+        if (retentionDays == null || !isPositiveInt(retentionDays) || Integer.valueOf(retentionDays) < 1
+                || Integer.valueOf(retentionDays) > MAX_DISPLAY_RETENTION_DAYS) {
+            repairProperty("Application", "displayRetentionDays", DEFAULT_DISPLAY_RETENTION_DAYS);
+        }
+
+        String maxRetainedDisplays = ini.get("Application", "maxRetainedDisplays");
+
+        if (maxRetainedDisplays == null || !isPositiveInt(maxRetainedDisplays)
+                || Integer.valueOf(maxRetainedDisplays) < 1
+                || Integer.valueOf(maxRetainedDisplays) > MAX_RETAINED_DISPLAYS_LIMIT) {
+            repairProperty("Application", "maxRetainedDisplays", DEFAULT_MAX_RETAINED_DISPLAYS);
+        }
+    }
+
     /**
      * Validates the value for the number of slots property from the settings file. If the value is not in the correct
      * range, then it writes the default value for the number of slots property.
@@ -254,15 +281,17 @@ public class SettingsValidator {
         for (int displayIndex = 0; displayIndex < displayIds.length; displayIndex++) {
             String displayId = displayIds[displayIndex];
 
+            // Hash each orientation's supported modes once per display, so each slot is checked in constant time
+            Set<DisplayMode> landscapeModes = toSet(landscapeDisplayModesMap.get(displayId));
+            Set<DisplayMode> portraitModes = toSet(portraitDisplayModesMap.get(displayId));
+
             for (int slotId = 1; slotId <= settingsMgr.getMaxNumOfSlots(); slotId++) {
                 int slotOrientationMode = settingsMgr.getIniSlotOrientationMode(displayId, slotId);
                 boolean landscapeOrientation = slotOrientationMode == 0 || slotOrientationMode == 2;
-                DisplayMode[] supportedModes = landscapeOrientation
-                        ? landscapeDisplayModesMap.get(displayId)
-                        : portraitDisplayModesMap.get(displayId);
+                Set<DisplayMode> supportedModes = landscapeOrientation ? landscapeModes : portraitModes;
 
                 // Skip repair when a connected display has no enumerated modes yet; it is still restoring after sleep
-                if (supportedModes == null || supportedModes.length == 0) {
+                if (supportedModes.isEmpty()) {
                     continue;
                 }
 
@@ -275,11 +304,11 @@ public class SettingsValidator {
                 if (width != null && isPositiveInt(width) && height != null && isPositiveInt(height)
                         && refreshNumerator != null && isPositiveInt(refreshNumerator) && refreshDenominator != null
                         && isPositiveInt(refreshDenominator)) {
-                    DisplayMode displayMode = new DisplayMode(Integer.valueOf(width), Integer.valueOf(height),
+                    DisplayMode displayMode = DisplayMode.of(Integer.valueOf(width), Integer.valueOf(height),
                             Integer.valueOf(refreshNumerator), Integer.valueOf(refreshDenominator));
 
                     // Repair with a default matching the slot's own orientation when the stored mode is not supported
-                    if (!Arrays.asList(supportedModes).contains(displayMode)) {
+                    if (!supportedModes.contains(displayMode)) {
                         writeDefaultDisplayMode(landscapeOrientation, displayId, slotId);
                     }
                 } else {
@@ -289,6 +318,22 @@ public class SettingsValidator {
         }
     }
 
+    /**
+     * Copies the given display modes into a set.
+     *
+     * @param displayModes
+     *            - The display modes to copy, or null if none are enumerated
+     *
+     * @return The set of the given display modes
+     */
+    private static Set<DisplayMode> toSet(DisplayMode[] displayModes) {
+        if (displayModes == null) {
+            return new HashSet<DisplayMode>();
+        }
+
+        return new HashSet<DisplayMode>(Arrays.asList(displayModes));
+    }
+
     /**
      * Writes the default display mode property values to the give slot section in the settings file.
      *
@@ -388,68 +433,99 @@ public class SettingsValidator {
     }
 
     /**
-     * Calls the method to validate the keys for each hot key, and then it validates the value for each hotKeySize
-     * property from the settings file. If the value is not in the correct range, then it writes the default value for
-     * the hotKeySize property. If the hotKeySize property value does not match the number of set keys, then the
-     * hotKeySize property value is updated to the number of set keys.
+     * Validates the hot key properties of every slot section in the settings file.
      */
     private void validateHotKeys() {
-        validateKeys();
-
         for (int displayIndex = 0; displayIndex < displayIds.length; displayIndex++) {
             String displayId = displayIds[displayIndex];
 
             for (int slotId = 1; slotId <= settingsMgr.getMaxNumOfSlots(); slotId++) {
-                String iniSection = displayId + "--Slot" + Integer.toString(slotId);
-                String hotKeySize = ini.get(iniSection, "hotKeySize");
+                validateHotKey(displayId + "--Slot" + Integer.toString(slotId));
+            }
+        }
+    }
 
-                if (hotKeySize == null || !isPositiveInt(hotKeySize) || Integer.valueOf(hotKeySize) < 0
-                        || Integer.valueOf(hotKeySize) > 3) {
-                    repairProperty(iniSection, "hotKeySize", 0);
-                }
+    /**
+     * Validates the hot key properties of the given section. Each key is validated first, then the hotKeySize property
+     * is repaired to match the number of keys that are actually set.
+     *
+     * @param iniSection
+     *            - The settings file section that holds the hot key properties
+     */
+    private void validateHotKey(String iniSection) {
+        validateKeys(iniSection);
 
-                int validatedHotKeySize = ini.get(iniSection, "hotKeySize", int.class);
-                int numOfSetKeys = 0;
+        String hotKeySize = ini.get(iniSection, "hotKeySize");
 
-                for (int keyId = 1; keyId <= 3; keyId++) {
-                    int validatedKeyCode = ini.get(iniSection, "key" + keyId, int.class);
+        if (hotKeySize == null || !isPositiveInt(hotKeySize) || Integer.valueOf(hotKeySize) < 0
+                || Integer.valueOf(hotKeySize) > 3) {
+            repairProperty(iniSection, "hotKeySize", 0);
+        }
 
-                    if (validatedKeyCode != UNSET_KEY_CODE) {
-                        numOfSetKeys++;
-                    }
+        int validatedHotKeySize = ini.get(iniSection, "hotKeySize", int.class);
+        int numOfSetKeys = 0;
 
-                    if (numOfSetKeys > validatedHotKeySize) {
-                        repairProperty(iniSection, "key" + keyId, UNSET_KEY_CODE);
-                    }
-                }
+        for (int keyId = 1; keyId <= 3; keyId++) {
+            int validatedKeyCode = ini.get(iniSection, "key" + keyId, int.class);
 
-                if (validatedHotKeySize > numOfSetKeys) {
-                    repairProperty(iniSection, "hotKeySize", numOfSetKeys);
-                }
+            if (validatedKeyCode != UNSET_KEY_CODE) {
+                numOfSetKeys++;
             }
+
+            if (numOfSetKeys > validatedHotKeySize) {
+                repairProperty(iniSection, "key" + keyId, UNSET_KEY_CODE);
+            }
+        }
+
+        if (validatedHotKeySize > numOfSetKeys) {
+            repairProperty(iniSection, "hotKeySize", numOfSetKeys);
         }
     }
 
     /**
-     * Validates the value for each key property from the settings file. A key value is valid when it is the unset key
+     * Validates the value for each key property of the given section. A key value is valid when it is the unset key
      * code or a supported key code; otherwise the default unset value is written for the key property.
+     *
+     * @param iniSection
+     *            - The settings file section that holds the key properties
      */
-    private void validateKeys() {
-        for (int displayIndex = 0; displayIndex < displayIds.length; displayIndex++) {
-            String displayId = displayIds[displayIndex];
+    private void validateKeys(String iniSection) {
+        for (int keyId = 1; keyId <= 3; keyId++) {
+            String key = ini.get(iniSection, "key" + keyId);
+
+            // An unset key persists as UNSET_KEY_CODE, so that value must pass validation without a repair
+            if (key == null || !isPositiveInt(key)
+                    || !(Integer.valueOf(key) == UNSET_KEY_CODE || validkeyCodes.contains(Integer.valueOf(key)))) {
+                repairProperty(iniSection, "key" + keyId, UNSET_KEY_CODE);
+            }
+        }
+    }
 
-            for (int slotId = 1; slotId <= settingsMgr.getMaxNumOfSlots(); slotId++) {
-                for (int keyId = 1; keyId <= 3; keyId++) {
-                    String iniSection = displayId + "--Slot" + Integer.toString(slotId);
-                    String key = ini.get(iniSection, "key" + keyId);
-
-                    // An unset key persists as UNSET_KEY_CODE, so that value must pass validation without a repair
-                    if (key == null || !isPositiveInt(key) || !(Integer.valueOf(key) == UNSET_KEY_CODE
-                            || validkeyCodes.contains(Integer.valueOf(key)))) {
-                        repairProperty(iniSection, "key" + keyId, UNSET_KEY_CODE);
-                    }
+    /**
+     * Validates the properties of each profile section in the settings file. A missing or blank name is reset to the
+     * default name, a slot reference that is not a slot of its display is reset to 0 (leave the display unchanged), and
+     * the profile's hot key is validated like a slot's hot key.
+     */
+    private void validateProfiles() {
+        for (int profileId = 1; profileId <= settingsMgr.getMaxNumOfProfiles(); profileId++) {
+            String iniSection = "Profile" + Integer.toString(profileId);
+            String name = ini.get(iniSection, "name");
+
+            if (name == null || name.isBlank()) {
+                repairProperty(iniSection, "name", "Profile " + Integer.toString(profileId));
+            }
+
+            for (int displayIndex = 0; displayIndex < displayIds.length; displayIndex++) {
+                String iniProperty = "slotFor--" + displayIds[displayIndex];
+                String slotId = ini.get(iniSection, iniProperty);
+
+                if (slotId == null || !isPositiveInt(slotId)
+                        || Integer.valueOf(slotId) > settingsMgr.getMaxNumOfSlots()) {
+                    repairProperty(iniSection, iniProperty, 0);
                 }
             }
+
+            validateHotKey(iniSection);
         }
     }
 
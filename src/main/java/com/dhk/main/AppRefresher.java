@@ -19,18 +19,21 @@
  */
 package com.dhk.main;
 
+import java.util.Arrays;
+
 import com.dhk.controller.DhkController;
 import com.dhk.io.DisplayConfig;
 import com.dhk.io.SettingsManager;
 import com.dhk.model.DhkModel;
 import com.dhk.model.FramePlacement;
 import com.dhk.view.DhkView;
-import com.formdev.flatlaf.FlatDarculaLaf;
-import com.formdev.flatlaf.FlatIntelliJLaf;
-import com.formdev.flatlaf.FlatLaf;
+import com.dhk.view.MinimizeToTray;
+import com.dhk.theme.ThemeUpdater;
+import com.dhk.utility.FrameUtil;
 
 /**
- * Gets the application's model, view, controller, and settings manager, and then it re-initializes them.
+ * Gets the application's model, view, controller, and settings manager, and then it refreshes them, patching the
+ * existing view in place unless the connected displays changed.
  *
  * @author Jonathan R. Miller
  */
@@ -41,6 +44,7 @@ public class AppRefresher {
     private DhkController controller;
     private SettingsManager settingsMgr;
     private DisplayConfig displayConfig;
+    private ThemeUpdater themeUpdater;
 
     /**
      * Constructor for the {@link AppRefresher} class.
@@ -61,20 +65,24 @@ public class AppRefresher {
         this.settingsMgr = settingsMgr;
 
         displayConfig = settingsMgr.getDisplayConfig();
+        themeUpdater = new ThemeUpdater();
     }
 
     /**
-     * Re-initializes the settings manager, model, view, and controllers for the application, and then sets up the "look
-     * and feel" for the GUI. The view captures its own frame placement during re-initialization.
+     * Refreshes the settings manager, model, view, and controllers for the application. The view captures its own frame
+     * placement if it has to be re-initialized.
      */
     public void reInitApp() {
         reInitApp(null);
     }
 
     /**
-     * Re-initializes the settings manager, model, view, and controllers for the application, and then sets up the "look
-     * and feel" for the GUI. The app is only re-initialized if there is an active display to prevent a JVM error from
-     * occurring.
+     * Refreshes the settings manager, model, view, and controllers for the application. When the same displays are
+     * connected as when the view was built, the display modes are not enumerated again, the settings file is only
+     * re-read if it changed on disk, the model is refreshed in place, and only the view components that changed are
+     * patched on the existing frame. Otherwise everything is re-initialized, and the "look and feel" for the GUI is
+     * only set up again if the saved theme no longer matches the active one. The app is only refreshed if there is an
+     * active display to prevent a JVM error from occurring.
      *
      * @param capturedPlacement
      *            - A frame placement captured before a display reconfiguration, used to reproduce the frame's position;
@@ -89,24 +97,114 @@ public class AppRefresher {
             return;
         }
 
+        MinimizeToTray minimizeToTray = controller.getMinimizeToTray();
+
+        // Nobody sees the frame while it is in the tray, so keep only the model current and refresh the view on restore
+        if (minimizeToTray.isHiddenInTray()) {
+            refreshModel();
+            minimizeToTray.deferRefresh(this::refreshView, capturedPlacement);
+            minimizeToTray.displayConfigurationSettled();
+
+            return;
+        }
+
+        // Only the same displays, in the same order and with the same numbers, can keep the view built for them
+        boolean sameDisplayIds = model.getNumOfConnectedDisplays() > 0
+                && Arrays.equals(model.getDisplayIds(), displayConfig.getDisplayIds());
+
+        if (sameDisplayIds) {
+            settingsMgr.refreshSettingsManager();
+
+            if (Arrays.equals(model.getDisplayNumbers(), settingsMgr.getDisplayNumbers())) {
+                refreshApp(capturedPlacement);
+            } else {
+                rebuildApp(capturedPlacement, false);
+            }
+        } else {
+            rebuildApp(capturedPlacement, true);
+        }
+
+        // Rescale the tray icon last, since the shell answers for the task bar slowly while still rebuilding it
+        minimizeToTray.displayConfigurationSettled();
+    }
+
+    /**
+     * Brings the model and the hot key dispatch up to date with the settings file and the connected displays, without
+     * touching the view, so hot keys keep working against the current displays while the frame is hidden.
+     */
+    private void refreshModel() {
+        boolean sameDisplayIds = model.getNumOfConnectedDisplays() > 0
+                && Arrays.equals(model.getDisplayIds(), displayConfig.getDisplayIds());
+
+        if (sameDisplayIds) {
+            settingsMgr.refreshSettingsManager();
+        } else {
+            settingsMgr.initSettingsManager();
+        }
+
+        if (sameDisplayIds && Arrays.equals(model.getDisplayNumbers(), settingsMgr.getDisplayNumbers())) {
+            controller.refreshController(model.refreshModel(settingsMgr));
+        } else {
+            model.initModel(settingsMgr);
+            controller.refreshController(true);
+        }
+    }
+
+    /**
+     * Brings the view up to date with a model that was refreshed while the frame was hidden, patching it in place if
+     * it was built for the same displays and rebuilding it otherwise.
+     *
+     * @param capturedPlacement
+     *            - A frame placement captured before the first display reconfiguration, or null to capture it live
+     */
+    private void refreshView(FramePlacement capturedPlacement) {
+        if (view.isBuiltFor(model.getDisplayIds(), model.getDisplayNumbers())) {
+            view.refreshView(capturedPlacement);
+        } else {
+            rebuildApp(capturedPlacement, false);
+        }
+    }
+
+    /**
+     * Refreshes the model in place from the re-initialized settings manager, then patches the view and controllers to
+     * match, keeping the existing frame and controllers.
+     *
+     * @param capturedPlacement
+     *            - A frame placement captured before a display reconfiguration, or null to leave the frame in place
+     */
+    private void refreshApp(FramePlacement capturedPlacement) {
+        boolean hotKeysChanged = model.refreshModel(settingsMgr);
+
+        view.refreshView(capturedPlacement);
+        controller.refreshController(hotKeysChanged);
+    }
+
+    /**
+     * Re-initializes the model, view, and controllers for the application from scratch, keeping the same frame. The new
+     * content is built under the active "look and feel", so the theme is only switched, and the frame's UI updated, if
+     * the saved theme differs.
+     *
+     * @param capturedPlacement
+     *            - A frame placement captured before a display reconfiguration, or null to capture it live
+     * @param initSettings
+     *            - Whether the settings manager still has to be re-initialized for the connected displays
+     */
+    private void rebuildApp(FramePlacement capturedPlacement, boolean initSettings) {
         int previousFrameState = view.getFrame().getExtendedState();
 
         controller.cleanUp();
-        settingsMgr.initSettingsManager();
+
+        if (initSettings) {
+            settingsMgr.initSettingsManager();
+        }
+
         model.initModel(settingsMgr);
         view.reInitView(capturedPlacement);
         controller.reInitController(previousFrameState);
 
-        if (model.isDarkMode()) {
-            FlatDarculaLaf.setup();
-        } else {
-            FlatIntelliJLaf.setup();
+        if (themeUpdater.useDarkMode(model.isDarkMode())) {
+            FrameUtil.refreshFrameUI(view.getFrame());
         }
-
-        FlatLaf.updateUI();
-
-        // Rescale the tray icon last, since the shell answers for the task bar slowly while still rebuilding it
-        controller.getMinimizeToTray().displayConfigurationSettled();
     }
 
 }
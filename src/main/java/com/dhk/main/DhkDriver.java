@@ -28,6 +28,7 @@ import com.dhk.io.SettingsManager;
 import com.dhk.io.SingleInstanceLock;
 import com.dhk.model.DhkModel;
 import com.dhk.theme.ThemeUpdater;
+import com.dhk.utility.EdtWatchdog;
 import com.dhk.view.AlreadyRunningDialog;
 import com.dhk.view.DhkView;
 
@@ -80,6 +81,12 @@ public class DhkDriver {
             return;
         }
 
+        // Watch the AWT event dispatch thread for stalls before the app dispatches any of its own work there
+        EdtWatchdog.start();
+
+        // Rasterize the icons and load the fonts in the background while the settings setup enumerates the displays
+        new StartupWarmUp().start();
+
         SettingsManager settingsMgr = new SettingsManager();
         settingsMgr.initSettingsManager();
 
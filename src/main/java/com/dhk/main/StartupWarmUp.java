@@ -0,0 +1,206 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright © 2026 Jonathan R. Miller
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and
+ * to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+package com.dhk.main;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.swing.SwingUtilities;
+import javax.swing.UIManager;
+
+import com.dhk.theme.ThemeUpdater;
+import com.dhk.utility.IconCache;
+
+/**
+ * Warms up the button icons and fonts on a background thread during launch, and the theme defaults on the AWT event
+ * dispatch thread once it is idle. The first hover over each button would otherwise rasterize its hover icon on the
+ * AWT event dispatch thread, and the first paint of each font would load its glyphs there, both causing visible
+ * hitches right after launch. The icon and font warm-up overlaps the settings setup instead, and its results land in
+ * the process-wide icon cache and the JDK's shared glyph cache that the painting side reads from. The theme defaults
+ * initialize the look and feel's fonts and scaling state, so they are only computed on the AWT event dispatch thread.
+ *
+ * @author Jonathan R. Miller
+ */
+public class StartupWarmUp {
+
+    /**
+     * Text covering the characters the view shows, drawn once per font so their glyphs are cached before first paint.
+     */
+    private static final String WARM_UP_TEXT = "ABCDEFGHIJKLMNOPQRSTUVWXYZ abcdefghijklmnopqrstuvwxyz"
+            + " 0123456789 :.,-+@%()";
+
+    /**
+     * Default constructor for the {@link StartupWarmUp} class.
+     */
+    public StartupWarmUp() {
+    }
+
+    /**
+     * Starts the icon and font warm-up on a background daemon thread, and queues the theme defaults warm-up on the AWT
+     * event dispatch thread. The theme must already be applied, since the icons are rasterized and the fonts resolved
+     * for the active look and feel.
+     */
+    public void start() {
+        SwingUtilities.invokeLater(this::warmUpThemeDefaults);
+
+        Thread warmUpThread = new Thread(this::warmUp, "Startup Warm Up");
+
+        // Nothing waits on the warm-up, so it must never keep the application alive
+        warmUpThread.setDaemon(true);
+        warmUpThread.setPriority(Thread.MIN_PRIORITY);
+        warmUpThread.start();
+    }
+
+    /**
+     * Warms up the UI defaults of both themes. Must be called on the AWT event dispatch thread.
+     */
+    private void warmUpThemeDefaults() {
+        try {
+            ThemeUpdater.precomputeDefaults();
+        } catch (RuntimeException e) {
+            // A failed warm-up only costs the hitch it was meant to avoid, so it must never stop the launch
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Warms up the icons and fonts for every screen scale factor in use.
+     */
+    private void warmUp() {
+        try {
+            for (double scaleFactor : getScreenScaleFactors()) {
+                warmUpIcons(scaleFactor);
+                warmUpFonts(scaleFactor);
+            }
+        } catch (RuntimeException e) {
+            // A failed warm-up only costs the hitches it was meant to avoid, so it must never stop the launch
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Gets the distinct screen scale factors of the connected screens.
+     *
+     * @return The distinct screen scale factors of the connected screens
+     */
+    private Set<Double> getScreenScaleFactors() {
+        Set<Double> scaleFactors = new TreeSet<Double>();
+
+        for (GraphicsDevice screen : GraphicsEnvironment.getLocalGraphicsEnvironment().getScreenDevices()) {
+            scaleFactors.add(screen.getDefaultConfiguration().getDefaultTransform().getScaleX());
+        }
+
+        return scaleFactors;
+    }
+
+    /**
+     * Rasterizes every icon variant shown by the view's slot and toolbar buttons and the about dialog's donate button.
+     * Each button shows its idle and hover icons at its idle scale and its hover icon at its held scale.
+     *
+     * @param scaleFactor
+     *            - The screen scale factor to rasterize the icons at
+     */
+    private void warmUpIcons(double scaleFactor) {
+        // Slot buttons
+        warmUpButtonIcons("/apply_slot_idle.svg", "/apply_slot_hover.svg", 0.80f, 0.68f, scaleFactor);
+        warmUpButtonIcons("/clear_hot_key_idle.svg", "/clear_hot_key_hover.svg", 0.70f, 0.60f, scaleFactor);
+        warmUpButtonIcons("/clear_slot_idle.svg", "/clear_slot_hover.svg", 0.80f, 0.68f, scaleFactor);
+
+        // Toolbar buttons
+        warmUpButtonIcons("/clear_all_idle.svg", "/clear_all_hover.svg", 0.70f, 0.60f, scaleFactor);
+        warmUpButtonIcons("/about_idle.svg", "/about_light_hover.svg", 0.70f, 0.60f, scaleFactor);
+        warmUpButtonIcons("/about_idle.svg", "/about_dark_hover.svg", 0.70f, 0.60f, scaleFactor);
+        warmUpButtonIcons("/light_mode_idle.svg", "/light_mode_hover.svg", 0.70f, 0.60f, scaleFactor);
+        warmUpButtonIcons("/dark_mode_idle.svg", "/dark_mode_hover.svg", 0.70f, 0.60f, scaleFactor);
+
+        for (String toggle : new String[] {"/minimize_to_tray", "/run_on_startup"}) {
+            for (String state : new String[] {"_enabled", "_disabled"}) {
+                warmUpButtonIcons(toggle + state + "_idle.svg", toggle + state + "_light_hover.svg", 0.70f, 0.60f,
+                        scaleFactor);
+                warmUpButtonIcons(toggle + state + "_idle.svg", toggle + state + "_dark_hover.svg", 0.70f, 0.60f,
+                        scaleFactor);
+            }
+        }
+
+        // About dialog donate button
+        warmUpButtonIcons("/paypal_donate_light_idle.svg", "/paypal_donate_light_hover.svg", 0.70f, 0.63f,
+                scaleFactor);
+        warmUpButtonIcons("/paypal_donate_dark_idle.svg", "/paypal_donate_dark_hover.svg", 0.70f, 0.63f, scaleFactor);
+    }
+
+    /**
+     * Rasterizes the icon variants of one button: the idle and hover icons at the idle scale, and the hover icon at the
+     * held scale.
+     *
+     * @param idleIconPath
+     *            - The resource path for the idle icon
+     * @param hoverIconPath
+     *            - The resource path for the hover icon
+     * @param idleScale
+     *            - The image scale percentage of the idle and hover icons
+     * @param heldScale
+     *            - The image scale percentage of the held icon
+     * @param scaleFactor
+     *            - The screen scale factor to rasterize the icons at
+     */
+    private void warmUpButtonIcons(String idleIconPath, String hoverIconPath, float idleScale, float heldScale,
+            double scaleFactor) {
+        IconCache.warmUp(idleIconPath, idleScale, scaleFactor);
+        IconCache.warmUp(hoverIconPath, idleScale, scaleFactor);
+        IconCache.warmUp(hoverIconPath, heldScale, scaleFactor);
+    }
+
+    /**
+     * Draws the warm-up text once in the default font and the bold header font, so the font files are loaded and the
+     * glyphs are cached for the given screen scale factor before the view first paints them.
+     *
+     * @param scaleFactor
+     *            - The screen scale factor to cache the glyphs at
+     */
+    private void warmUpFonts(double scaleFactor) {
+        BufferedImage image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D imageGraphics = image.createGraphics();
+
+        try {
+            imageGraphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+                    RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            imageGraphics.scale(scaleFactor, scaleFactor);
+
+            for (String fontKey : new String[] {"defaultFont", "h4.font"}) {
+                Font font = UIManager.getFont(fontKey);
+
+                if (font != null) {
+                    imageGraphics.setFont(font);
+                    imageGraphics.getFontMetrics().stringWidth(WARM_UP_TEXT);
+                    imageGraphics.drawString(WARM_UP_TEXT, 0, 0);
+                }
+            }
+        } finally {
+            imageGraphics.dispose();
+        }
+    }
+
+}
@@ -36,6 +36,7 @@ public class DhkModel {
     private String[] displayIds;
     private int[] displayNumbers;
     private List<Display> displays;
+    private List<Profile> profiles;
     private int numOfConnectedDisplays;
     private int maxNumOfSlots;
     private boolean darkMode;
@@ -83,6 +84,118 @@ public class DhkModel {
 
             displays.add(new Display(displayId, numOfSlots, slots));
         }
+
+        initProfiles(settingsMgr);
+    }
+
+    /**
+     * Refreshes the slots for each display and the profiles from the settings file in place, keeping the existing slot
+     * objects and any unchanged profile so the controllers and any held hot key state stay attached. Only valid when
+     * the connected displays are unchanged since the model was last initialized.
+     *
+     * @param settingsMgr
+     *            - The manager of the application's settings file
+     *
+     * @return True if any slot's hot key or any profile changed, false otherwise
+     */
+    public boolean refreshModel(SettingsManager settingsMgr) {
+        boolean hotKeysChanged = false;
+
+        darkMode = settingsMgr.getIniDarkMode();
+        minimizeToTray = settingsMgr.getIniMinimizeToTray();
+        runOnStartup = settingsMgr.getIniRunOnStartup();
+        displayConfig = settingsMgr.getDisplayConfig();
+
+        for (int displayIndex = 0; displayIndex < numOfConnectedDisplays; displayIndex++) {
+            String displayId = displayIds[displayIndex];
+            Display display = displays.get(displayIndex);
+
+            for (int slotId = 1; slotId <= maxNumOfSlots; slotId++) {
+                Slot slot = display.getSlot(slotId - 1);
+
+                slot.setDisplayMode(settingsMgr.getIniSlotDisplayMode(displayId, slotId));
+                slot.setScalingMode(settingsMgr.getIniSlotScalingMode(displayId, slotId));
+                slot.setDpiScalePercentage(settingsMgr.getIniSlotDpiScalePercentage(displayId, slotId));
+                slot.setOrientationMode(settingsMgr.getIniSlotOrientationMode(displayId, slotId));
+                slot.setClearingSlot(false);
+
+                // Replace the hot key only when its keys changed, so an unchanged hot key keeps its held down state
+                HotKey hotKey = settingsMgr.getIniSlotHotKey(displayId, slotId);
+
+                if (!hotKey.getKeys().equals(slot.getHotKey().getKeys())) {
+                    slot.setHotKey(hotKey);
+                    hotKeysChanged = true;
+                }
+            }
+
+            display.setNumOfActiveSlots(settingsMgr.getIniNumOfSlotsForDisplay(displayId));
+        }
+
+        // The hot key dispatch holds the active profiles themselves, so a replaced profile needs it rebuilt
+        boolean profilesChanged = refreshProfiles(settingsMgr);
+
+        return hotKeysChanged || profilesChanged;
+    }
+
+    /**
+     * Initializes the profiles from the settings file, resolving each profile's slot reference for every connected
+     * display.
+     *
+     * @param settingsMgr
+     *            - The manager of the application's settings file
+     */
+    private void initProfiles(SettingsManager settingsMgr) {
+        int maxNumOfProfiles = settingsMgr.getMaxNumOfProfiles();
+        profiles = new ArrayList<Profile>(maxNumOfProfiles);
+
+        for (int profileId = 1; profileId <= maxNumOfProfiles; profileId++) {
+            profiles.add(readProfile(settingsMgr, profileId));
+        }
+    }
+
+    /**
+     * Refreshes the profiles from the settings file, replacing only the profiles whose saved settings changed.
+     *
+     * @param settingsMgr
+     *            - The manager of the application's settings file
+     *
+     * @return True if any profile was replaced, false otherwise
+     */
+    private boolean refreshProfiles(SettingsManager settingsMgr) {
+        boolean profilesChanged = false;
+
+        for (int profileIndex = 0; profileIndex < profiles.size(); profileIndex++) {
+            Profile savedProfile = readProfile(settingsMgr, profileIndex + 1);
+
+            if (!savedProfile.matches(profiles.get(profileIndex))) {
+                profiles.set(profileIndex, savedProfile);
+                profilesChanged = true;
+            }
+        }
+
+        return profilesChanged;
+    }
+
+    /**
+     * Reads the given profile from the settings file, resolving its slot reference for every connected display.
+     *
+     * @param settingsMgr
+     *            - The manager of the application's settings file
+     * @param profileId
+     *            - The ID of the profile to read
+     *
+     * @return The profile as saved in the settings file
+     */
+    private Profile readProfile(SettingsManager settingsMgr, int profileId) {
+        int[] slotIndexes = new int[numOfConnectedDisplays];
+
+        for (int displayIndex = 0; displayIndex < numOfConnectedDisplays; displayIndex++) {
+            // A slot ID of 0 leaves the display unchanged, which maps to NO_SLOT
+            slotIndexes[displayIndex] = settingsMgr.getIniProfileSlotId(profileId, displayIds[displayIndex]) - 1;
+        }
+
+        return new Profile(settingsMgr.getIniProfileName(profileId), slotIndexes,
+                settingsMgr.getIniProfileHotKey(profileId));
     }
 
     /**
@@ -169,6 +282,27 @@ public class DhkModel {
         return maxNumOfSlots;
     }
 
+    /**
+     * Gets the specified profile.
+     *
+     * @param profileIndex
+     *            - The index of the profile to get
+     *
+     * @return The specified profile
+     */
+    public Profile getProfile(int profileIndex) {
+        return profiles.get(profileIndex);
+    }
+
+    /**
+     * Gets the number of profiles.
+     *
+     * @return The number of profiles
+     */
+    public int getNumOfProfiles() {
+        return profiles.size();
+    }
+
     /**
      * Gets the current "dark mode" state of the UI.
      *
@@ -19,25 +19,52 @@
  */
 package com.dhk.model;
 
-import java.util.Objects;
+import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * An immutable supported display mode: a resolution and exact refresh rate. The refresh rate is held as a rational
  * (numerator / denominator) so a fractional rate such as 119.88 Hz (120000 / 1001) is represented without loss and
- * applied by selecting the existing mode.
+ * applied by selecting the existing mode. Instances are interned by the {@code of} factories, and each holds its shared
+ * {@link Resolution} and {@link RefreshRate} halves, so reading either half or hashing the mode allocates nothing. An
+ * instance is released once nothing uses it, so the modes of displays no longer connected do not accumulate.
  *
  * @author Jonathan R. Miller
  */
 public class DisplayMode {
 
+    private static final WeakInterner<Entry<Resolution, RefreshRate>, DisplayMode> INTERNED =
+            new WeakInterner<Entry<Resolution, RefreshRate>, DisplayMode>();
+
     private final int width;
     private final int height;
     private final int refreshNumerator;
     private final int refreshDenominator;
+    private final Resolution resolution;
+    private final RefreshRate refreshRate;
+    private final int hashCode;
 
     /**
      * Constructor for the {@link DisplayMode} class.
      *
+     * @param resolution
+     *            - The shared resolution half of the display mode
+     * @param refreshRate
+     *            - The shared refresh-rate half of the display mode
+     */
+    private DisplayMode(Resolution resolution, RefreshRate refreshRate) {
+        this.resolution = resolution;
+        this.refreshRate = refreshRate;
+        width = resolution.getWidth();
+        height = resolution.getHeight();
+        refreshNumerator = refreshRate.getNumerator();
+        refreshDenominator = refreshRate.getDenominator();
+        hashCode = 31 * resolution.hashCode() + refreshRate.hashCode();
+    }
+
+    /**
+     * Gets the shared instance of the specified display mode, creating it the first time the mode is seen.
+     *
      * @param width
      *            - The horizontal resolution in pixels
      * @param height
@@ -46,12 +73,27 @@ public class DisplayMode {
      *            - The numerator of the exact refresh rate (Hz = numerator / denominator)
      * @param refreshDenominator
      *            - The denominator of the exact refresh rate (Hz = numerator / denominator)
+     *
+     * @return The shared instance of the display mode
+     */
+    public static DisplayMode of(int width, int height, int refreshNumerator, int refreshDenominator) {
+        return of(Resolution.of(width, height), RefreshRate.of(refreshNumerator, refreshDenominator));
+    }
+
+    /**
+     * Gets the shared instance of the display mode that recombines the given resolution and refresh rate.
+     *
+     * @param resolution
+     *            - The resolution half of the display mode
+     * @param refreshRate
+     *            - The refresh-rate half of the display mode
+     *
+     * @return The shared instance of the display mode
      */
-    public DisplayMode(int width, int height, int refreshNumerator, int refreshDenominator) {
-        this.width = width;
-        this.height = height;
-        this.refreshNumerator = refreshNumerator;
-        this.refreshDenominator = refreshDenominator;
+    public static DisplayMode of(Resolution resolution, RefreshRate refreshRate) {
+        // The halves are interned, so the pair identifies the mode without referencing the interned mode itself
+        return INTERNED.intern(Map.entry(resolution, refreshRate), key -> new DisplayMode(key.getKey(),
+                key.getValue()));
     }
 
     /**
@@ -105,7 +147,7 @@ public class DisplayMode {
      * @return The resolution of this display mode
      */
     public Resolution getResolution() {
-        return new Resolution(width, height);
+        return resolution;
     }
 
     /**
@@ -114,7 +156,7 @@ public class DisplayMode {
      * @return The exact refresh rate of this display mode
      */
     public RefreshRate getRefreshRate() {
-        return new RefreshRate(refreshNumerator, refreshDenominator);
+        return refreshRate;
     }
 
     @Override
@@ -135,22 +177,12 @@ public class DisplayMode {
 
     @Override
     public int hashCode() {
-        return Objects.hash(width, height, refreshNumerator, refreshDenominator);
+        return hashCode;
     }
 
     @Override
     public String toString() {
-        return width + "x" + height + "@" + formatRefreshRate() + "Hz";
-    }
-
-    /**
-     * Formats the refresh rate as a whole number when it is exactly integral, otherwise to two decimal places so a
-     * fractional NTSC rate reads the way Windows Display Settings shows it (for example 119.88).
-     *
-     * @return The formatted refresh rate
-     */
-    private String formatRefreshRate() {
-        return RefreshRate.format(refreshNumerator, refreshDenominator);
+        return width + "x" + height + "@" + refreshRate.getFormattedValue() + "Hz";
     }
 
 }
@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright © 2026 Jonathan R. Miller
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and
+ * to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+package com.dhk.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The immutable resolution and refresh rate lists derived from one display's display modes for one orientation. Every
+ * slot of the display that shares the orientation reads from the same lists, so the lists are built once instead of
+ * once per slot. The order of the source array is preserved, so the resolutions and each resolution's refresh rates
+ * keep whatever ordering the modes were supplied in.
+ *
+ * @author Jonathan R. Miller
+ */
+public class DisplayModeLists {
+
+    private final DisplayMode[] displayModes;
+    private final List<Resolution> resolutions;
+    private final Map<Resolution, List<RefreshRate>> refreshRatesMap;
+
+    /**
+     * Constructor for the {@link DisplayModeLists} class.
+     *
+     * @param displayModes
+     *            - The display modes to derive the lists from
+     */
+    public DisplayModeLists(DisplayMode[] displayModes) {
+        Map<Resolution, List<RefreshRate>> refreshRatesByResolution = new LinkedHashMap<>();
+
+        for (DisplayMode displayMode : displayModes) {
+            refreshRatesByResolution.computeIfAbsent(displayMode.getResolution(), resolution -> new ArrayList<>())
+                    .add(displayMode.getRefreshRate());
+        }
+
+        this.displayModes = displayModes;
+        resolutions = List.copyOf(refreshRatesByResolution.keySet());
+        refreshRatesMap = new LinkedHashMap<>();
+
+        for (Map.Entry<Resolution, List<RefreshRate>> refreshRates : refreshRatesByResolution.entrySet()) {
+            refreshRatesMap.put(refreshRates.getKey(), List.copyOf(refreshRates.getValue()));
+        }
+    }
+
+    /**
+     * Gets the display modes the lists were derived from.
+     *
+     * @return The source display modes
+     */
+    public DisplayMode[] getDisplayModes() {
+        return displayModes;
+    }
+
+    /**
+     * Gets the distinct resolutions of the display modes, in first-seen order.
+     *
+     * @return The immutable list of distinct resolutions
+     */
+    public List<Resolution> getResolutions() {
+        return resolutions;
+    }
+
+    /**
+     * Gets the refresh rates the display modes offer for the specified resolution, in the order the modes were
+     * supplied.
+     *
+     * @param resolution
+     *            - The resolution to get the refresh rates for
+     *
+     * @return The immutable list of refresh rates supported by the resolution, empty if the resolution is not offered
+     */
+    public List<RefreshRate> getRefreshRates(Resolution resolution) {
+        return refreshRatesMap.getOrDefault(resolution, List.of());
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright © 2026 Jonathan R. Miller
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and
+ * to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+package com.dhk.model;
+
+/**
+ * An immutable snapshot of the settings currently active on a display: its display mode, scaling mode, DPI scale
+ * percentage, and orientation mode. A field the display does not report is held as -1, so it never matches a slot.
+ *
+ * @author Jonathan R. Miller
+ */
+public class DisplayState {
+
+    private final DisplayMode displayMode;
+    private final int scalingMode;
+    private final int dpiScalePercentage;
+    private final int orientationMode;
+
+    /**
+     * Constructor for the {@link DisplayState} class.
+     *
+     * @param displayMode
+     *            - The active display mode of the display
+     * @param scalingMode
+     *            - The active scaling mode of the display
+     * @param dpiScalePercentage
+     *            - The active DPI scale percentage of the display
+     * @param orientationMode
+     *            - The active orientation mode of the display
+     */
+    public DisplayState(DisplayMode displayMode, int scalingMode, int dpiScalePercentage, int orientationMode) {
+        this.displayMode = displayMode;
+        this.scalingMode = scalingMode;
+        this.dpiScalePercentage = dpiScalePercentage;
+        this.orientationMode = orientationMode;
+    }
+
+    /**
+     * Gets the active display mode of the display.
+     *
+     * @return The active display mode of the display
+     */
+    public DisplayMode getDisplayMode() {
+        return displayMode;
+    }
+
+    /**
+     * Gets the active scaling mode of the display.
+     *
+     * @return The active scaling mode of the display
+     */
+    public int getScalingMode() {
+        return scalingMode;
+    }
+
+    /**
+     * Gets the active DPI scale percentage of the display.
+     *
+     * @return The active DPI scale percentage of the display
+     */
+    public int getDpiScalePercentage() {
+        return dpiScalePercentage;
+    }
+
+    /**
+     * Gets the active orientation mode of the display.
+     *
+     * @return The active orientation mode of the display
+     */
+    public int getOrientationMode() {
+        return orientationMode;
+    }
+
+    /**
+     * Checks whether applying the given slot would leave this display state unchanged.
+     *
+     * @param slot
+     *            - The slot to compare against
+     *
+     * @return Whether every setting of the slot is already active
+     */
+    public boolean matches(Slot slot) {
+        return matchesExceptRefreshRate(slot) && isSameRefreshRate(slot.getDisplayMode());
+    }
+
+    /**
+     * Checks whether applying the given slot would change only the refresh rate of this display state. Such a change
+     * leaves the desktop geometry, scaling, and DPI alone, so it needs neither an arrangement reflow nor a UI refresh.
+     *
+     * @param slot
+     *            - The slot to compare against
+     *
+     * @return Whether the refresh rate is the only setting of the slot that is not already active
+     */
+    public boolean differsOnlyInRefreshRate(Slot slot) {
+        return matchesExceptRefreshRate(slot) && !isSameRefreshRate(slot.getDisplayMode());
+    }
+
+    /**
+     * Checks whether every setting of the given slot other than its refresh rate is already active.
+     *
+     * @param slot
+     *            - The slot to compare against
+     *
+     * @return Whether the resolution, scaling mode, DPI scale percentage, and orientation mode are already active
+     */
+    private boolean matchesExceptRefreshRate(Slot slot) {
+        DisplayMode slotMode = slot.getDisplayMode();
+
+        return displayMode.getWidth() == slotMode.getWidth() && displayMode.getHeight() == slotMode.getHeight()
+                && scalingMode == slot.getScalingMode() && dpiScalePercentage == slot.getDpiScalePercentage()
+                && orientationMode == slot.getOrientationMode();
+    }
+
+    /**
+     * Checks whether the given display mode has the active refresh rate. The rates are compared as a cross product,
+     * since the active rate can be reported with different terms than the enumerated mode.
+     *
+     * @param slotMode
+     *            - The display mode to compare against
+     *
+     * @return Whether the refresh rate of the display mode is already active
+     */
+    private boolean isSameRefreshRate(DisplayMode slotMode) {
+        return (long) displayMode.getRefreshNumerator() * slotMode.getRefreshDenominator()
+                == (long) slotMode.getRefreshNumerator() * displayMode.getRefreshDenominator();
+    }
+
+}
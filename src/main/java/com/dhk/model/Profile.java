@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright © 2026 Jonathan R. Miller
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and
+ * to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+package com.dhk.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Defines the model for a Profile. A profile is a named set of slots, at most one per display, that are applied to
+ * their displays together with the profile's own hot key.
+ *
+ * @author Jonathan R. Miller
+ */
+public class Profile {
+
+    private String name;
+    private int[] slotIndexes;
+    private HotKey hotKey;
+
+    /**
+     * The slot index that marks a display the profile leaves unchanged.
+     */
+    public static final int NO_SLOT = -1;
+
+    /**
+     * Constructor for the {@link Profile} class.
+     *
+     * @param name
+     *            - The name of the profile
+     * @param slotIndexes
+     *            - The index of the slot to apply to each connected display, aligned index-for-index with the display
+     *            IDs, or NO_SLOT to leave a display unchanged
+     * @param hotKey
+     *            - The hot key of the profile
+     */
+    public Profile(String name, int[] slotIndexes, HotKey hotKey) {
+        this.name = name;
+        this.slotIndexes = slotIndexes;
+        this.hotKey = hotKey;
+    }
+
+    /**
+     * Gets the name of the profile.
+     *
+     * @return The name of the profile
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the index of the slot the profile applies to the given display.
+     *
+     * @param displayIndex
+     *            - The index of the display to get the slot index for
+     *
+     * @return The index of the slot to apply to the display, or NO_SLOT if the profile leaves the display unchanged
+     */
+    public int getSlotIndex(int displayIndex) {
+        return slotIndexes[displayIndex];
+    }
+
+    /**
+     * Gets the hot key of the profile.
+     *
+     * @return The hot key of the profile
+     */
+    public HotKey getHotKey() {
+        return hotKey;
+    }
+
+    /**
+     * Checks if the given profile has the same name, slot for each display, and hot key keys as this profile.
+     *
+     * @param otherProfile
+     *            - The profile to compare against
+     *
+     * @return True if both profiles would apply and trigger the same way, false otherwise
+     */
+    public boolean matches(Profile otherProfile) {
+        return Objects.equals(name, otherProfile.name) && Arrays.equals(slotIndexes, otherProfile.slotIndexes)
+                && hotKey.getKeys().equals(otherProfile.hotKey.getKeys());
+    }
+
+}
@@ -19,19 +19,24 @@
  */
 package com.dhk.model;
 
-import java.util.Objects;
-
 /**
  * An immutable exact refresh rate held as a rational (numerator / denominator) so a fractional rate such as 119.88 Hz
  * (120000 / 1001) is represented without loss. It is the refresh-rate half of a {@link DisplayMode}, letting the view
- * present resolution and refresh rate as separate selections that recombine into a display mode.
+ * present resolution and refresh rate as separate selections that recombine into a display mode. Instances are
+ * interned by {@link #of(int, int)}, so the formatted label is built once per rate instead of on every cell paint. An
+ * instance is released once nothing uses it.
  *
  * @author Jonathan R. Miller
  */
 public class RefreshRate {
 
+    private static final WeakInterner<Long, RefreshRate> INTERNED = new WeakInterner<Long, RefreshRate>();
+
     private final int numerator;
     private final int denominator;
+    private final int hashCode;
+    private final String formattedValue;
+    private final String label;
 
     /**
      * Constructor for the {@link RefreshRate} class.
@@ -41,9 +46,28 @@ public class RefreshRate {
      * @param denominator
      *            - The denominator of the exact refresh rate (Hz = numerator / denominator)
      */
-    public RefreshRate(int numerator, int denominator) {
+    private RefreshRate(int numerator, int denominator) {
         this.numerator = numerator;
         this.denominator = denominator;
+        hashCode = 31 * numerator + denominator;
+        formattedValue = format(numerator, denominator);
+        label = formattedValue + " Hz";
+    }
+
+    /**
+     * Gets the shared instance of the specified refresh rate, creating it the first time the rate is seen.
+     *
+     * @param numerator
+     *            - The numerator of the exact refresh rate (Hz = numerator / denominator)
+     * @param denominator
+     *            - The denominator of the exact refresh rate (Hz = numerator / denominator)
+     *
+     * @return The shared instance of the refresh rate
+     */
+    public static RefreshRate of(int numerator, int denominator) {
+        long key = ((long) numerator << 32) | (denominator & 0xFFFFFFFFL);
+
+        return INTERNED.intern(key, unused -> new RefreshRate(numerator, denominator));
     }
 
     /**
@@ -73,6 +97,15 @@ public class RefreshRate {
         return denominator == 0 ? 0.0 : (double) numerator / denominator;
     }
 
+    /**
+     * Gets the formatted refresh rate value without a unit, as built by {@link #format(int, int)}.
+     *
+     * @return The formatted refresh rate value without a unit
+     */
+    String getFormattedValue() {
+        return formattedValue;
+    }
+
     /**
      * Formats a rational refresh rate as a whole number when it is exactly integral, otherwise to two decimal places so
      * a fractional NTSC rate reads the way Windows Display Settings shows it (for example 119.88). The returned value
@@ -85,7 +118,7 @@ public class RefreshRate {
      *
      * @return The formatted refresh rate value without a unit
      */
-    static String format(int numerator, int denominator) {
+    private static String format(int numerator, int denominator) {
         double refreshRateHz = denominator == 0 ? 0.0 : (double) numerator / denominator;
 
         if (denominator == 1 || refreshRateHz == Math.rint(refreshRateHz)) {
@@ -112,12 +145,12 @@ public class RefreshRate {
 
     @Override
     public int hashCode() {
-        return Objects.hash(numerator, denominator);
+        return hashCode;
     }
 
     @Override
     public String toString() {
-        return format(numerator, denominator) + " Hz";
+        return label;
     }
 
 }
@@ -19,18 +19,22 @@
  */
 package com.dhk.model;
 
-import java.util.Objects;
-
 /**
  * An immutable pixel resolution (width by height). It is the resolution half of a {@link DisplayMode}, letting the view
- * present resolution and refresh rate as separate selections that recombine into a display mode.
+ * present resolution and refresh rate as separate selections that recombine into a display mode. Instances are
+ * interned by {@link #of(int, int)}, so every producer shares one instance per resolution and its hash code and label
+ * are computed once rather than on every lookup and cell paint. An instance is released once nothing uses it.
  *
  * @author Jonathan R. Miller
  */
 public class Resolution {
 
+    private static final WeakInterner<Long, Resolution> INTERNED = new WeakInterner<Long, Resolution>();
+
     private final int width;
     private final int height;
+    private final int hashCode;
+    private final String label;
 
     /**
      * Constructor for the {@link Resolution} class.
@@ -40,9 +44,27 @@ public class Resolution {
      * @param height
      *            - The vertical resolution in pixels
      */
-    public Resolution(int width, int height) {
+    private Resolution(int width, int height) {
         this.width = width;
         this.height = height;
+        hashCode = 31 * width + height;
+        label = width + " x " + height;
+    }
+
+    /**
+     * Gets the shared instance of the specified resolution, creating it the first time the resolution is seen.
+     *
+     * @param width
+     *            - The horizontal resolution in pixels
+     * @param height
+     *            - The vertical resolution in pixels
+     *
+     * @return The shared instance of the resolution
+     */
+    public static Resolution of(int width, int height) {
+        long key = ((long) width << 32) | (height & 0xFFFFFFFFL);
+
+        return INTERNED.intern(key, unused -> new Resolution(width, height));
     }
 
     /**
@@ -80,12 +102,12 @@ public class Resolution {
 
     @Override
     public int hashCode() {
-        return Objects.hash(width, height);
+        return hashCode;
     }
 
     @Override
     public String toString() {
-        return width + " x " + height;
+        return label;
     }
 
 }
@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright © 2026 Jonathan R. Miller
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and
+ * to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+package com.dhk.model;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Interns immutable values by key while holding them only weakly, so a value is shared by every producer for as long
+ * as anything still uses it, and is released once nothing does. The display modes of every display ever connected
+ * would otherwise stay interned for the life of the application. The key must not reference its value, or the value
+ * could never be released.
+ *
+ * @param <K>
+ *            - Key type
+ * @param <V>
+ *            - Value type
+ *
+ * @author Jonathan R. Miller
+ */
+class WeakInterner<K, V> {
+
+    private final Map<K, InternedReference<K, V>> interned;
+    private final ReferenceQueue<V> releasedValues;
+
+    /**
+     * Default constructor for the {@link WeakInterner} class.
+     */
+    WeakInterner() {
+        interned = new HashMap<K, InternedReference<K, V>>();
+        releasedValues = new ReferenceQueue<V>();
+    }
+
+    /**
+     * Gets the shared value for the given key, creating it with the given factory if no live value is interned for it.
+     *
+     * @param key
+     *            - The key of the value
+     * @param factory
+     *            - Creates the value for the key the first time it is seen, or after its value was released
+     *
+     * @return The shared value for the key
+     */
+    synchronized V intern(K key, Function<K, V> factory) {
+        removeReleasedValues();
+
+        InternedReference<K, V> reference = interned.get(key);
+        V value = reference != null ? reference.get() : null;
+
+        if (value == null) {
+            value = factory.apply(key);
+            interned.put(key, new InternedReference<K, V>(key, value, releasedValues));
+        }
+
+        return value;
+    }
+
+    /**
+     * Removes the entry of every value the garbage collector released since the last call.
+     */
+    private void removeReleasedValues() {
+        Reference<? extends V> released;
+
+        while ((released = releasedValues.poll()) != null) {
+            InternedReference<?, ?> reference = (InternedReference<?, ?>) released;
+
+            // A value interned again under the same key has a new entry, so only remove the entry of the released one
+            interned.remove(reference.key, reference);
+        }
+    }
+
+    /**
+     * A weak reference to an interned value that remembers its key, so its entry can be removed once it is released.
+     *
+     * @param <K>
+     *            - Key type
+     * @param <V>
+     *            - Value type
+     */
+    private static class InternedReference<K, V> extends WeakReference<V> {
+
+        private final K key;
+
+        /**
+         * Constructor for the {@link InternedReference} class.
+         *
+         * @param key
+         *            - The key the value is interned under
+         * @param value
+         *            - The interned value
+         * @param releasedValues
+         *            - The queue the reference is added to once the value is released
+         */
+        private InternedReference(K key, V value, ReferenceQueue<V> releasedValues) {
+            super(value, releasedValues);
+            this.key = key;
+        }
+
+    }
+
+}
@@ -28,6 +28,7 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 
 import javax.swing.BorderFactory;
+import javax.swing.Icon;
 import javax.swing.JButton;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
@@ -36,7 +37,7 @@ import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 import javax.swing.UIManager;
 
-import com.formdev.flatlaf.extras.FlatSVGIcon;
+import com.dhk.utility.IconCache;
 
 /**
  * Defines an abstract button that implements the icon change action and defines the update methods for a button. This
@@ -99,7 +100,8 @@ public abstract class AbstractButton extends JButton {
     }
 
     /**
-     * Gets an SVG icon for the resource at the given path with the given image scale percentage.
+     * Gets an SVG icon for the resource at the given path with the given image scale percentage. The icon is shared
+     * through the process-wide icon cache, so every button showing the same resource at the same scale reuses it.
      *
      * @param path
      *            - The path to the icon resource
@@ -108,8 +110,8 @@ public abstract class AbstractButton extends JButton {
      *
      * @return The SVG icon for the resource at the given path with the given image scale percentage
      */
-    protected FlatSVGIcon getSvgIcon(String path, float scale) {
-        return new FlatSVGIcon(getClass().getResource(path)).derive(scale);
+    protected Icon getSvgIcon(String path, float scale) {
+        return IconCache.getSvgIcon(path, scale);
     }
 
     /**
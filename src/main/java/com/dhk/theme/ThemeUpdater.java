@@ -19,15 +19,24 @@
  */
 package com.dhk.theme;
 
+import java.awt.Toolkit;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import javax.swing.UIDefaults;
+import javax.swing.UIManager;
+
 import com.formdev.flatlaf.FlatDarculaLaf;
 import com.formdev.flatlaf.FlatIntelliJLaf;
 import com.formdev.flatlaf.FlatLaf;
 import com.formdev.flatlaf.extras.FlatAnimatedLafChange;
 import com.formdev.flatlaf.fonts.roboto.FlatRobotoFont;
+import com.formdev.flatlaf.util.UIScale;
 
 /**
  * Sets the theme for the application. It allows the theme of the application to be switched between Light and Dark
- * themes.
+ * themes. Each theme's UI defaults are computed once and reused on every later switch to that theme while the system
+ * font and zoom factor stay the same, and switching to the theme that is already active is skipped entirely.
  *
  * @author Jonathan R. Miller
  */
@@ -59,24 +68,109 @@ public class ThemeUpdater {
     }
 
     /**
-     * Updates the "look and feel" of the app.
+     * Updates the "look and feel" of the app, doing nothing if the requested theme is already active. Only the look and
+     * feel is switched; the caller updates the UI of the component trees it owns, so each tree is updated exactly once.
      *
      * @param darkMode
      *            - Whether or not the dark mode "look and feel" should be applied or not
+     *
+     * @return True if the theme changed and the component trees have to be updated, false otherwise
      */
-    public void useDarkMode(boolean darkMode) {
+    public boolean useDarkMode(boolean darkMode) {
+        if (FlatLaf.isLafDark() == darkMode && UIManager.getLookAndFeel() instanceof FlatLaf) {
+            return false;
+        }
+
         FlatAnimatedLafChange.showSnapshot();
 
         if (darkMode) {
             // Apply the dark theme
-            FlatDarculaLaf.setup();
+            FlatLaf.setup(new DarkLaf());
         } else {
             // Apply the light theme
-            FlatIntelliJLaf.setup();
+            FlatLaf.setup(new LightLaf());
         }
 
-        FlatLaf.updateUI();
         FlatAnimatedLafChange.hideSnapshotWithAnimation();
+
+        return true;
+    }
+
+    /**
+     * Computes the UI defaults of both themes ahead of their first use, so even the first switch to either theme only
+     * re-installs the component trees. Computing the defaults initializes the look and feel's fonts and scaling
+     * state, so this must be called on the AWT event dispatch thread once the global theme setup has run.
+     */
+    public static void precomputeDefaults() {
+        new LightLaf().getDefaults();
+        new DarkLaf().getDefaults();
+    }
+
+    /**
+     * The light theme, computing its UI defaults only the first time they are asked for.
+     */
+    private static class LightLaf extends FlatIntelliJLaf {
+
+        private static final long serialVersionUID = 1L;
+        private static final CachedDefaults CACHED_DEFAULTS = new CachedDefaults();
+
+        @Override
+        public UIDefaults getDefaults() {
+            return CACHED_DEFAULTS.get(super::getDefaults);
+        }
+
+    }
+
+    /**
+     * The dark theme, computing its UI defaults only the first time they are asked for.
+     */
+    private static class DarkLaf extends FlatDarculaLaf {
+
+        private static final long serialVersionUID = 1L;
+        private static final CachedDefaults CACHED_DEFAULTS = new CachedDefaults();
+
+        @Override
+        public UIDefaults getDefaults() {
+            return CACHED_DEFAULTS.get(super::getDefaults);
+        }
+
+    }
+
+    /**
+     * The UI defaults of one theme, kept for as long as the system font and the zoom factor they were computed for
+     * stay the same. Handing the same table to the UI manager on every switch is safe because the app's own
+     * UIManager.put overrides live in the UI manager's developer layer above the theme's table, and the lazy values
+     * the table resolves in place only depend on the font and scale it is keyed on. A new system font size or zoom
+     * factor computes a fresh table, so the theme never restores fonts or sizes scaled for the old one.
+     */
+    private static class CachedDefaults {
+
+        private UIDefaults defaults;
+        private Object systemFont;
+        private float zoomFactor;
+
+        /**
+         * Gets the cached UI defaults, computing them again if the system font or the zoom factor changed.
+         *
+         * @param computeDefaults
+         *            - Computes the theme's UI defaults from scratch
+         *
+         * @return The UI defaults for the current system font and zoom factor
+         */
+        public synchronized UIDefaults get(Supplier<UIDefaults> computeDefaults) {
+            // The theme derives its default font size from the Windows message box font
+            Object currentSystemFont = Toolkit.getDefaultToolkit().getDesktopProperty("win.messagebox.font");
+            float currentZoomFactor = UIScale.getZoomFactor();
+
+            if (defaults == null || !Objects.equals(systemFont, currentSystemFont) || zoomFactor != currentZoomFactor) {
+                defaults = computeDefaults.get();
+                systemFont = currentSystemFont;
+                zoomFactor = currentZoomFactor;
+            }
+
+            return defaults;
+        }
+
     }
 
 }
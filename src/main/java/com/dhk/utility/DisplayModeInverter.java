@@ -49,7 +49,7 @@ public class DisplayModeInverter {
         int refreshDenominator = displayMode.getRefreshDenominator();
 
         // Swap the width and height for the inverted display mode, preserving the exact refresh rate
-        DisplayMode invertedDisplayMode = new DisplayMode(height, width, refreshNumerator, refreshDenominator);
+        DisplayMode invertedDisplayMode = DisplayMode.of(height, width, refreshNumerator, refreshDenominator);
 
         return invertedDisplayMode;
     }
@@ -0,0 +1,430 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright © 2026 Jonathan R. Miller
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and
+ * to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+package com.dhk.utility;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Watches the AWT event dispatch thread for stalls. Every event is dispatched through a monitored event queue that
+ * records when the current dispatch began, and a low-priority daemon thread polls that time. When a dispatch runs past
+ * the stall threshold, the watchdog captures the dispatch thread's stack while it is still stuck; once the dispatch
+ * finishes, its duration and captured stack are appended to a bounded log file next to the settings file, and the
+ * worst stalls of the session are kept for the about dialog. The threshold defaults to 50 ms and can be changed with
+ * the "dhk.edtStallThresholdMs" system property.
+ *
+ * @author Jonathan R. Miller
+ */
+public class EdtWatchdog {
+
+    /**
+     * The default number of milliseconds a dispatch may run before it is considered a stall.
+     */
+    private static final int DEFAULT_STALL_THRESHOLD_MS = 50;
+
+    /**
+     * The system property that overrides the stall threshold in milliseconds.
+     */
+    private static final String STALL_THRESHOLD_PROPERTY = "dhk.edtStallThresholdMs";
+
+    /**
+     * The number of stack frames logged for each stall, which is enough to reach the application's own code from any
+     * Swing or native frame it is blocked in.
+     */
+    private static final int MAX_LOGGED_FRAMES = 32;
+
+    /**
+     * The size at which the stall log rolls over to its previous-segment file, bounding the log to twice this size.
+     */
+    private static final long MAX_LOG_SEGMENT_BYTES = 256 * 1024;
+
+    /**
+     * The number of worst stalls kept for the session.
+     */
+    private static final int MAX_WORST_STALLS = 3;
+
+    private static final String STALL_LOG_PATH = System.getProperty("user.home")
+            + "\\Documents\\DisplayHotKeys\\edt-stalls.log";
+
+    private static final String PREVIOUS_STALL_LOG_PATH = STALL_LOG_PATH + ".1";
+
+    private static final long stallThresholdNanos = Integer.getInteger(STALL_THRESHOLD_PROPERTY,
+            DEFAULT_STALL_THRESHOLD_MS) * 1_000_000L;
+
+    /**
+     * The stalls waiting to be written to the log by the watchdog thread.
+     */
+    private static final Queue<Stall> pendingStalls = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The worst stalls of the session, longest first. Guarded by the list itself.
+     */
+    private static final List<Stall> worstStalls = new ArrayList<>();
+
+    private static volatile boolean started;
+
+    /**
+     * The dispatch thread and the start time and ID of the dispatch it is running, written by the monitored event
+     * queue and polled by the watchdog thread. A start time of 0 means no dispatch is running.
+     */
+    private static volatile Thread dispatchThread;
+    private static volatile long dispatchStart;
+    private static volatile long dispatchId;
+
+    /**
+     * The stack the watchdog captured for the dispatch that is stuck, tagged with that dispatch's ID.
+     */
+    private static volatile StackCapture stackCapture;
+
+    /**
+     * Default constructor for the {@link EdtWatchdog} class.
+     */
+    public EdtWatchdog() {
+    }
+
+    /**
+     * Pushes the monitored event queue and starts the watchdog thread. Starting the watchdog again has no effect.
+     */
+    public static synchronized void start() {
+        if (started) {
+            return;
+        }
+
+        started = true;
+
+        // The pushed queue takes over the existing dispatch thread, so events already posted are monitored as well
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new MonitoredEventQueue());
+
+        // Poll at half the threshold so a stall is always caught while it is still running
+        long pollIntervalMs = Math.max(10, stallThresholdNanos / 2_000_000L);
+
+        Thread watchdogThread = new Thread(() -> {
+            while (true) {
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                captureStuckDispatch();
+                writePendingStalls();
+            }
+        }, "DisplayHotKeys-EdtWatchdog");
+
+        watchdogThread.setDaemon(true);
+        watchdogThread.setPriority(Thread.MIN_PRIORITY);
+        watchdogThread.start();
+    }
+
+    /**
+     * Captures the dispatch thread's stack if the current dispatch has run past the stall threshold and has not had its
+     * stack captured yet. The capture is discarded if the dispatch finished while the stack was being taken.
+     */
+    private static void captureStuckDispatch() {
+        Thread thread = dispatchThread;
+        long id = dispatchId;
+        long start = dispatchStart;
+
+        if (thread == null || start == 0 || System.nanoTime() - start < stallThresholdNanos) {
+            return;
+        }
+
+        StackCapture capture = stackCapture;
+
+        if (capture != null && capture.dispatchId == id) {
+            return;
+        }
+
+        StackTraceElement[] stack = thread.getStackTrace();
+
+        if (dispatchId == id) {
+            stackCapture = new StackCapture(id, stack);
+        }
+    }
+
+    /**
+     * Records a dispatch that ran past the stall threshold, along with the stack the watchdog captured for it.
+     *
+     * @param id
+     *            - The ID of the dispatch
+     * @param event
+     *            - The event that was dispatched
+     * @param durationNanos
+     *            - How long the dispatch ran, excluding any nested dispatches and the waits for them
+     */
+    private static void recordStall(long id, AWTEvent event, long durationNanos) {
+        StackCapture capture = stackCapture;
+        StackTraceElement[] stack = (capture != null && capture.dispatchId == id) ? capture.stack : null;
+        String source = (event.getSource() == null) ? "null" : event.getSource().getClass().getSimpleName();
+        Stall stall = new Stall(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS), durationNanos / 1_000_000L,
+                event.getClass().getSimpleName() + " from " + source, stack);
+
+        pendingStalls.add(stall);
+
+        synchronized (worstStalls) {
+            int insertIndex = 0;
+
+            while (insertIndex < worstStalls.size() && worstStalls.get(insertIndex).durationMs >= stall.durationMs) {
+                insertIndex++;
+            }
+
+            if (insertIndex < MAX_WORST_STALLS) {
+                worstStalls.add(insertIndex, stall);
+
+                if (worstStalls.size() > MAX_WORST_STALLS) {
+                    worstStalls.remove(MAX_WORST_STALLS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends the pending stalls to the stall log, first rolling the log over to its previous-segment file once it has
+     * grown past its segment size.
+     */
+    private static void writePendingStalls() {
+        if (pendingStalls.isEmpty()) {
+            return;
+        }
+
+        File logFile = new File(STALL_LOG_PATH);
+
+        if (logFile.length() > MAX_LOG_SEGMENT_BYTES) {
+            File previousLogFile = new File(PREVIOUS_STALL_LOG_PATH);
+            previousLogFile.delete();
+            logFile.renameTo(previousLogFile);
+        }
+
+        logFile.getParentFile().mkdirs();
+
+        try (PrintWriter writer = new PrintWriter(new FileWriter(logFile, true))) {
+            Stall stall;
+
+            while ((stall = pendingStalls.poll()) != null) {
+                writer.println(stall.time + " EDT stall of " + stall.durationMs + " ms dispatching " + stall.event);
+
+                if (stall.stack == null) {
+                    writer.println("\t(finished before its stack could be captured)");
+                } else {
+                    int frameCount = Math.min(stall.stack.length, MAX_LOGGED_FRAMES);
+
+                    for (int frameIndex = 0; frameIndex < frameCount; frameIndex++) {
+                        writer.println("\tat " + stall.stack[frameIndex]);
+                    }
+                }
+
+                writer.println();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Gets a one-line summary of each of the session's worst stalls, longest first, naming the application code the
+     * dispatch thread was stuck in where it was captured.
+     *
+     * @return The summaries of the session's worst stalls, or an empty list if there were none
+     */
+    public static List<String> getWorstStallSummaries() {
+        List<String> summaries = new ArrayList<>();
+
+        synchronized (worstStalls) {
+            for (Stall stall : worstStalls) {
+                summaries.add(stall.durationMs + " ms in " + stall.getLocation());
+            }
+        }
+
+        return summaries;
+    }
+
+    /**
+     * Gets the number of milliseconds a dispatch may run before it is considered a stall.
+     *
+     * @return The stall threshold in milliseconds
+     */
+    public static long getStallThresholdMs() {
+        return stallThresholdNanos / 1_000_000L;
+    }
+
+    /**
+     * An event queue that times every dispatch for the watchdog. A modal dialog or other secondary loop waits for and
+     * dispatches nested events from within an outer dispatch, so the outer dispatch's clock is paused both while the
+     * loop waits for its next event and while the nested dispatch runs; only the time the outer dispatch spends
+     * executing counts, and a modal dialog that is merely open is never reported as a stall.
+     */
+    private static class MonitoredEventQueue extends EventQueue {
+
+        private long nextDispatchId;
+
+        @Override
+        public AWTEvent getNextEvent() throws InterruptedException {
+            long waitingDispatchStart = dispatchStart;
+
+            // Only a secondary loop asks for an event while a dispatch is running
+            if (waitingDispatchStart == 0) {
+                return super.getNextEvent();
+            }
+
+            long waitStart = System.nanoTime();
+
+            // The loop is idle while it waits, so the watchdog must not take the waiting dispatch for a stuck one
+            dispatchStart = 0;
+
+            try {
+                return super.getNextEvent();
+            } finally {
+                dispatchStart = waitingDispatchStart + (System.nanoTime() - waitStart);
+            }
+        }
+
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            long outerStart = dispatchStart;
+            long outerId = dispatchId;
+            long id = ++nextDispatchId;
+            long start = System.nanoTime();
+
+            if (dispatchThread != Thread.currentThread()) {
+                dispatchThread = Thread.currentThread();
+            }
+
+            dispatchId = id;
+            dispatchStart = start;
+
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                long end = System.nanoTime();
+
+                // Nested waits and dispatches moved this dispatch's start forward by the time they took
+                long durationNanos = end - dispatchStart;
+
+                if (durationNanos >= stallThresholdNanos) {
+                    recordStall(id, event, durationNanos);
+                }
+
+                dispatchId = outerId;
+                dispatchStart = (outerStart == 0) ? 0 : outerStart + (end - start);
+            }
+        }
+
+    }
+
+    /**
+     * A stack of the dispatch thread captured while a dispatch was stuck.
+     */
+    private static class StackCapture {
+
+        private final long dispatchId;
+        private final StackTraceElement[] stack;
+
+        /**
+         * Constructor for the {@link StackCapture} class.
+         *
+         * @param dispatchId
+         *            - The ID of the dispatch the stack was captured for
+         * @param stack
+         *            - The captured stack
+         */
+        private StackCapture(long dispatchId, StackTraceElement[] stack) {
+            this.dispatchId = dispatchId;
+            this.stack = stack;
+        }
+
+    }
+
+    /**
+     * A dispatch that ran past the stall threshold.
+     */
+    private static class Stall {
+
+        private final LocalDateTime time;
+        private final long durationMs;
+        private final String event;
+        private final StackTraceElement[] stack;
+
+        /**
+         * Constructor for the {@link Stall} class.
+         *
+         * @param time
+         *            - When the stall ended
+         * @param durationMs
+         *            - How long the dispatch ran in milliseconds
+         * @param event
+         *            - A description of the dispatched event
+         * @param stack
+         *            - The stack captured while the dispatch was stuck, or null if none was captured
+         */
+        private Stall(LocalDateTime time, long durationMs, String event, StackTraceElement[] stack) {
+            this.time = time;
+            this.durationMs = durationMs;
+            this.event = event;
+            this.stack = stack;
+        }
+
+        /**
+         * Gets the innermost application method the dispatch was stuck in, falling back to the top of the captured
+         * stack, or to the dispatched event when no stack was captured.
+         *
+         * @return The location of the stall
+         */
+        private String getLocation() {
+            if (stack == null || stack.length == 0) {
+                return event;
+            }
+
+            for (StackTraceElement frame : stack) {
+                // The monitored event queue is below every dispatch, so it never counts as the application's own code
+                if (frame.getClassName().startsWith("com.dhk.")
+                        && !frame.getClassName().startsWith(EdtWatchdog.class.getName())) {
+                    return simpleClassName(frame.getClassName()) + "." + frame.getMethodName();
+                }
+            }
+
+            return simpleClassName(stack[0].getClassName()) + "." + stack[0].getMethodName();
+        }
+
+        /**
+         * Strips the package from a fully qualified class name.
+         *
+         * @param className
+         *            - The fully qualified class name
+         *
+         * @return The class name without its package
+         */
+        private static String simpleClassName(String className) {
+            return className.substring(className.lastIndexOf('.') + 1);
+        }
+
+    }
+
+}
@@ -28,6 +28,7 @@ import java.awt.Insets;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.Toolkit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.swing.JFrame;
 import javax.swing.JPanel;
@@ -64,9 +65,11 @@ public class FrameUtil {
     public static final int REFRESH_DELAY_MS = 400;
 
     /**
-     * Guards against stacking native-surface reclaim collections when in-place refreshes arrive back to back.
+     * The number of times each refresh level has run, so the cost of the refresh paths can be observed.
      */
-    private static volatile boolean nativeReclaimInProgress;
+    private static final AtomicLong layoutRefreshCount = new AtomicLong();
+    private static final AtomicLong uiRefreshCount = new AtomicLong();
+    private static final AtomicLong fullRefreshCount = new AtomicLong();
 
     /**
      * Default constructor for the {@link FrameUtil} class.
@@ -123,8 +126,45 @@ public class FrameUtil {
     }
 
     /**
-     * Refreshes a frame's UI, then re-fits it to the working area of the display it currently occupies. Absorbs any
-     * pack shortfall afterward so every refresh path settles the as-needed scroll bars, not only the initial build.
+     * Re-lays out a frame after only the arrangement or text of already-styled components changed, then re-fits it to
+     * the working area of the display it currently occupies. This is the cheapest refresh level, suited to slot count
+     * and display selection changes and to hot key text changes.
+     *
+     * @param frame
+     *            - The frame to re-lay out
+     */
+    public static void relayoutFrame(JFrame frame) {
+        if (frame == null || !frame.isDisplayable()) {
+            return;
+        }
+
+        layoutRefreshCount.incrementAndGet();
+        refitFrame(frame);
+        frame.repaint();
+    }
+
+    /**
+     * Re-installs the UI delegates of a frame's component tree so a new look and feel or theme takes effect, then
+     * re-lays out the frame as {@link #relayoutFrame(JFrame)} does.
+     *
+     * @param frame
+     *            - The frame whose UI delegates to refresh
+     */
+    public static void refreshFrameUI(JFrame frame) {
+        if (frame == null || !frame.isDisplayable()) {
+            return;
+        }
+
+        uiRefreshCount.incrementAndGet();
+        SwingUtilities.updateComponentTreeUI(frame);
+        refitFrame(frame);
+        frame.repaint();
+    }
+
+    /**
+     * Fully refreshes a frame after it may have moved to a display with different metrics: re-installs the UI
+     * delegates, re-lays out and re-fits the frame, then releases the native surfaces left behind by re-rendering
+     * across displays. This is the most expensive refresh level, so it is reserved for display changes.
      *
      * @param frame
      *            - The frame to refresh
@@ -134,12 +174,54 @@ public class FrameUtil {
             return;
         }
 
+        fullRefreshCount.incrementAndGet();
+        SwingUtilities.updateComponentTreeUI(frame);
+        refitFrame(frame);
+        frame.repaint();
+        SurfaceReclaimer.reclaim(frame);
+    }
+
+    /**
+     * Gets the number of layout-only refreshes run by {@link #relayoutFrame(JFrame)}.
+     *
+     * @return The number of layout-only refreshes
+     */
+    public static long getLayoutRefreshCount() {
+        return layoutRefreshCount.get();
+    }
+
+    /**
+     * Gets the number of UI delegate refreshes run by {@link #refreshFrameUI(JFrame)}.
+     *
+     * @return The number of UI delegate refreshes
+     */
+    public static long getUIRefreshCount() {
+        return uiRefreshCount.get();
+    }
+
+    /**
+     * Gets the number of full refreshes run by {@link #refreshFrame(JFrame)}.
+     *
+     * @return The number of full refreshes
+     */
+    public static long getFullRefreshCount() {
+        return fullRefreshCount.get();
+    }
+
+    /**
+     * Revalidates the frame's content, re-packs it and re-fits it to the working area of the display it currently
+     * occupies. Absorbs any pack shortfall afterward so every refresh level settles the as-needed scroll bars, not only
+     * the initial build.
+     *
+     * @param frame
+     *            - The frame to re-fit
+     */
+    private static void refitFrame(JFrame frame) {
         JScrollPane scrollPane = frameScrollPane(frame);
         JPanel mainPanel = scrollContentPanel(scrollPane);
 
         updateCachedDisplayMetrics(frame);
 
-        SwingUtilities.updateComponentTreeUI(frame);
         mainPanel.revalidate();
         scrollPane.revalidate();
         repackAndFitToScreen(frame, scrollPane);
@@ -147,33 +229,6 @@ public class FrameUtil {
 
         // The frame is already realized here, so its client area is laid out and the shortfall can settle in place
         settleScrollBars(frame, scrollPane, cachedWorkingAreaSize(frame));
-
-        frame.repaint();
-        scheduleNativeSurfaceReclaim();
-    }
-
-    /**
-     * Schedules a background collection after an in-place refresh to reclaim the native back-buffer surfaces AWT
-     * orphans while re-rendering across displays.
-     */
-    private static void scheduleNativeSurfaceReclaim() {
-        if (nativeReclaimInProgress) {
-            return;
-        }
-
-        nativeReclaimInProgress = true;
-
-        // Collect off the EDT so a refresh never stalls on the GC
-        Thread reclaimThread = new Thread(() -> {
-            try {
-                System.gc();
-            } finally {
-                nativeReclaimInProgress = false;
-            }
-        }, "DisplayHotKeys-NativeSurfaceReclaim");
-
-        reclaimThread.setDaemon(true);
-        reclaimThread.start();
     }
 
     /**
@@ -0,0 +1,312 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright © 2026 Jonathan R. Miller
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and
+ * to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+package com.dhk.utility;
+
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.lang.ref.SoftReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.swing.Icon;
+
+import com.formdev.flatlaf.FlatLaf.DisabledIconProvider;
+import com.formdev.flatlaf.extras.FlatSVGIcon;
+
+/**
+ * Provides a process-wide cache of SVG icons for the application's buttons. Every button asking for the same resource
+ * at the same scale shares one icon, so each SVG document is parsed once however many slots and displays show it, and
+ * each icon paints from an image rasterized once per theme and screen scale factor instead of re-rendering the vector
+ * document on every paint. Both the icons and the rasterized images are held through soft references, so the cache
+ * gives way under memory pressure and is refilled on demand.
+ *
+ * @author Jonathan R. Miller
+ */
+public class IconCache {
+
+    private static final Map<String, SoftReference<CachedSvgIcon>> ICONS = new ConcurrentHashMap<>();
+    private static final Map<String, SoftReference<BufferedImage>> IMAGES = new ConcurrentHashMap<>();
+    private static final AtomicLong hitCount = new AtomicLong();
+    private static final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Default constructor for the {@link IconCache} class.
+     */
+    public IconCache() {
+    }
+
+    /**
+     * Gets the shared icon for the SVG resource at the given path with the given image scale percentage.
+     *
+     * @param path
+     *            - The path to the icon resource
+     * @param scale
+     *            - The image scale percentage
+     *
+     * @return The shared icon for the resource at the given path with the given image scale percentage
+     */
+    public static Icon getSvgIcon(String path, float scale) {
+        return getSvgIcon(path, scale, false);
+    }
+
+    /**
+     * Parses the SVG resource at the given path and rasterizes it, and its disabled variant, for the current theme and
+     * the given screen scale factor, so the first paint of the icon finds its image already cached. Safe to call off
+     * the AWT event dispatch thread; the images are published to the painting side through the concurrent cache.
+     *
+     * @param path
+     *            - The path to the icon resource
+     * @param scale
+     *            - The image scale percentage
+     * @param scaleFactor
+     *            - The screen scale factor to rasterize the icon at
+     */
+    public static void warmUp(String path, float scale, double scaleFactor) {
+        boolean dark = FlatSVGIcon.isDarkLaf();
+
+        getSvgIcon(path, scale, false).loadImage(null, dark, scaleFactor);
+        getSvgIcon(path, scale, true).loadImage(null, dark, scaleFactor);
+    }
+
+    /**
+     * Gets the number of icon and image requests that were served from the cache.
+     *
+     * @return The number of cache hits
+     */
+    public static long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of icon and image requests that had to parse or rasterize an SVG document.
+     *
+     * @return The number of cache misses
+     */
+    public static long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Gets the shared icon, or the shared disabled icon, for the SVG resource at the given path with the given image
+     * scale percentage.
+     *
+     * @param path
+     *            - The path to the icon resource
+     * @param scale
+     *            - The image scale percentage
+     * @param disabled
+     *            - Whether to get the disabled variant of the icon
+     *
+     * @return The shared icon for the resource at the given path with the given image scale percentage
+     */
+    private static CachedSvgIcon getSvgIcon(String path, float scale, boolean disabled) {
+        String key = path + "@" + scale + (disabled ? "#disabled" : "");
+        SoftReference<CachedSvgIcon> iconReference = ICONS.get(key);
+        CachedSvgIcon icon = (iconReference != null) ? iconReference.get() : null;
+
+        if (icon != null) {
+            hitCount.incrementAndGet();
+            return icon;
+        }
+
+        missCount.incrementAndGet();
+
+        FlatSVGIcon svgIcon = new FlatSVGIcon(IconCache.class.getResource(path)).derive(scale);
+        icon = new CachedSvgIcon(key, path, scale, disabled, disabled ? svgIcon.getDisabledIcon() : svgIcon);
+        ICONS.put(key, new SoftReference<>(icon));
+
+        return icon;
+    }
+
+    /**
+     * An SVG icon shared through the cache. It paints from an image rasterized for the current theme and the screen
+     * scale factor of the graphics it is painted to, keeping the most recently used image at hand so a repeated paint
+     * needs no cache lookup at all.
+     */
+    private static class CachedSvgIcon implements Icon, DisabledIconProvider {
+
+        private final String key;
+        private final String path;
+        private final float scale;
+        private final boolean disabled;
+        private final Icon svgIcon;
+        private SoftReference<BufferedImage> lastImage;
+        private boolean lastDark;
+        private double lastScaleFactor;
+
+        /**
+         * Constructor for the {@link CachedSvgIcon} class.
+         *
+         * @param key
+         *            - The key of the icon in the cache
+         * @param path
+         *            - The path to the icon resource
+         * @param scale
+         *            - The image scale percentage
+         * @param disabled
+         *            - Whether this is the disabled variant of the icon
+         * @param svgIcon
+         *            - The SVG icon to rasterize
+         */
+        CachedSvgIcon(String key, String path, float scale, boolean disabled, Icon svgIcon) {
+            this.key = key;
+            this.path = path;
+            this.scale = scale;
+            this.disabled = disabled;
+            this.svgIcon = svgIcon;
+        }
+
+        @Override
+        public int getIconWidth() {
+            return svgIcon.getIconWidth();
+        }
+
+        @Override
+        public int getIconHeight() {
+            return svgIcon.getIconHeight();
+        }
+
+        @Override
+        public Icon getDisabledIcon() {
+            return disabled ? this : IconCache.getSvgIcon(path, scale, true);
+        }
+
+        @Override
+        public void paintIcon(Component component, Graphics graphics, int x, int y) {
+            AffineTransform transform = (graphics instanceof Graphics2D)
+                    ? ((Graphics2D) graphics).getTransform()
+                    : null;
+            int scaledTypes = AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_UNIFORM_SCALE;
+
+            // Only a translated and uniformly scaled target maps the rasterized image onto whole device pixels
+            if (transform == null || (transform.getType() & ~scaledTypes) != 0) {
+                svgIcon.paintIcon(component, graphics, x, y);
+                return;
+            }
+
+            double scaleFactor = transform.getScaleX();
+            BufferedImage image = getImage(component, scaleFactor);
+            Graphics2D deviceGraphics = (Graphics2D) graphics.create();
+
+            try {
+                // Draw the image pixel for pixel at the device position of the icon's logical origin
+                int deviceX = (int) Math.round(transform.getTranslateX() + x * scaleFactor);
+                int deviceY = (int) Math.round(transform.getTranslateY() + y * scaleFactor);
+
+                deviceGraphics.setTransform(AffineTransform.getTranslateInstance(deviceX, deviceY));
+                deviceGraphics.drawImage(image, 0, 0, null);
+            } finally {
+                deviceGraphics.dispose();
+            }
+        }
+
+        /**
+         * Gets the image of the icon rasterized for the current theme and the given screen scale factor, rasterizing
+         * it only if no live image is cached for them.
+         *
+         * @param component
+         *            - The component the icon is painted for
+         * @param scaleFactor
+         *            - The screen scale factor of the graphics the icon is painted to
+         *
+         * @return The rasterized image of the icon
+         */
+        private BufferedImage getImage(Component component, double scaleFactor) {
+            boolean dark = FlatSVGIcon.isDarkLaf();
+            BufferedImage image = (lastImage != null) ? lastImage.get() : null;
+
+            if (image != null && dark == lastDark && scaleFactor == lastScaleFactor) {
+                return image;
+            }
+
+            image = loadImage(component, dark, scaleFactor);
+
+            lastImage = new SoftReference<>(image);
+            lastDark = dark;
+            lastScaleFactor = scaleFactor;
+
+            return image;
+        }
+
+        /**
+         * Looks up the image of the icon rasterized for the given theme and screen scale factor in the process-wide
+         * cache, rasterizing and caching it if no live image is found. Unlike getImage, this leaves the most recently
+         * used image of the icon alone, so it is safe to call from any thread.
+         *
+         * @param component
+         *            - The component the icon is painted for (may be null)
+         * @param dark
+         *            - Whether the dark theme is active
+         * @param scaleFactor
+         *            - The screen scale factor of the graphics the icon is painted to
+         *
+         * @return The rasterized image of the icon
+         */
+        private BufferedImage loadImage(Component component, boolean dark, double scaleFactor) {
+            // The theme is part of the key because the SVG color filter maps colors differently in the dark theme
+            String imageKey = key + (dark ? "#dark" : "#light") + "x" + scaleFactor;
+            SoftReference<BufferedImage> imageReference = IMAGES.get(imageKey);
+            BufferedImage image = (imageReference != null) ? imageReference.get() : null;
+
+            if (image != null) {
+                hitCount.incrementAndGet();
+                return image;
+            }
+
+            missCount.incrementAndGet();
+            image = rasterize(component, scaleFactor);
+            IMAGES.put(imageKey, new SoftReference<>(image));
+
+            return image;
+        }
+
+        /**
+         * Renders the SVG icon into an image sized in device pixels for the given screen scale factor.
+         *
+         * @param component
+         *            - The component the icon is painted for
+         * @param scaleFactor
+         *            - The screen scale factor to rasterize the icon at
+         *
+         * @return The rasterized image of the icon
+         */
+        private BufferedImage rasterize(Component component, double scaleFactor) {
+            int width = Math.max(1, (int) Math.ceil(getIconWidth() * scaleFactor));
+            int height = Math.max(1, (int) Math.ceil(getIconHeight() * scaleFactor));
+            BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D imageGraphics = image.createGraphics();
+
+            try {
+                imageGraphics.scale(scaleFactor, scaleFactor);
+                svgIcon.paintIcon(component, imageGraphics, 0, 0);
+            } finally {
+                imageGraphics.dispose();
+            }
+
+            return image;
+        }
+
+    }
+
+}
@@ -0,0 +1,386 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright © 2026 Jonathan R. Miller
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and
+ * to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+package com.dhk.utility;
+
+import java.awt.Insets;
+import java.awt.Window;
+import java.awt.image.BufferStrategy;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.swing.JFrame;
+import javax.swing.RepaintManager;
+import javax.swing.SwingUtilities;
+
+/**
+ * Manages the native back-buffer surfaces AWT and Swing allocate to paint the application's frame. The frame's buffer
+ * strategy and the repaint manager's volatile buffers are released explicitly when the frame moves between screens or
+ * is fully refreshed for a display change, so their native surfaces are freed at once instead of waiting on a
+ * collection. A collection is only requested when a buffer strategy that should have been released is still held, and
+ * each reclaim records how many surfaces, and roughly how many bytes, it freed.
+ *
+ * @author Jonathan R. Miller
+ */
+public class SurfaceReclaimer {
+
+    /**
+     * Bytes per pixel assumed when estimating the size of a native surface, matching a 32-bit back buffer.
+     */
+    private static final int BYTES_PER_PIXEL = 4;
+
+    /**
+     * Client-property key marking a frame whose screen changes are already being watched.
+     */
+    private static final String TRACKED_PROPERTY = SurfaceReclaimer.class.getName() + ".tracked";
+
+    /**
+     * The frames being watched, held weakly so a disposed frame is not kept alive. Only used on the AWT event dispatch
+     * thread.
+     */
+    private static final List<WeakReference<Window>> trackedWindows = new ArrayList<>();
+
+    /**
+     * The buffer strategies observed on the application's frames. Guarded by the list itself, since the fallback
+     * collection checks them off the AWT event dispatch thread.
+     */
+    private static final List<TrackedSurface> trackedSurfaces = new ArrayList<>();
+
+    /**
+     * Guards against stacking fallback collections when reclaims arrive back to back.
+     */
+    private static volatile boolean collectionInProgress;
+
+    /**
+     * The running totals of every reclaim, so the effect of the reclaims can be observed.
+     */
+    private static final AtomicLong reclaimCount = new AtomicLong();
+    private static final AtomicLong releasedSurfaceCount = new AtomicLong();
+    private static final AtomicLong releasedBytes = new AtomicLong();
+    private static final AtomicLong collectionCount = new AtomicLong();
+    private static final AtomicLong collectedSurfaceCount = new AtomicLong();
+
+    /**
+     * Default constructor for the {@link SurfaceReclaimer} class.
+     */
+    public SurfaceReclaimer() {
+    }
+
+    /**
+     * Watches the frame for moves between screens, reclaiming the surfaces allocated for the previous screen once AWT
+     * has finished moving it, and records its buffer strategies on every reclaim so one replaced without being released
+     * is noticed. Tracking the same frame again has no effect.
+     *
+     * @param frame
+     *            - The frame to watch (may be null)
+     */
+    public static void trackFrame(JFrame frame) {
+        if (frame == null || frame.getRootPane().getClientProperty(TRACKED_PROPERTY) != null) {
+            return;
+        }
+
+        frame.getRootPane().putClientProperty(TRACKED_PROPERTY, Boolean.TRUE);
+        trackedWindows.add(new WeakReference<>(frame));
+
+        // The first configuration is assigned when the frame is realized, which leaves nothing behind to reclaim
+        frame.addPropertyChangeListener("graphicsConfiguration", event -> {
+            if (event.getOldValue() != null) {
+                SwingUtilities.invokeLater(() -> reclaim(frame));
+            }
+        });
+    }
+
+    /**
+     * Releases the native surfaces backing the window, then requests a collection only if a buffer strategy observed
+     * earlier was replaced without being released and is still held. Must be called on the AWT event dispatch thread;
+     * the released surfaces are re-created for the window's current screen the next time it paints.
+     *
+     * @param window
+     *            - The window whose surfaces to reclaim (may be null)
+     */
+    public static void reclaim(Window window) {
+        if (window == null) {
+            return;
+        }
+
+        reclaimCount.incrementAndGet();
+        observeTrackedWindows();
+        releaseSurfaces(window);
+
+        if (countHeldSurfaces() > 0) {
+            scheduleCollection();
+        }
+    }
+
+    /**
+     * Disposes of the window's buffer strategy, flushing its back buffers, and flushes the repaint manager's volatile
+     * buffers, including any left behind for a screen the window has since left.
+     *
+     * @param window
+     *            - The window whose surfaces to release
+     */
+    private static void releaseSurfaces(Window window) {
+        long surfaces = 0;
+        long bytes = 0;
+        BufferStrategy strategy = window.getBufferStrategy();
+
+        if (strategy != null) {
+            TrackedSurface surface = observe(window, strategy);
+
+            // Swing notices the disposed strategy on its next paint and creates a new one for the current screen
+            strategy.dispose();
+            surface.released = true;
+            surfaces++;
+            bytes += surface.bytes;
+        }
+
+        // No custom maximum is ever set, so clearing it flushes every volatile buffer as a display change does
+        RepaintManager.currentManager(window).setDoubleBufferMaximumSize(null);
+
+        releasedSurfaceCount.addAndGet(surfaces);
+        releasedBytes.addAndGet(bytes);
+    }
+
+    /**
+     * Records the current buffer strategy of every tracked window, dropping the windows that have been collected.
+     */
+    private static void observeTrackedWindows() {
+        Iterator<WeakReference<Window>> iterator = trackedWindows.iterator();
+
+        while (iterator.hasNext()) {
+            Window window = iterator.next().get();
+
+            if (window == null) {
+                iterator.remove();
+            } else if (window.getBufferStrategy() != null) {
+                observe(window, window.getBufferStrategy());
+            }
+        }
+    }
+
+    /**
+     * Records the window's current buffer strategy, estimating the size of its back buffer from the window's client
+     * area. A strategy already recorded is returned as it is.
+     *
+     * @param window
+     *            - The window the buffer strategy belongs to
+     * @param strategy
+     *            - The buffer strategy to record
+     *
+     * @return The record of the buffer strategy
+     */
+    private static TrackedSurface observe(Window window, BufferStrategy strategy) {
+        synchronized (trackedSurfaces) {
+            for (TrackedSurface surface : trackedSurfaces) {
+                if (surface.strategy.get() == strategy) {
+                    return surface;
+                }
+            }
+
+            Insets insets = window.getInsets();
+            long width = Math.max(1, window.getWidth() - insets.left - insets.right);
+            long height = Math.max(1, window.getHeight() - insets.top - insets.bottom);
+            TrackedSurface surface = new TrackedSurface(window, strategy, width * height * BYTES_PER_PIXEL);
+
+            trackedSurfaces.add(surface);
+
+            return surface;
+        }
+    }
+
+    /**
+     * Counts the recorded buffer strategies that were never released yet are still held even though their window no
+     * longer uses them, dropping the records of released strategies along the way. Only a collection can free the
+     * native surfaces of such a strategy, since disposing it no longer flushes them once it has been replaced.
+     *
+     * @return The number of buffer strategies still holding surfaces that should have been released
+     */
+    private static int countHeldSurfaces() {
+        int heldSurfaces = 0;
+
+        synchronized (trackedSurfaces) {
+            Iterator<TrackedSurface> iterator = trackedSurfaces.iterator();
+
+            while (iterator.hasNext()) {
+                TrackedSurface surface = iterator.next();
+
+                if (surface.released || surface.strategy.get() == null) {
+                    iterator.remove();
+                } else if (surface.isOrphaned()) {
+                    heldSurfaces++;
+                }
+            }
+        }
+
+        return heldSurfaces;
+    }
+
+    /**
+     * Schedules a background collection to free the surfaces of buffer strategies that are still held, then counts how
+     * many of them the collection actually freed.
+     */
+    private static void scheduleCollection() {
+        if (collectionInProgress) {
+            return;
+        }
+
+        collectionInProgress = true;
+
+        // Collect off the EDT so a reclaim never stalls on the GC
+        Thread collectionThread = new Thread(() -> {
+            try {
+                System.gc();
+
+                long collectedSurfaces = 0;
+
+                synchronized (trackedSurfaces) {
+                    Iterator<TrackedSurface> iterator = trackedSurfaces.iterator();
+
+                    while (iterator.hasNext()) {
+                        if (iterator.next().strategy.get() == null) {
+                            iterator.remove();
+                            collectedSurfaces++;
+                        }
+                    }
+                }
+
+                collectionCount.incrementAndGet();
+                collectedSurfaceCount.addAndGet(collectedSurfaces);
+            } finally {
+                collectionInProgress = false;
+            }
+        }, "DisplayHotKeys-NativeSurfaceReclaim");
+
+        collectionThread.setDaemon(true);
+        collectionThread.start();
+    }
+
+    /**
+     * Gets the number of buffer strategies recorded on the application's windows that still hold native surfaces,
+     * including those still in use. Must be called on the AWT event dispatch thread.
+     *
+     * @return The number of live recorded buffer strategies
+     */
+    public static int getLiveSurfaceCount() {
+        int liveSurfaces = 0;
+
+        observeTrackedWindows();
+
+        synchronized (trackedSurfaces) {
+            for (TrackedSurface surface : trackedSurfaces) {
+                if (!surface.released && surface.strategy.get() != null) {
+                    liveSurfaces++;
+                }
+            }
+        }
+
+        return liveSurfaces;
+    }
+
+    /**
+     * Gets the number of reclaims run by {@link #reclaim(Window)}.
+     *
+     * @return The number of reclaims
+     */
+    public static long getReclaimCount() {
+        return reclaimCount.get();
+    }
+
+    /**
+     * Gets the total number of buffer strategies released explicitly across every reclaim.
+     *
+     * @return The total number of explicitly released buffer strategies
+     */
+    public static long getReleasedSurfaceCount() {
+        return releasedSurfaceCount.get();
+    }
+
+    /**
+     * Gets the estimated total number of bytes of back buffer released explicitly across every reclaim.
+     *
+     * @return The estimated total number of explicitly released bytes
+     */
+    public static long getReleasedBytes() {
+        return releasedBytes.get();
+    }
+
+    /**
+     * Gets the number of fallback collections requested because a surface that should have been released was held.
+     *
+     * @return The number of fallback collections
+     */
+    public static long getCollectionCount() {
+        return collectionCount.get();
+    }
+
+    /**
+     * Gets the total number of held buffer strategies freed by the fallback collections.
+     *
+     * @return The total number of buffer strategies freed by collection
+     */
+    public static long getCollectedSurfaceCount() {
+        return collectedSurfaceCount.get();
+    }
+
+    /**
+     * A buffer strategy observed on one of the application's windows, held weakly so the record never keeps the
+     * strategy or its window alive.
+     */
+    private static class TrackedSurface {
+
+        private final WeakReference<Window> window;
+        private final WeakReference<BufferStrategy> strategy;
+        private final long bytes;
+        private volatile boolean released;
+
+        /**
+         * Constructor for the {@link TrackedSurface} class.
+         *
+         * @param window
+         *            - The window the buffer strategy belongs to
+         * @param strategy
+         *            - The buffer strategy to record
+         * @param bytes
+         *            - The estimated size of the strategy's back buffer in bytes
+         */
+        private TrackedSurface(Window window, BufferStrategy strategy, long bytes) {
+            this.window = new WeakReference<>(window);
+            this.strategy = new WeakReference<>(strategy);
+            this.bytes = bytes;
+        }
+
+        /**
+         * Determines whether the buffer strategy was replaced, or its window disposed, without the strategy being
+         * released.
+         *
+         * @return True if the strategy is still held but no longer used by a displayable window, false otherwise
+         */
+        private boolean isOrphaned() {
+            Window owner = window.get();
+            BufferStrategy held = strategy.get();
+
+            return held != null && (owner == null || !owner.isDisplayable() || owner.getBufferStrategy() != held);
+        }
+
+    }
+
+}
@@ -36,6 +36,8 @@ import java.awt.event.WindowEvent;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.swing.JButton;
 import javax.swing.JDialog;
@@ -46,10 +48,14 @@ import javax.swing.SwingConstants;
 import javax.swing.SwingUtilities;
 
 import com.dhk.controller.button.PaypalDonateButtonController;
+import com.dhk.io.SettingsCompactor;
 import com.dhk.model.DhkModel;
 import com.dhk.model.button.ButtonProperties;
 import com.dhk.model.button.ThemeableButton;
+import com.dhk.utility.EdtWatchdog;
 import com.dhk.utility.FrameUtil;
+import com.dhk.utility.IconCache;
+import com.dhk.utility.SurfaceReclaimer;
 import com.dhk.utility.VersionRetriever;
 
 /**
@@ -74,6 +80,8 @@ public class AboutDialog implements IView {
     private JLabel versionLabel;
     private JLabel latestVersionLabel;
     private JLabel developedByLabel;
+    private JLabel stallsLabel;
+    private JLabel diagnosticsLabel;
     private JButton licenseButton;
     private JButton releasesButton;
     private JButton closeButton;
@@ -131,8 +139,8 @@ public class AboutDialog implements IView {
                 initAboutComponentListeners(aboutDialog, onCloseAction);
                 addAboutComponents(aboutDialog);
 
-                // Update UI and show darkening glass pane on parent
-                FrameUtil.refreshFrame(parentFrame);
+                // Re-lay out the parent and show darkening glass pane on parent
+                FrameUtil.relayoutFrame(parentFrame);
                 view.getDefaultFocusComponent().requestFocusInWindow();
                 parentFrame.setGlassPane(darkeningGlassPane);
                 darkeningGlassPane.setVisible(true);
@@ -278,6 +286,14 @@ public class AboutDialog implements IView {
         developedByLabel = new JLabel("Developed by Jonathan R. Miller");
         developedByLabel.setHorizontalAlignment(SwingConstants.CENTER);
 
+        stallsLabel = new JLabel(createStallsText());
+        stallsLabel.setHorizontalAlignment(SwingConstants.CENTER);
+        stallsLabel.putClientProperty("FlatLaf.styleClass", "small");
+
+        diagnosticsLabel = new JLabel(createDiagnosticsText());
+        diagnosticsLabel.setHorizontalAlignment(SwingConstants.CENTER);
+        diagnosticsLabel.putClientProperty("FlatLaf.styleClass", "small");
+
         ButtonProperties paypalButtonProperties = new ButtonProperties(null, new Dimension(134, 46), 0.70f, 0.63f);
         paypalDonateButton = new ThemeableButton("/paypal_donate_light_idle.svg", "/paypal_donate_light_hover.svg",
                 "/paypal_donate_dark_idle.svg", "/paypal_donate_dark_hover.svg", paypalButtonProperties, true,
@@ -292,6 +308,67 @@ public class AboutDialog implements IView {
         closeButton.setFocusPainted(false);
     }
 
+    /**
+     * Creates the text summarizing the worst stalls of the AWT event dispatch thread seen this session, one per line.
+     *
+     * @return The text summarizing the session's worst UI stalls
+     */
+    private String createStallsText() {
+        List<String> stallSummaries = EdtWatchdog.getWorstStallSummaries();
+
+        if (stallSummaries.isEmpty()) {
+            return "No UI Stalls Over " + EdtWatchdog.getStallThresholdMs() + " ms";
+        }
+
+        return "<html><center>Slowest UI Stalls:<br>" + String.join("<br>", stallSummaries) + "</center></html>";
+    }
+
+    /**
+     * Creates the text reporting what the app's background upkeep has done this session, one figure per line.
+     *
+     * @return The text reporting the session's diagnostics, or null if there is nothing to report yet
+     */
+    private String createDiagnosticsText() {
+        List<String> lines = new ArrayList<String>();
+        long settingsFileSize = SettingsCompactor.getLastSettingsFileSize();
+
+        if (settingsFileSize >= 0) {
+            lines.add("Settings Compacted: " + SettingsCompactor.getLastRemovedEntries() + " Entries of "
+                    + SettingsCompactor.getLastRemovedDisplays() + " Displays, " + (settingsFileSize + 1023) / 1024
+                    + " KB Left");
+        }
+
+        long iconCacheHits = IconCache.getHitCount();
+        long iconCacheMisses = IconCache.getMissCount();
+
+        if (iconCacheHits + iconCacheMisses > 0) {
+            lines.add("Icon Cache: " + iconCacheHits + " Hits, " + iconCacheMisses + " Misses");
+        }
+
+        long layoutRefreshes = FrameUtil.getLayoutRefreshCount();
+        long uiRefreshes = FrameUtil.getUIRefreshCount();
+        long fullRefreshes = FrameUtil.getFullRefreshCount();
+
+        if (layoutRefreshes + uiRefreshes + fullRefreshes > 0) {
+            lines.add("Frame Refreshes: " + layoutRefreshes + " Layout, " + uiRefreshes + " UI, " + fullRefreshes
+                    + " Full");
+        }
+
+        if (SurfaceReclaimer.getReclaimCount() > 0) {
+            lines.add("Surfaces Reclaimed: " + SurfaceReclaimer.getReleasedSurfaceCount() + " Released ("
+                    + SurfaceReclaimer.getReleasedBytes() / 1024L + " KB), "
+                    + SurfaceReclaimer.getCollectedSurfaceCount() + " Collected in "
+                    + SurfaceReclaimer.getCollectionCount() + " GCs, "
+                    + SurfaceReclaimer.getLiveSurfaceCount() + " Live");
+        }
+
+        if (lines.isEmpty()) {
+            return null;
+        }
+
+        return "<html><center>" + String.join("<br>", lines) + "</center></html>";
+    }
+
     /**
      * Initializes listeners for the components in an about dialog.
      *
@@ -360,6 +437,17 @@ public class AboutDialog implements IView {
         infoPanelConstraints.gridy = 3;
         infoPanel.add(developedByLabel, infoPanelConstraints);
 
+        infoPanelConstraints.gridx = 0;
+        infoPanelConstraints.gridy = 4;
+        infoPanel.add(stallsLabel, infoPanelConstraints);
+
+        // Leave the row out until there is something to report, so it does not pad the dialog
+        if (diagnosticsLabel.getText() != null) {
+            infoPanelConstraints.gridx = 0;
+            infoPanelConstraints.gridy = 5;
+            infoPanel.add(diagnosticsLabel, infoPanelConstraints);
+        }
+
         mainConstraints.gridx = 0;
         mainConstraints.gridy = 0;
         aboutDialog.add(infoPanel, mainConstraints);
@@ -0,0 +1,198 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright © 2026 Jonathan R. Miller
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and
+ * to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+package com.dhk.view;
+
+import java.awt.GridBagConstraints;
+import java.awt.GridBagLayout;
+import java.awt.Insets;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.SwingConstants;
+
+import com.dhk.io.ApplyResult;
+
+/**
+ * Shows a non-modal, icon-free dialog reporting why a slot or profile could not be applied. Only one notice is shown
+ * at a time, so repeated failed hot key presses replace the open notice rather than stacking new ones.
+ *
+ * @author Jonathan R. Miller
+ */
+public class ApplyFailedNoticeDialog {
+
+    /**
+     * Message shown above the reason lines.
+     */
+    private static final String FAILED_MESSAGE_TEXT = "The display settings could not be applied!";
+
+    /**
+     * Message shown above the reason lines when a profile could not be applied, formatted with the profile's name.
+     */
+    private static final String PROFILE_FAILED_MESSAGE_TEXT = "The \"%s\" profile could not be applied!";
+
+    /**
+     * First reason line shown when a display does not support the requested settings.
+     */
+    private static final String UNSUPPORTED_REASON_LINE_1 = "A display does not support the slot's display mode,";
+
+    /**
+     * Second reason line shown when a display does not support the requested settings.
+     */
+    private static final String UNSUPPORTED_REASON_LINE_2 = "so its current settings were left unchanged.";
+
+    /**
+     * First reason line shown when a display is no longer part of the active display configuration.
+     */
+    private static final String NOT_FOUND_REASON_LINE_1 = "A display is no longer active in the current";
+
+    /**
+     * Second reason line shown when a display is no longer part of the active display configuration.
+     */
+    private static final String NOT_FOUND_REASON_LINE_2 = "display configuration.";
+
+    /**
+     * First reason line shown when Windows rejected the requested settings.
+     */
+    private static final String REJECTED_REASON_LINE_1 = "Windows rejected the requested display settings,";
+
+    /**
+     * Second reason line shown when Windows rejected the requested settings.
+     */
+    private static final String REJECTED_REASON_LINE_2 = "so some of them may not have been applied.";
+
+    /**
+     * The notice currently shown, disposed when a newer notice replaces it.
+     */
+    private static JDialog openDialog;
+
+    /**
+     * Default constructor for the {@link ApplyFailedNoticeDialog} class.
+     */
+    public ApplyFailedNoticeDialog() {
+    }
+
+    /**
+     * Shows the non-modal notice reporting why the given apply failed.
+     *
+     * @param result
+     *            - The failed apply result, whose status decides the reason shown
+     */
+    public void showFailedNotice(ApplyResult result) {
+        showFailedNotice(result, null);
+    }
+
+    /**
+     * Shows the non-modal notice reporting why the given apply failed, naming the profile that was being applied.
+     *
+     * @param result
+     *            - The failed apply result, whose status decides the reason shown
+     * @param profileName
+     *            - The name of the profile that was being applied, or null if a slot was being applied
+     */
+    public void showFailedNotice(ApplyResult result, String profileName) {
+        String messageText = profileName != null
+                ? String.format(PROFILE_FAILED_MESSAGE_TEXT, profileName)
+                : FAILED_MESSAGE_TEXT;
+
+        switch (result.getStatus()) {
+        case ApplyResult.UNSUPPORTED_MODE:
+            showDialog(messageText, UNSUPPORTED_REASON_LINE_1, UNSUPPORTED_REASON_LINE_2);
+            break;
+        case ApplyResult.DISPLAY_NOT_FOUND:
+            showDialog(messageText, NOT_FOUND_REASON_LINE_1, NOT_FOUND_REASON_LINE_2);
+            break;
+        default:
+            showDialog(messageText, REJECTED_REASON_LINE_1, REJECTED_REASON_LINE_2);
+            break;
+        }
+    }
+
+    /**
+     * Shows the non-modal dialog with centered message lines above a centered Close button, replacing any open notice.
+     *
+     * @param messageText
+     *            - The message shown above the reason lines
+     * @param reasonText1
+     *            - The first reason line
+     * @param reasonText2
+     *            - The second reason line
+     */
+    private void showDialog(String messageText, String reasonText1, String reasonText2) {
+        if (openDialog != null) {
+            openDialog.dispose();
+        }
+
+        final JDialog dialog = new JDialog((JFrame) null, "Display Hot Keys", false);
+        dialog.setResizable(false);
+        dialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
+        dialog.setLayout(new GridBagLayout());
+
+        JLabel message = new JLabel(messageText, SwingConstants.CENTER);
+        JLabel reasonLine1 = new JLabel(reasonText1, SwingConstants.CENTER);
+        JLabel reasonLine2 = new JLabel(reasonText2, SwingConstants.CENTER);
+        JButton closeButton = new JButton("Close");
+
+        // Suppress the focus ring
+        closeButton.setFocusPainted(false);
+        closeButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                dialog.dispose();
+            }
+        });
+
+        GridBagConstraints constraints = new GridBagConstraints();
+        constraints.gridx = 0;
+        constraints.gridy = 0;
+        constraints.insets = new Insets(28, 36, 16, 36);
+
+        dialog.add(message, constraints);
+
+        constraints.gridy = 1;
+        constraints.insets = new Insets(0, 36, 2, 36);
+
+        dialog.add(reasonLine1, constraints);
+
+        constraints.gridy = 2;
+        constraints.insets = new Insets(0, 36, 24, 36);
+
+        dialog.add(reasonLine2, constraints);
+
+        constraints.gridy = 3;
+        constraints.insets = new Insets(0, 0, 22, 0);
+
+        dialog.add(closeButton, constraints);
+
+        dialog.pack();
+        dialog.setLocationRelativeTo(null);
+
+        // A notice raised from a hot key must not take focus from the application the user is working in
+        dialog.setFocusableWindowState(false);
+        dialog.setVisible(true);
+        dialog.setFocusableWindowState(true);
+
+        openDialog = dialog;
+    }
+
+}
@@ -38,6 +38,27 @@ public class CenteredComboBox<E> extends JComboBox<E> {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * The renderer shared by every centered combo box. Renderers only stamp out one cell at a time on the EDT, so one
+     * instance serves every slot's combo boxes instead of one per combo box.
+     */
+    private static final DefaultListCellRenderer CENTERED_RENDERER = new DefaultListCellRenderer() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected,
+                boolean cellHasFocus) {
+
+            Component c = super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+
+            if (c instanceof JLabel lbl) {
+                lbl.setHorizontalAlignment(SwingConstants.CENTER);
+            }
+
+            return c;
+        }
+    };
+
     /**
      * Creates an empty centered combo box.
      */
@@ -69,23 +90,10 @@ public class CenteredComboBox<E> extends JComboBox<E> {
     }
 
     /**
-     * Installs a renderer that centers all item text.
+     * Installs the shared renderer that centers all item text.
      */
     private void installCenteredRenderer() {
-        setRenderer(new DefaultListCellRenderer() {
-            @Override
-            public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected,
-                    boolean cellHasFocus) {
-
-                Component c = super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
-
-                if (c instanceof JLabel lbl) {
-                    lbl.setHorizontalAlignment(SwingConstants.CENTER);
-                }
-
-                return c;
-            }
-        });
+        setRenderer(CENTERED_RENDERER);
     }
 
 }
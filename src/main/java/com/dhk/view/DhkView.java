@@ -22,13 +22,19 @@ package com.dhk.view;
 import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
+import java.awt.GraphicsConfiguration;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
+import java.awt.KeyboardFocusManager;
+import java.awt.Point;
 import java.awt.Toolkit;
+import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,11 +46,11 @@ import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.SwingConstants;
 import javax.swing.SwingUtilities;
-import javax.swing.UIManager;
 
 import com.dhk.io.DisplayConfig;
 import com.dhk.model.DhkModel;
 import com.dhk.model.DisplayMode;
+import com.dhk.model.DisplayModeLists;
 import com.dhk.model.FramePlacement;
 import com.dhk.model.RefreshRate;
 import com.dhk.model.Resolution;
@@ -52,10 +58,9 @@ import com.dhk.model.button.Button;
 import com.dhk.model.button.ButtonProperties;
 import com.dhk.model.button.ThemeableButton;
 import com.dhk.model.button.ThemeableToggleButton;
-import com.dhk.utility.DisplayModeUtil;
 import com.dhk.utility.FrameUtil;
+import com.dhk.utility.SurfaceReclaimer;
 import com.formdev.flatlaf.extras.FlatSVGIcon;
-import com.formdev.flatlaf.ui.FlatUIUtils;
 
 /**
  * Defines the view for Display Hot Keys. The layout for the view components is defined here. View components are
@@ -68,9 +73,12 @@ public class DhkView implements IView {
     private DhkModel model;
     private DisplayConfig displayConfig;
     private JFrame frame;
+    private InputLockPane inputLockPane;
     private JPanel mainPanel;
     private JPanel displayPanel;
     private JPanel menuPanel;
+    private JPanel slotCardsPanel;
+    private VisibleCardLayout slotCardsLayout;
     private GridBagLayout mainPanelLayout;
     private FlowLayout displayPanelLayout;
     private FlowLayout menuPanelLayout;
@@ -79,18 +87,11 @@ public class DhkView implements IView {
     private GridBagConstraints menuPanelConstraints;
     private JLabel selectedDisplayLabel;
     private JLabel numberOfActiveSlotsLabel;
-    private JLabel clearSlotHeader;
-    private JLabel applySlotHeader;
-    private JLabel resolutionHeader;
-    private JLabel refreshRateHeader;
-    private JLabel scalingModeHeader;
-    private JLabel dpiScaleHeader;
-    private JLabel orientationHeader;
-    private JLabel hotKeyHeader;
-    private JLabel clearHotKeyHeader;
-    private JLabel changeHotKeyHeader;
     private CenteredComboBox<Integer> displayIds;
     private Map<Integer, List<Slot>> displayMap;
+    private Map<Integer, JPanel> slotPanelMap;
+    private Map<Integer, Integer> numOfShownSlotsMap;
+    private SlotPanelBuilder slotPanelBuilder;
     private Map<Integer, CenteredComboBox<Integer>> numberOfActiveSlotsMap;
     private CenteredComboBox<Integer> noDisplayIdsPlaceholder;
     private CenteredComboBox<Integer> noActiveSlotsPlaceholder;
@@ -100,13 +101,16 @@ public class DhkView implements IView {
     private ThemeableToggleButton minimizeToTrayButton;
     private ThemeableToggleButton runOnStartupButton;
     private List<Button> buttons;
+    private SlotBuildListener slotBuildListener;
     private int previouslySelectedDisplayIndex;
-    private int gridYPosForSlotInPanel;
+    private int shownDisplayIndex;
     private boolean startMinimizedToTray;
+    private String[] builtDisplayIds;
+    private int[] builtDisplayNumbers;
+    private GraphicsConfiguration refreshedConfiguration;
+    private double refreshedScale;
 
-    private static final int NUM_OF_SLOT_COMPONENTS = 11;
-    private static final String[] ORIENTATION_MODES = {"Landscape", "Portrait", "iLandscape", "iPortrait"};
-    private static final String[] SCALING_MODES = new String[]{"Preserved", "Stretched", "Centered"};
+    private static final int NO_DISPLAY_INDEX = -1;
 
     /**
      * Constructor for the {@link DhkView} class.
@@ -120,9 +124,6 @@ public class DhkView implements IView {
 
         // Disable logging for icons
         FlatSVGIcon.setLoggingEnabled(false);
-
-        // The starting Y-coordinate for slots
-        gridYPosForSlotInPanel = 2;
     }
 
     @Override
@@ -131,17 +132,17 @@ public class DhkView implements IView {
     }
 
     /**
-     * Initializes the view of the application. It creates a new frame, sets the frame properties, initializes the
-     * panels, and initializes the view components.
+     * Initializes the view of the application. The frame is created on the first call and kept for the life of the
+     * application; every call builds the panels and view components and swaps them in as the frame's content.
      *
      * @param previousPlacement
-     *            - The captured placement of the previous frame, or null to center on the default screen
+     *            - The captured placement of the frame, or null to center on the default screen
      * @param selectedDisplayIndex
      *            - The index of the display to select in the new view; clamped to the current number of connected
      *            displays so the selection is preserved across re-initialization even if displays were added or removed
      */
     public void initView(FramePlacement previousPlacement, int selectedDisplayIndex) {
-        final JFrame previousFrame = frame;
+        final boolean firstBuild = (frame == null);
 
         /*
          * Clamp the requested selection to a valid display index. When displays were removed since the previous view
@@ -153,22 +154,20 @@ public class DhkView implements IView {
 
         /*
          * Decide the tray handoff before the frame is ever shown, so a frame bound for the tray is never flashed. A
-         * rebuild keeps the frame off screen only when it was already away, so it comes back exactly as the user left
-         * it
+         * rebuild keeps the same frame, which stays shown or hidden exactly as the user left it
          */
-        boolean previousFrameWasAway = (previousFrame != null) && !previousFrame.isShowing();
-        startMinimizedToTray = model.isMinimizeToTray() && (previousFrame == null || previousFrameWasAway);
+        startMinimizedToTray = firstBuild && model.isMinimizeToTray();
 
         // Reset view state used by component initialization
         displayConfig = model.getDisplayConfig();
-        displayMap = new HashMap<>();
+        builtDisplayIds = model.getDisplayIds();
+        builtDisplayNumbers = model.getDisplayNumbers();
         numberOfActiveSlotsMap = new HashMap<>();
         previouslySelectedDisplayIndex = desiredDisplayIndex;
-        gridYPosForSlotInPanel = 2;
 
-        // Build and populate the frame
-        final JFrame newFrame = new JFrame("Display Hot Keys");
-        newFrame.setResizable(false);
+        if (firstBuild) {
+            frame = createFrame();
+        }
 
         initPanels();
         initComponents();
@@ -183,8 +182,73 @@ public class DhkView implements IView {
         scrollPane.getVerticalScrollBar().setUnitIncrement(16);
         scrollPane.getHorizontalScrollBar().setUnitIncrement(16);
 
-        newFrame.setContentPane(scrollPane);
-        frame = newFrame;
+        // Realize the slot rows that come into view as the content is scrolled or the frame is resized
+        scrollPane.getViewport().addChangeListener(e -> realizeVisibleSlots());
+
+        /*
+         * Clear focus when clicking empty space. The listener is added to the panel and viewport, not only the frame,
+         * because the scroll pane consumes the press before it can bubble up to the frame
+         */
+        mainPanel.addMouseListener(createClearFocusListener());
+        scrollPane.getViewport().addMouseListener(createClearFocusListener());
+
+        frame.setContentPane(scrollPane);
+
+        if (firstBuild) {
+            showFrame(scrollPane, previousPlacement);
+        } else {
+            /*
+             * Re-fit the existing frame around its new content. The native window, its extended state and its task bar
+             * button are untouched, so a rebuild no longer flashes a new window in place of the old one
+             */
+            FrameUtil.relayoutFrame(frame);
+
+            // Keep the frame anchored where it was, since the new content can be a different size than the old
+            if (previousPlacement != null && frame.isShowing()) {
+                SwingUtilities.invokeLater(() -> FrameUtil.correctLocation(frame, previousPlacement));
+            }
+        }
+
+        frameMetricsChanged();
+        getDefaultFocusComponent().requestFocusInWindow();
+    }
+
+    /**
+     * Creates the application's frame along with the parts of it that last for the life of the application: its
+     * surface tracking, input lock overlay, task bar icon and focus-clearing listener.
+     *
+     * @return The new frame
+     */
+    private JFrame createFrame() {
+        JFrame newFrame = new JFrame("Display Hot Keys");
+        newFrame.setResizable(false);
+
+        // Release the frame's native surfaces whenever it moves to another screen
+        SurfaceReclaimer.trackFrame(newFrame);
+
+        // Lock input during hot key capture with one overlay instead of disabling every control
+        inputLockPane = new InputLockPane();
+        newFrame.setGlassPane(inputLockPane);
+
+        // Set the taskbar icon
+        newFrame.setIconImage(Toolkit.getDefaultToolkit().getImage(getClass().getResource("/tray_icon.png")));
+
+        newFrame.addMouseListener(createClearFocusListener());
+
+        return newFrame;
+    }
+
+    /**
+     * Packs the newly created frame, fits it to the working area of its display, places it and shows it, unless it
+     * starts minimized to the tray.
+     *
+     * @param scrollPane
+     *            - The frame's content scroll pane
+     * @param previousPlacement
+     *            - The placement to reproduce, or null to center on the default screen
+     */
+    private void showFrame(JScrollPane scrollPane, FramePlacement previousPlacement) {
+        final JFrame newFrame = frame;
         newFrame.pack();
 
         /*
@@ -201,24 +265,6 @@ public class DhkView implements IView {
         final Dimension expectedFrameSize = newFrame.getSize();
         newFrame.setLocation(FrameUtil.computeLocation(previousPlacement, expectedFrameSize));
 
-        // Set the taskbar icon
-        newFrame.setIconImage(Toolkit.getDefaultToolkit().getImage(getClass().getResource("/tray_icon.png")));
-
-        /*
-         * Clear focus when clicking empty space. The listener is added to the panel and viewport, not only the frame,
-         * because the scroll pane consumes the press before it can bubble up to the frame
-         */
-        MouseAdapter clearFocusOnPress = new MouseAdapter() {
-            @Override
-            public void mousePressed(MouseEvent mousePressedEvent) {
-                getDefaultFocusComponent().requestFocusInWindow();
-            }
-        };
-
-        newFrame.addMouseListener(clearFocusOnPress);
-        mainPanel.addMouseListener(clearFocusOnPress);
-        scrollPane.getViewport().addMouseListener(clearFocusOnPress);
-
         /*
          * Make the frame visible after all components are added and the frame is packed. Showing the frame earlier can
          * cause transient artifacts (ghost copies) during repaint. A frame bound for the tray is never shown at all,
@@ -236,27 +282,33 @@ public class DhkView implements IView {
              */
             SwingUtilities.invokeLater(() -> FrameUtil.correctLocation(newFrame, previousPlacement));
         }
+    }
 
-        // Dispose of the previous frame
-        if (previousFrame != null) {
-            previousFrame.setVisible(false);
-            previousFrame.dispose();
-        }
-
-        getDefaultFocusComponent().requestFocusInWindow();
+    /**
+     * Creates a mouse listener that clears focus from the view's components when empty space is pressed.
+     *
+     * @return A mouse listener that clears focus on press
+     */
+    private MouseAdapter createClearFocusListener() {
+        return new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent mousePressedEvent) {
+                getDefaultFocusComponent().requestFocusInWindow();
+            }
+        };
     }
 
     /**
-     * Re-initialize the view by creating a new frame and disposing the old one. Captures the current frame's placement
-     * live and reproduces it. Suitable when the display geometry is unchanged.
+     * Re-initialize the view by rebuilding the frame's content. Captures the current frame's placement live and
+     * reproduces it. Suitable when the display geometry is unchanged.
      */
     public void reInitView() {
         reInitView(null);
     }
 
     /**
-     * Re-initialize the view by creating a new frame and disposing the old one. Preserves the previous frame's
-     * on-screen placement and selected display, even when the display it was on has just been reconfigured.
+     * Re-initialize the view by rebuilding the frame's content. Preserves the frame's on-screen placement and
+     * selected display, even when the display it was on has just been reconfigured.
      *
      * @param preCapturedPlacement
      *            - A frame placement captured before a display reconfiguration, or null to capture the current frame's
@@ -271,168 +323,210 @@ public class DhkView implements IView {
         // Capture the currently selected display so it stays selected after the view is rebuilt
         int previousSelectedDisplayIndex = (displayIds != null) ? displayIds.getSelectedIndex() : 0;
 
-        // Re-initialize the view, reproducing the previous frame's placement and selected display
+        // Re-initialize the view, reproducing the frame's placement and selected display
         initView(previousPlacement, previousSelectedDisplayIndex);
     }
 
     /**
-     * Adds slots to the main panel until the number of active slots for the given display is reached.
+     * Adds rows to the given display's slot panel until the number of active slots for the display is reached. The rows
+     * are only reserved here; each row's components are realized once the row scrolls into view.
      *
      * @param displayIndex
      *            - The index of the display to add slots in the view for
-     * @param startIndex
-     *            - The index in which to start adding slots to the view
      */
-    public void pushSlots(int displayIndex, int startIndex) {
+    public void pushSlots(int displayIndex) {
         if (model.getNumOfConnectedDisplays() > 0) {
-            for (int slotIndex = startIndex; slotIndex < model.getNumOfSlotsForDisplay(displayIndex); slotIndex++) {
-                mainPanelConstraints.anchor = GridBagConstraints.CENTER;
-                mainPanelConstraints.gridwidth = 1;
-                mainPanelConstraints.gridx = 0;
-                mainPanelConstraints.gridy = gridYPosForSlotInPanel;
-                mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getIndicatorLabel(), mainPanelConstraints);
-
-                mainPanelConstraints.gridx = 1;
-                mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getApplySlotButton(), mainPanelConstraints);
-
-                mainPanelConstraints.gridx = 2;
-                mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getResolutions(), mainPanelConstraints);
-
-                mainPanelConstraints.gridx = 3;
-                mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getRefreshRates(), mainPanelConstraints);
-
-                mainPanelConstraints.gridx = 4;
-                mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getScalingModes(), mainPanelConstraints);
+            setNumOfShownSlots(displayIndex, model.getNumOfSlotsForDisplay(displayIndex));
 
-                mainPanelConstraints.gridx = 5;
-                mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getDpiScalePercentages(),
-                        mainPanelConstraints);
-
-                mainPanelConstraints.gridx = 6;
-                mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getOrientationModes(), mainPanelConstraints);
-
-                mainPanelConstraints.gridx = 7;
-                mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getHotKey(), mainPanelConstraints);
-
-                mainPanelConstraints.gridx = 8;
-                mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getClearHotKeyButton(), mainPanelConstraints);
-
-                mainPanelConstraints.gridx = 9;
-                mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getChangeHotKeyButton(),
-                        mainPanelConstraints);
-
-                mainPanelConstraints.gridx = 10;
-                mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getClearSlotButton(), mainPanelConstraints);
-
-                // Add the next slot to the following row in the layout
-                gridYPosForSlotInPanel++;
-            }
+            // The new rows only have bounds once the frame is laid out again, so realize them after that
+            SwingUtilities.invokeLater(this::realizeVisibleSlots);
         }
     }
 
     /**
-     * Removes the specified number of slots from the end of the main panel.
+     * Removes the specified number of slots from the end of the given display's slot panel.
      *
+     * @param displayIndex
+     *            - The index of the display to remove slots in the view for
      * @param numOfSlotsToRemove
-     *            - The number of slots to remove from the end of the main panel
+     *            - The number of slots to remove from the end of the display's slot panel
      */
-    public void popSlots(int numOfSlotsToRemove) {
-        int lastSlotComponentIndex = mainPanel.getComponentCount() - 1;
-
-        for (int slotIndex = 0; slotIndex < numOfSlotsToRemove; slotIndex++) {
-            for (int componentIndex = 0; componentIndex < NUM_OF_SLOT_COMPONENTS; componentIndex++) {
-                mainPanel.remove(lastSlotComponentIndex);
-
-                lastSlotComponentIndex--;
+    public void popSlots(int displayIndex, int numOfSlotsToRemove) {
+        JPanel slotPanel = getSlotPanel(displayIndex);
+        int numOfShownSlots = numOfShownSlotsMap.getOrDefault(displayIndex, 0);
+        int numOfRemainingSlots = Math.max(0, numOfShownSlots - numOfSlotsToRemove);
+
+        for (int slotIndex = numOfShownSlots - 1; slotIndex >= numOfRemainingSlots; slotIndex--) {
+            // Rows that never scrolled into view have no components to remove
+            if (isSlotBuilt(displayIndex, slotIndex)) {
+                for (Component slotComponent : getSlot(displayIndex, slotIndex).getComponents()) {
+                    slotPanel.remove(slotComponent);
+                }
             }
         }
 
-        // Update the Y-coordinate of the next slot to add
-        gridYPosForSlotInPanel -= numOfSlotsToRemove;
+        setNumOfShownSlots(displayIndex, numOfRemainingSlots);
     }
 
     /**
-     * Replaces the active slots from the previously selected display with the active slots for the newly selected
-     * display.
+     * Records the number of slot rows the given display's slot panel reserves space for.
+     *
+     * @param displayIndex
+     *            - The index of the display to set the number of shown slots for
+     * @param numOfShownSlots
+     *            - The number of slot rows to reserve
      */
-    public void replaceActiveSlots() {
-        int numOfPrevActiveSlotsToReplace = model.getNumOfSlotsForDisplay(previouslySelectedDisplayIndex);
-        int displayIndex = displayIds.getSelectedIndex();
+    private void setNumOfShownSlots(int displayIndex, int numOfShownSlots) {
+        numOfShownSlotsMap.put(displayIndex, numOfShownSlots);
 
-        for (int slotIndex = 0; slotIndex < numOfPrevActiveSlotsToReplace; slotIndex++) {
-            GridBagConstraints prevIndicatorLabelConstraints = mainPanelLayout
-                    .getConstraints(displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getIndicatorLabel());
+        // The header occupies the first row of the slot panel
+        ((SlotTableLayout) getSlotPanel(displayIndex).getLayout()).setNumOfRows(numOfShownSlots + 1);
+    }
 
-            mainPanel.remove(displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getIndicatorLabel());
-            mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getIndicatorLabel(),
-                    prevIndicatorLabelConstraints);
+    /**
+     * Realizes the components of the shown display's slot rows that are inside the viewport, and releases the rows that
+     * have left it. Slots are only built and added once their row is scrolled into view, and removed from the panel
+     * again once it scrolls out, so the cost of building and laying out the view follows the rows on screen rather
+     * than the number of slots. A released slot keeps its components, so scrolling back to its row does not build it
+     * again.
+     */
+    private void realizeVisibleSlots() {
+        JPanel slotPanel = slotPanelMap.get(shownDisplayIndex);
 
-            GridBagConstraints prevApplySlotButtonConstraints = mainPanelLayout
-                    .getConstraints(displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getApplySlotButton());
+        if (shownDisplayIndex == NO_DISPLAY_INDEX || slotPanel == null || !displayMap.containsKey(shownDisplayIndex)) {
+            return;
+        }
 
-            mainPanel.remove(displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getApplySlotButton());
-            mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getApplySlotButton(),
-                    prevApplySlotButtonConstraints);
+        int[] visibleRows = ((SlotTableLayout) slotPanel.getLayout()).getRowsIn(slotPanel, slotPanel.getVisibleRect());
 
-            GridBagConstraints prevResolutionsConstraints = mainPanelLayout
-                    .getConstraints(displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getResolutions());
+        // A panel that is not laid out or not showing has no rows in view, which is no reason to release them all
+        if (visibleRows[1] < visibleRows[0]) {
+            return;
+        }
 
-            mainPanel.remove(displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getResolutions());
-            mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getResolutions(), prevResolutionsConstraints);
+        int numOfShownSlots = numOfShownSlotsMap.getOrDefault(shownDisplayIndex, 0);
+        boolean anySlotRowChanged = false;
 
-            GridBagConstraints prevRefreshRatesConstraints = mainPanelLayout
-                    .getConstraints(displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getRefreshRates());
+        // The header occupies the first row of the slot panel, so each slot is one row below its index
+        for (int row = 1; row <= numOfShownSlots; row++) {
+            int slotIndex = row - 1;
 
-            mainPanel.remove(displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getRefreshRates());
-            mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getRefreshRates(), prevRefreshRatesConstraints);
+            if (row < visibleRows[0] || row > visibleRows[1]) {
+                // Rows that never scrolled into view have no components to release
+                if (isSlotBuilt(shownDisplayIndex, slotIndex)
+                        && releaseSlotRow(slotPanel, getSlot(shownDisplayIndex, slotIndex))) {
+                    anySlotRowChanged = true;
+                }
 
-            GridBagConstraints prevScalingModesConstraints = mainPanelLayout
-                    .getConstraints(displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getScalingModes());
+                continue;
+            }
 
-            mainPanel.remove(displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getScalingModes());
-            mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getScalingModes(), prevScalingModesConstraints);
+            List<Component> slotComponents = getSlot(shownDisplayIndex, slotIndex).getComponents();
 
-            GridBagConstraints prevDpiScalePercentagesConstraints = mainPanelLayout.getConstraints(
-                    displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getDpiScalePercentages());
+            if (slotComponents.get(0).getParent() == slotPanel) {
+                continue;
+            }
 
-            mainPanel.remove(displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getDpiScalePercentages());
-            mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getDpiScalePercentages(),
-                    prevDpiScalePercentagesConstraints);
+            for (int column = 0; column < slotComponents.size(); column++) {
+                slotPanel.add(slotComponents.get(column), new Point(column, row));
+            }
 
-            GridBagConstraints prevOrientationModeConstraints = mainPanelLayout.getConstraints(
-                    displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getOrientationModes());
+            anySlotRowChanged = true;
+        }
 
-            mainPanel.remove(displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getOrientationModes());
-            mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getOrientationModes(),
-                    prevOrientationModeConstraints);
+        if (anySlotRowChanged) {
+            slotPanel.revalidate();
+            slotPanel.repaint();
+        }
+    }
 
-            GridBagConstraints prevHotKeyConstraints = mainPanelLayout
-                    .getConstraints(displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getHotKey());
+    /**
+     * Removes the components of the given slot's row from the slot panel after the row has left the viewport. A row
+     * that holds the keyboard focus, such as one recording a hot key, stays in the panel so the focus is not lost.
+     *
+     * @param slotPanel
+     *            - The slot panel the row is shown in
+     * @param slot
+     *            - The slot whose row left the viewport
+     *
+     * @return True if the row's components were removed, false otherwise
+     */
+    private boolean releaseSlotRow(JPanel slotPanel, Slot slot) {
+        List<Component> slotComponents = slot.getComponents();
 
-            mainPanel.remove(displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getHotKey());
-            mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getHotKey(), prevHotKeyConstraints);
+        if (slotComponents.get(0).getParent() != slotPanel) {
+            return false;
+        }
 
-            GridBagConstraints prevClearHotKeyButtonConstraints = mainPanelLayout.getConstraints(
-                    displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getClearHotKeyButton());
+        Component focusOwner = KeyboardFocusManager.getCurrentKeyboardFocusManager().getFocusOwner();
 
-            mainPanel.remove(displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getClearHotKeyButton());
-            mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getClearHotKeyButton(),
-                    prevClearHotKeyButtonConstraints);
+        if (focusOwner != null) {
+            for (Component slotComponent : slotComponents) {
+                if (SwingUtilities.isDescendingFrom(focusOwner, slotComponent)) {
+                    return false;
+                }
+            }
+        }
 
-            GridBagConstraints prevChangeHotKeyButtonConstraints = mainPanelLayout.getConstraints(
-                    displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getChangeHotKeyButton());
+        for (Component slotComponent : slotComponents) {
+            slotPanel.remove(slotComponent);
+        }
 
-            mainPanel.remove(displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getChangeHotKeyButton());
-            mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getChangeHotKeyButton(),
-                    prevChangeHotKeyButtonConstraints);
+        return true;
+    }
 
-            GridBagConstraints prevClearSlotButtonConstraints = mainPanelLayout
-                    .getConstraints(displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getClearSlotButton());
+    /**
+     * Shows the slot panel of the given display in place of the one shown before. The panel is built the first time
+     * the display is shown and kept afterward, so switching displays flips which panel is visible instead of moving
+     * every slot component, whatever the number of slots. The Clear All button moves along to the shown panel's header.
+     *
+     * @param displayIndex
+     *            - The index of the display to show the slots for
+     */
+    public void showSlotsForDisplay(int displayIndex) {
+        JPanel slotPanel = getSlotPanel(displayIndex);
+
+        // Bring the panel's rows in line with the display's active slots, which may have changed while it was hidden
+        if (displayIndex != NO_DISPLAY_INDEX) {
+            int numOfShownSlots = numOfShownSlotsMap.getOrDefault(displayIndex, 0);
+            int numOfSlots = model.getNumOfSlotsForDisplay(displayIndex);
+
+            if (numOfShownSlots > numOfSlots) {
+                popSlots(displayIndex, numOfShownSlots - numOfSlots);
+            } else if (numOfShownSlots < numOfSlots) {
+                pushSlots(displayIndex);
+            }
+        }
 
-            mainPanel.remove(displayMap.get(previouslySelectedDisplayIndex).get(slotIndex).getClearSlotButton());
-            mainPanel.add(displayMap.get(displayIndex).get(slotIndex).getClearSlotButton(),
-                    prevClearSlotButtonConstraints);
+        slotPanel.add(clearAllButton, new Point(0, 0));
+
+        shownDisplayIndex = displayIndex;
+        slotCardsLayout.show(slotCardsPanel, Integer.toString(displayIndex));
+
+        // The shown panel only has bounds once the frame is laid out again, so realize its rows after that
+        SwingUtilities.invokeLater(this::realizeVisibleSlots);
+    }
+
+    /**
+     * Gets the slot panel of the given display, creating it with its header row and adding it to the slot cards the
+     * first time it is requested.
+     *
+     * @param displayIndex
+     *            - The index of the display to get the slot panel for
+     *
+     * @return The slot panel of the given display
+     */
+    private JPanel getSlotPanel(int displayIndex) {
+        JPanel slotPanel = slotPanelMap.get(displayIndex);
+
+        if (slotPanel == null) {
+            slotPanel = slotPanelBuilder.createSlotPanel();
+
+            slotPanelMap.put(displayIndex, slotPanel);
+            slotCardsPanel.add(slotPanel, Integer.toString(displayIndex));
         }
+
+        return slotPanel;
     }
 
     /**
@@ -481,6 +575,10 @@ public class DhkView implements IView {
         mainPanelConstraints.fill = GridBagConstraints.NONE;
         mainPanelConstraints.insets = new Insets(8, 8, 8, 8);
 
+        // Each display's slots live in their own panel, and only the selected display's panel is shown
+        slotCardsLayout = new VisibleCardLayout();
+        slotCardsPanel = new JPanel(slotCardsLayout);
+
         displayPanelConstraints = new GridBagConstraints();
         displayPanelConstraints.fill = GridBagConstraints.NONE;
 
@@ -557,55 +655,21 @@ public class DhkView implements IView {
                 "/run_on_startup_disabled_dark_hover.svg", runOnStartupButtonProps, true, model.isDarkMode(),
                 model.isRunOnStartup());
 
+        // Only the toolbar buttons of the content being built are kept, so the buttons of replaced content are released
+        buttons.clear();
         buttons.add(clearAllButton);
         buttons.add(aboutButton);
         buttons.add(themeButton);
         buttons.add(minimizeToTrayButton);
         buttons.add(runOnStartupButton);
 
-        applySlotHeader = new JLabel("", SwingConstants.CENTER);
-        applySlotHeader.setPreferredSize(new Dimension(20, 28));
-        makeLabelBold(applySlotHeader);
-
-        resolutionHeader = new JLabel("Resolution", SwingConstants.CENTER);
-        resolutionHeader.setPreferredSize(new Dimension(138, 28));
-        makeLabelBold(resolutionHeader);
-
-        refreshRateHeader = new JLabel("Refresh Rate", SwingConstants.CENTER);
-        refreshRateHeader.setPreferredSize(new Dimension(118, 28));
-        makeLabelBold(refreshRateHeader);
-
-        scalingModeHeader = new JLabel("Scaling Mode", SwingConstants.CENTER);
-        scalingModeHeader.setPreferredSize(new Dimension(110, 28));
-        makeLabelBold(scalingModeHeader);
-
-        dpiScaleHeader = new JLabel("DPI Scale", SwingConstants.CENTER);
-        dpiScaleHeader.setPreferredSize(new Dimension(70, 28));
-        makeLabelBold(dpiScaleHeader);
-
-        orientationHeader = new JLabel("Orientation", SwingConstants.CENTER);
-        orientationHeader.setPreferredSize(new Dimension(118, 28));
-        makeLabelBold(orientationHeader);
-
-        hotKeyHeader = new JLabel("Hot Key", SwingConstants.CENTER);
-        hotKeyHeader.setPreferredSize(new Dimension(52, 28));
-        makeLabelBold(hotKeyHeader);
-
-        clearHotKeyHeader = new JLabel("", SwingConstants.CENTER);
-        clearHotKeyHeader.setPreferredSize(new Dimension(18, 28));
-        makeLabelBold(clearHotKeyHeader);
-
-        changeHotKeyHeader = new JLabel("", SwingConstants.CENTER);
-        changeHotKeyHeader.setPreferredSize(new Dimension(148, 28));
-        makeLabelBold(changeHotKeyHeader);
-
-        clearSlotHeader = new JLabel("", SwingConstants.CENTER);
-        clearSlotHeader.setPreferredSize(new Dimension(22, 28));
-        makeLabelBold(clearSlotHeader);
-
         initSlotComponents();
         addNonSlotComponents();
-        pushSlots(previouslySelectedDisplayIndex, 0);
+        int shownDisplayIndex = (model.getNumOfConnectedDisplays() > 0)
+                ? previouslySelectedDisplayIndex
+                : NO_DISPLAY_INDEX;
+
+        showSlotsForDisplay(shownDisplayIndex);
     }
 
     /**
@@ -644,67 +708,253 @@ public class DhkView implements IView {
     }
 
     /**
-     * Makes a specified JLabel use bold font.
+     * Initializes the slot lists for each display. The components of a slot are only built the first time the slot is
+     * shown, so a rebuild costs only the slots of the selected display instead of every slot of every display. Slots
+     * and slot panels built before a rebuild are pooled by display and slot index and re-bound to the new model in
+     * place, keeping the listeners the controllers attached to the slots when they were built.
      */
-    private void makeLabelBold(JLabel label) {
-        label.putClientProperty("FlatLaf.styleClass", "h4");
-        label.putClientProperty("FlatLaf.style", "font: $h4.font");
-        label.setFont(FlatUIUtils.nonUIResource(UIManager.getFont("h4.font")));
+    private void initSlotComponents() {
+        if (displayMap == null) {
+            displayMap = new HashMap<>();
+            slotPanelMap = new HashMap<>();
+            numOfShownSlotsMap = new HashMap<>();
+            slotPanelBuilder = new SlotPanelBuilder(model);
+        }
+
+        // Release the pooled slots of display indexes no longer connected, along with the listeners bound to them
+        displayMap.keySet().removeIf(displayIndex -> displayIndex >= model.getNumOfConnectedDisplays());
+        slotPanelMap.keySet().removeIf(displayIndex -> displayIndex >= model.getNumOfConnectedDisplays()
+                || displayIndex == NO_DISPLAY_INDEX);
+        numOfShownSlotsMap.keySet().removeIf(displayIndex -> !slotPanelMap.containsKey(displayIndex));
+
+        // Release the shared display mode lists of displays no longer connected
+        slotPanelBuilder.retainDisplayModeLists(Arrays.asList(model.getDisplayIds()));
+
+        // Move the pooled slot panels, rows and all, from the previous content into the new slot cards
+        for (Map.Entry<Integer, JPanel> slotPanelEntry : slotPanelMap.entrySet()) {
+            slotCardsPanel.add(slotPanelEntry.getValue(), Integer.toString(slotPanelEntry.getKey()));
+        }
+
+        if (model.getNumOfConnectedDisplays() > 0) {
+            String[] displayIds = model.getDisplayIds();
+
+            for (int displayIndex = 0; displayIndex < model.getNumOfConnectedDisplays(); displayIndex++) {
+                List<Slot> slots = displayMap.get(displayIndex);
+
+                if (slots == null) {
+                    slots = new ArrayList<Slot>(Collections.nCopies(model.getMaxNumOfSlots(), (Slot) null));
+
+                    displayMap.put(displayIndex, slots);
+                    continue;
+                }
+
+                // Re-bind the pooled slots to the display now at this index
+                for (int slotIndex = 0; slotIndex < model.getMaxNumOfSlots(); slotIndex++) {
+                    if (slots.get(slotIndex) != null) {
+                        refreshSlotComponents(displayIds[displayIndex], displayIndex, slotIndex);
+                    }
+                }
+            }
+        }
     }
 
     /**
-     * Initializes the components for each slot.
+     * Refreshes the view in place after the model was refreshed for an unchanged set of displays. Only the combo boxes
+     * and labels whose contents differ from the model and the current display modes are patched, and the existing frame
+     * is kept and re-fitted instead of being rebuilt. Its UI delegates are only re-installed if the frame's display or
+     * scale changed since the last refresh.
+     *
+     * @param preCapturedPlacement
+     *            - A frame placement captured before a display reconfiguration to restore on the existing frame, or
+     *            null to leave the frame where it is
      */
-    private void initSlotComponents() {
+    public void refreshView(FramePlacement preCapturedPlacement) {
         if (model.getNumOfConnectedDisplays() > 0) {
             String[] displayIds = model.getDisplayIds();
 
             for (int displayIndex = 0; displayIndex < model.getNumOfConnectedDisplays(); displayIndex++) {
-                List<Slot> slots = new ArrayList<Slot>();
-
+                // Slots not built yet are built from the refreshed model when they are first shown
                 for (int slotIndex = 0; slotIndex < model.getMaxNumOfSlots(); slotIndex++) {
-                    int slotOrientationMode = model.getSlot(displayIndex, slotIndex).getOrientationMode();
-                    boolean landscapeOrientation = slotOrientationMode == 0 || slotOrientationMode == 2;
-                    DisplayMode[] displayModes = landscapeOrientation
-                            ? displayConfig.getLandscapeDisplayModes(displayIds[displayIndex])
-                            : displayConfig.getPortraitDisplayModes(displayIds[displayIndex]);
-                    DisplayMode slotDisplayMode = model.getSlot(displayIndex, slotIndex).getDisplayMode();
+                    if (isSlotBuilt(displayIndex, slotIndex)) {
+                        refreshSlotComponents(displayIds[displayIndex], displayIndex, slotIndex);
+                    }
+                }
 
-                    // Offer only the DPI scale percentages Windows supports for the slot's stored resolution
-                    Integer[] dpiScalePercentages = displayConfig
-                            .getSupportedDpiScalePercentages(slotDisplayMode.getWidth(), slotDisplayMode.getHeight());
+                refreshNumberOfActiveSlots(displayIndex);
+            }
+        }
 
-                    /*
-                     * Split the stored display mode across the resolution and refresh rate combo boxes, populating the
-                     * refresh rates from the stored resolution so only its supported rates are offered
-                     */
-                    Resolution slotResolution = slotDisplayMode.getResolution();
+        // Re-render across displays only when the frame's metrics changed; a patch otherwise only needs a re-layout
+        if (frameMetricsChanged()) {
+            FrameUtil.refreshFrame(frame);
+        } else {
+            FrameUtil.relayoutFrame(frame);
+        }
 
-                    slots.add(new Slot(slotIndex, displayIndex, displayModes, SCALING_MODES, dpiScalePercentages,
-                            ORIENTATION_MODES));
+        // The OS moves the frame as part of a resolution or DPI change, so restore where it was before the change
+        if (preCapturedPlacement != null && frame.isShowing()) {
+            SwingUtilities.invokeLater(() -> FrameUtil.correctLocation(frame, preCapturedPlacement));
+        }
+    }
 
-                    slots.get(slotIndex).getResolutions().setSelectedItem(slotResolution);
+    /**
+     * Checks whether the frame is on a different graphics configuration, or at a different scale, than when this was
+     * last checked, and records the current ones for the next check.
+     *
+     * @return True if the frame's graphics configuration or scale changed since the last check, false otherwise
+     */
+    private boolean frameMetricsChanged() {
+        GraphicsConfiguration configuration = frame.getGraphicsConfiguration();
+        double scale = configuration != null ? configuration.getDefaultTransform().getScaleX() : 1.0;
+        boolean metricsChanged = configuration != refreshedConfiguration || scale != refreshedScale;
 
-                    slots.get(slotIndex)
-                            .setRefreshRates(DisplayModeUtil.refreshRatesForResolution(displayModes, slotResolution));
+        refreshedConfiguration = configuration;
+        refreshedScale = scale;
 
-                    slots.get(slotIndex).getRefreshRates().setSelectedItem(slotDisplayMode.getRefreshRate());
+        return metricsChanged;
+    }
 
-                    slots.get(slotIndex).getScalingModes()
-                            .setSelectedIndex(model.getSlot(displayIndex, slotIndex).getScalingMode());
+    /**
+     * Patches the components of a slot that differ from the model and the display's current display modes. The action
+     * listeners are detached while patching, since the model already holds the values being shown.
+     *
+     * @param displayId
+     *            - The ID of the display the slot resides in
+     * @param displayIndex
+     *            - The index of the display the slot resides in
+     * @param slotIndex
+     *            - The index of the slot to refresh
+     */
+    private void refreshSlotComponents(String displayId, int displayIndex, int slotIndex) {
+        Slot slot = getSlot(displayIndex, slotIndex);
+        int slotScalingMode = model.getSlot(displayIndex, slotIndex).getScalingMode();
+        Integer slotDpiScalePercentage = model.getSlot(displayIndex, slotIndex).getDpiScalePercentage();
+        int slotOrientationMode = model.getSlot(displayIndex, slotIndex).getOrientationMode();
+        DisplayModeLists displayModes = slotPanelBuilder.displayModeListsForOrientation(displayId,
+                slotOrientationMode);
+        DisplayMode slotDisplayMode = model.getSlot(displayIndex, slotIndex).getDisplayMode();
+        Resolution slotResolution = slotDisplayMode.getResolution();
+
+        // The shared lists are only replaced when the display's modes changed, so an identity check is enough
+        boolean displayModesChanged = slot.getSupportedDisplayModes() != displayModes;
+
+        List<CenteredComboBox<?>> comboBoxes = List.of(slot.getResolutions(), slot.getRefreshRates(),
+                slot.getScalingModes(), slot.getDpiScalePercentages(), slot.getOrientationModes());
+        List<ActionListener[]> detachedListeners = new ArrayList<ActionListener[]>(comboBoxes.size());
+
+        for (CenteredComboBox<?> comboBox : comboBoxes) {
+            detachedListeners.add(detachActionListeners(comboBox));
+        }
 
-                    slots.get(slotIndex).getDpiScalePercentages()
-                            .setSelectedItem(model.getSlot(displayIndex, slotIndex).getDpiScalePercentage());
+        try {
+            if (displayModesChanged) {
+                slot.setSupportedDisplayModes(displayModes);
+            }
 
-                    slots.get(slotIndex).getOrientationModes()
-                            .setSelectedIndex(model.getSlot(displayIndex, slotIndex).getOrientationMode());
+            // A new resolution also changes the refresh rates and DPI scale percentages it supports
+            if (displayModesChanged || !slotResolution.equals(slot.getResolutions().getSelectedItem())) {
+                slot.getResolutions().setSelectedItem(slotResolution);
+                slot.setRefreshRates(displayModes.getRefreshRates(slotResolution));
+                slot.setDpiScalePercentages(displayConfig.getSupportedDpiScalePercentageList(
+                        slotResolution.getWidth(), slotResolution.getHeight()));
+            }
 
-                    slots.get(slotIndex).getHotKey()
-                            .setText(model.getSlot(displayIndex, slotIndex).getHotKey().getHotKeyString());
-                }
+            if (!slotDisplayMode.getRefreshRate().equals(slot.getRefreshRates().getSelectedItem())) {
+                slot.getRefreshRates().setSelectedItem(slotDisplayMode.getRefreshRate());
+            }
+
+            if (slot.getScalingModes().getSelectedIndex() != slotScalingMode) {
+                slot.getScalingModes().setSelectedIndex(slotScalingMode);
+            }
 
-                displayMap.put(displayIndex, slots);
+            if (!slotDpiScalePercentage.equals(slot.getDpiScalePercentages().getSelectedItem())) {
+                slot.getDpiScalePercentages().setSelectedItem(slotDpiScalePercentage);
             }
+
+            if (slot.getOrientationModes().getSelectedIndex() != slotOrientationMode) {
+                slot.getOrientationModes().setSelectedIndex(slotOrientationMode);
+            }
+        } finally {
+            for (int comboBoxIndex = 0; comboBoxIndex < comboBoxes.size(); comboBoxIndex++) {
+                attachActionListeners(comboBoxes.get(comboBoxIndex), detachedListeners.get(comboBoxIndex));
+            }
+        }
+
+        String hotKeyText = model.getSlot(displayIndex, slotIndex).getHotKey().getHotKeyString();
+
+        if (!hotKeyText.equals(slot.getHotKey().getText())) {
+            slot.getHotKey().setText(hotKeyText);
+        }
+
+        // The Clear Hot Key button is only enabled while a hot key is set for the slot
+        slot.getClearHotKeyButton().setEnabled(!model.getSlot(displayIndex, slotIndex).getHotKey().getKeys().isEmpty());
+    }
+
+    /**
+     * Patches the number of active slots combo box of a display to match the model, and adds or removes rows in the
+     * display's slot panel when it has been built.
+     *
+     * @param displayIndex
+     *            - The index of the display to refresh the number of active slots for
+     */
+    private void refreshNumberOfActiveSlots(int displayIndex) {
+        CenteredComboBox<Integer> numberOfActiveSlots = numberOfActiveSlotsMap.get(displayIndex);
+        int shownNumOfSlots = (Integer) numberOfActiveSlots.getSelectedItem();
+        int numOfSlots = model.getNumOfSlotsForDisplay(displayIndex);
+
+        if (shownNumOfSlots == numOfSlots) {
+            return;
+        }
+
+        ActionListener[] listeners = detachActionListeners(numberOfActiveSlots);
+
+        try {
+            numberOfActiveSlots.setSelectedItem(numOfSlots);
+        } finally {
+            attachActionListeners(numberOfActiveSlots, listeners);
+        }
+
+        // A slot panel not built yet gets its rows when it is first shown
+        if (slotPanelMap.containsKey(displayIndex)) {
+            int numOfShownSlots = numOfShownSlotsMap.getOrDefault(displayIndex, 0);
+
+            if (numOfShownSlots > numOfSlots) {
+                popSlots(displayIndex, numOfShownSlots - numOfSlots);
+            } else if (numOfShownSlots < numOfSlots) {
+                pushSlots(displayIndex);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the action listeners of a combo box, so it can be patched without firing them.
+     *
+     * @param comboBox
+     *            - The combo box to detach the action listeners from
+     *
+     * @return The detached action listeners, in registration order
+     */
+    private static ActionListener[] detachActionListeners(CenteredComboBox<?> comboBox) {
+        ActionListener[] listeners = comboBox.getActionListeners();
+
+        for (ActionListener listener : listeners) {
+            comboBox.removeActionListener(listener);
+        }
+
+        return listeners;
+    }
+
+    /**
+     * Re-attaches previously detached action listeners to a combo box, in their original registration order.
+     *
+     * @param comboBox
+     *            - The combo box to attach the action listeners to
+     * @param listeners
+     *            - The action listeners to attach
+     */
+    private static void attachActionListeners(CenteredComboBox<?> comboBox, ActionListener[] listeners) {
+        for (ActionListener listener : listeners) {
+            comboBox.addActionListener(listener);
         }
     }
 
@@ -754,40 +1004,12 @@ public class DhkView implements IView {
         mainPanelConstraints.anchor = GridBagConstraints.EAST;
         mainPanel.add(menuPanel, mainPanelConstraints);
 
+        // The slot panels space their own components, so the cards holding them are added without insets
         mainPanelConstraints.anchor = GridBagConstraints.CENTER;
-        mainPanelConstraints.gridwidth = 1;
         mainPanelConstraints.gridy = 1;
-        mainPanel.add(clearAllButton, mainPanelConstraints);
-
-        mainPanelConstraints.gridx = 1;
-        mainPanel.add(applySlotHeader, mainPanelConstraints);
-
-        mainPanelConstraints.gridx = 2;
-        mainPanel.add(resolutionHeader, mainPanelConstraints);
-
-        mainPanelConstraints.gridx = 3;
-        mainPanel.add(refreshRateHeader, mainPanelConstraints);
-
-        mainPanelConstraints.gridx = 4;
-        mainPanel.add(scalingModeHeader, mainPanelConstraints);
-
-        mainPanelConstraints.gridx = 5;
-        mainPanel.add(dpiScaleHeader, mainPanelConstraints);
-
-        mainPanelConstraints.gridx = 6;
-        mainPanel.add(orientationHeader, mainPanelConstraints);
-
-        mainPanelConstraints.gridx = 7;
-        mainPanel.add(hotKeyHeader, mainPanelConstraints);
-
-        mainPanelConstraints.gridx = 8;
-        mainPanel.add(clearHotKeyHeader, mainPanelConstraints);
-
-        mainPanelConstraints.gridx = 9;
-        mainPanel.add(changeHotKeyHeader, mainPanelConstraints);
-
-        mainPanelConstraints.gridx = 10;
-        mainPanel.add(clearSlotHeader, mainPanelConstraints);
+        mainPanelConstraints.insets = new Insets(0, 0, 0, 0);
+        mainPanel.add(slotCardsPanel, mainPanelConstraints);
+        mainPanelConstraints.insets = new Insets(8, 8, 8, 8);
     }
 
     /**
@@ -808,8 +1030,8 @@ public class DhkView implements IView {
             return;
         }
 
-        Integer[] dpiScalePercentages = displayConfig.getSupportedDpiScalePercentages(selectedResolution.getWidth(),
-                selectedResolution.getHeight());
+        List<Integer> dpiScalePercentages = displayConfig.getSupportedDpiScalePercentageList(
+                selectedResolution.getWidth(), selectedResolution.getHeight());
 
         getSlot(displayIndex, slotIndex).setDpiScalePercentages(dpiScalePercentages);
     }
@@ -832,8 +1054,8 @@ public class DhkView implements IView {
             return;
         }
 
-        RefreshRate[] refreshRates = DisplayModeUtil.refreshRatesForResolution(
-                getSlot(displayIndex, slotIndex).getSupportedDisplayModes(), selectedResolution);
+        List<RefreshRate> refreshRates = getSlot(displayIndex, slotIndex).getSupportedDisplayModes()
+                .getRefreshRates(selectedResolution);
 
         getSlot(displayIndex, slotIndex).setRefreshRates(refreshRates);
     }
@@ -847,6 +1069,15 @@ public class DhkView implements IView {
         return frame;
     }
 
+    /**
+     * Gets the glass pane that locks the frame against input while a hot key is being captured.
+     *
+     * @return The input lock pane of the frame
+     */
+    public InputLockPane getInputLockPane() {
+        return inputLockPane;
+    }
+
     /**
      * Gets whether this build left the frame hidden for the tray, which means the tray still has to be brought up.
      *
@@ -962,6 +1193,11 @@ public class DhkView implements IView {
                         int activeSlots = model.getNumOfSlotsForDisplay(displayIndex);
 
                         for (int slotIndex = 0; slotIndex < activeSlots; slotIndex++) {
+                            // A slot not built yet has no buttons to include
+                            if (slots.get(slotIndex) == null) {
+                                continue;
+                            }
+
                             List<Button> slotButtons = slots.get(slotIndex).getButtons();
 
                             if (slotButtons != null) {
@@ -989,7 +1225,62 @@ public class DhkView implements IView {
      * @return The specified slot
      */
     public Slot getSlot(int displayIndex, int slotIndex) {
-        return displayMap.get(displayIndex).get(slotIndex);
+        List<Slot> slots = displayMap.get(displayIndex);
+        Slot slot = slots.get(slotIndex);
+
+        // Build the slot the first time it is needed, then let the controllers attach their listeners to it
+        if (slot == null) {
+            slot = slotPanelBuilder.buildSlot(displayIndex, slotIndex);
+            slots.set(slotIndex, slot);
+
+            if (slotBuildListener != null) {
+                slotBuildListener.slotBuilt(displayIndex, slotIndex);
+            }
+        }
+
+        return slot;
+    }
+
+    /**
+     * Gets whether the view was built for the given displays, in the same order and with the same numbers, so it can
+     * be refreshed in place for them instead of being rebuilt.
+     *
+     * @param displayIds
+     *            - The IDs of the connected displays
+     * @param displayNumbers
+     *            - The Windows display number of each connected display
+     *
+     * @return True if the view was built for the given displays, false otherwise
+     */
+    public boolean isBuiltFor(String[] displayIds, int[] displayNumbers) {
+        return Arrays.equals(builtDisplayIds, displayIds) && Arrays.equals(builtDisplayNumbers, displayNumbers);
+    }
+
+    /**
+     * Gets whether the components of the specified slot have been built yet. Slots are only built the first time they
+     * are shown, so callers that update every slot can skip the ones not built yet, which are built from the model.
+     *
+     * @param displayIndex
+     *            - The index of the display the slot resides in
+     * @param slotIndex
+     *            - The index of the slot to check
+     *
+     * @return True if the slot's components have been built, false otherwise
+     */
+    public boolean isSlotBuilt(int displayIndex, int slotIndex) {
+        List<Slot> slots = (displayMap != null) ? displayMap.get(displayIndex) : null;
+
+        return slots != null && slots.get(slotIndex) != null;
+    }
+
+    /**
+     * Sets the listener notified each time the components of a slot are built.
+     *
+     * @param slotBuildListener
+     *            - The listener to notify when a slot is built
+     */
+    public void setSlotBuildListener(SlotBuildListener slotBuildListener) {
+        this.slotBuildListener = slotBuildListener;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright © 2026 Jonathan R. Miller
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and
+ * to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+package com.dhk.view;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.KeyboardFocusManager;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+
+import javax.swing.JComponent;
+import javax.swing.UIManager;
+
+/**
+ * A glass pane that locks the frame against input while a hot key is being captured. Showing it swallows every mouse
+ * and key event aimed at the frame and washes the content out to read as disabled, so entering and leaving the capture
+ * costs a single repaint instead of toggling the enabled state of every control.
+ *
+ * @author Jonathan R. Miller
+ */
+public final class InputLockPane extends JComponent {
+
+    private static final long serialVersionUID = 1L;
+    private static final int DIM_ALPHA = 128;
+
+    private transient Component previousFocusOwner;
+
+    /**
+     * Constructor for the {@link InputLockPane} class.
+     */
+    public InputLockPane() {
+        MouseAdapter swallowMouseEvents = new MouseAdapter() {
+        };
+
+        // Registering the listeners is enough for the pane to receive, and so swallow, the mouse events it covers
+        addMouseListener(swallowMouseEvents);
+        addMouseMotionListener(swallowMouseEvents);
+        addMouseWheelListener(swallowMouseEvents);
+
+        // Consume key events while focused so they never reach the key bindings of the controls beneath
+        addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent keyEvent) {
+                keyEvent.consume();
+            }
+
+            @Override
+            public void keyReleased(KeyEvent keyEvent) {
+                keyEvent.consume();
+            }
+
+            @Override
+            public void keyTyped(KeyEvent keyEvent) {
+                keyEvent.consume();
+            }
+        });
+
+        setFocusTraversalKeysEnabled(false);
+        setFocusable(true);
+        setOpaque(false);
+        setVisible(false);
+    }
+
+    @Override
+    public void updateUI() {
+        super.updateUI();
+
+        // Wash the content out with the theme's own background so it reads as disabled in either theme
+        Color panelBackground = UIManager.getColor("Panel.background");
+
+        if (panelBackground != null) {
+            setBackground(new Color(panelBackground.getRed(), panelBackground.getGreen(), panelBackground.getBlue(),
+                    DIM_ALPHA));
+        }
+    }
+
+    /**
+     * Shows the pane over the frame and takes the keyboard focus, so the frame ignores input until it is unlocked.
+     */
+    public void lock() {
+        if (isVisible()) {
+            return;
+        }
+
+        previousFocusOwner = KeyboardFocusManager.getCurrentKeyboardFocusManager().getFocusOwner();
+
+        setVisible(true);
+        requestFocusInWindow();
+    }
+
+    /**
+     * Hides the pane and hands the keyboard focus back to the component that held it when the frame was locked.
+     */
+    public void unlock() {
+        if (!isVisible()) {
+            return;
+        }
+
+        setVisible(false);
+
+        if (previousFocusOwner != null && previousFocusOwner.isShowing()) {
+            previousFocusOwner.requestFocusInWindow();
+        }
+
+        previousFocusOwner = null;
+    }
+
+    @Override
+    protected void paintComponent(Graphics graphics) {
+        graphics.setColor(getBackground());
+        graphics.fillRect(0, 0, getWidth(), getHeight());
+    }
+
+}
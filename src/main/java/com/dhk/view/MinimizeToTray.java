@@ -22,12 +22,16 @@ package com.dhk.view;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import javax.swing.JFrame;
 import javax.swing.SwingUtilities;
 
 import com.dhk.io.SystemTrayIcon;
 import com.dhk.model.DhkModel;
+import com.dhk.model.FramePlacement;
 import com.dhk.utility.FrameUtil;
 import com.formdev.flatlaf.extras.FlatSVGIcon;
 
@@ -44,12 +48,20 @@ public class MinimizeToTray {
     private SystemTrayIcon systemTrayIcon;
     private TrayMenu trayMenu;
     private FlatSVGIcon trayIcon;
+    private Map<Long, int[]> trayIconPixelsCache;
+    private Consumer<FramePlacement> deferredRefresh;
+    private FramePlacement deferredPlacement;
 
     /**
      * Tooltip text shown for the tray icon.
      */
     private static final String TRAY_NAME = "Display Hot Keys";
 
+    /**
+     * Square tray icon sizes in pixels that Windows asks for at the common display scales, from 100% to 300%.
+     */
+    private static final int[] COMMON_TRAY_ICON_SIZES = {16, 20, 24, 32, 40, 48};
+
     /**
      * Constructor for the {@link MinimizeToTray} class.
      *
@@ -66,13 +78,33 @@ public class MinimizeToTray {
 
         // Kept as a vector, so every icon size is rasterized from it rather than resampled from one fixed size
         trayIcon = new FlatSVGIcon(getClass().getResource(iconResourcePath));
+        trayIconPixelsCache = new ConcurrentHashMap<Long, int[]>();
+
+        preRenderTrayIcons();
+    }
+
+    /**
+     * Renders the tray icon at the common tray icon sizes on a background thread, so the tray starts and rescales
+     * without rasterizing the artwork when it is needed.
+     */
+    private void preRenderTrayIcons() {
+        Thread preRenderThread = new Thread(() -> {
+            for (int iconSize : COMMON_TRAY_ICON_SIZES) {
+                getTrayIconPixels(iconSize, iconSize);
+            }
+        }, "Tray Icon Pre-Render");
+
+        // Nothing waits on the pre-render, since any size it has not reached yet is rendered on demand
+        preRenderThread.setDaemon(true);
+        preRenderThread.setPriority(Thread.MIN_PRIORITY);
+        preRenderThread.start();
     }
 
     /**
      * Minimizes the application to the system tray.
      */
     public void execute() {
-        // Hide the taskbar icon; the frame is resolved lazily since every re-initialization replaces it
+        // Hide the taskbar icon
         view.getFrame().setVisible(false);
 
         if (systemTrayIcon == null) {
@@ -92,7 +124,24 @@ public class MinimizeToTray {
         systemTrayIcon.registerTrayIconListener(
                 (anchorX, anchorY, iconBounds) -> trayMenu.show(anchorX, anchorY, iconBounds));
 
-        systemTrayIcon.start(TRAY_NAME, this::renderTrayIconPixels);
+        systemTrayIcon.start(TRAY_NAME, this::getTrayIconPixels);
+    }
+
+    /**
+     * Gets the tray icon pixels at the given size, rendering them only the first time the size is asked for. The
+     * notification area copies the pixels when it is handed them, so one array per size is shared by every request.
+     *
+     * @param iconWidth
+     *            - The icon width in pixels
+     * @param iconHeight
+     *            - The icon height in pixels
+     *
+     * @return The rendered icon pixels in packed ARGB order
+     */
+    private int[] getTrayIconPixels(int iconWidth, int iconHeight) {
+        long sizeKey = ((long) iconWidth << 32) | (iconHeight & 0xFFFFFFFFL);
+
+        return trayIconPixelsCache.computeIfAbsent(sizeKey, unused -> renderTrayIconPixels(iconWidth, iconHeight));
     }
 
     /**
@@ -149,12 +198,58 @@ public class MinimizeToTray {
     }
 
     /**
-     * Restores the application from the system tray.
+     * Gets whether the frame is hidden away in the system tray, where nobody can see a refresh of its content.
+     *
+     * @return True if the tray is up and the frame is not showing, false otherwise
+     */
+    public boolean isHiddenInTray() {
+        return systemTrayIcon != null && !view.getFrame().isShowing();
+    }
+
+    /**
+     * Defers a refresh of the view until the frame is restored from the tray. Only the latest refresh is kept, since
+     * each one brings the view fully up to date with the model, but the earliest placement is kept, since later
+     * captures may see a frame the OS has already moved.
+     *
+     * @param refresh
+     *            - The refresh to run on restore, given the placement to reproduce
+     * @param placement
+     *            - The frame placement captured before the change that made the view stale, or null for none
+     */
+    public void deferRefresh(Consumer<FramePlacement> refresh, FramePlacement placement) {
+        deferredRefresh = refresh;
+
+        if (deferredPlacement == null) {
+            deferredPlacement = placement;
+        }
+    }
+
+    /**
+     * Runs the refresh deferred while the frame was hidden, if any, so the frame is up to date before it is shown.
+     */
+    private void runDeferredRefresh() {
+        if (deferredRefresh == null) {
+            return;
+        }
+
+        Consumer<FramePlacement> refresh = deferredRefresh;
+        FramePlacement placement = deferredPlacement;
+
+        deferredRefresh = null;
+        deferredPlacement = null;
+
+        refresh.accept(placement);
+    }
+
+    /**
+     * Restores the application from the system tray, first running the single refresh deferred while it was hidden.
      */
     private void restoreAction() {
         SwingUtilities.invokeLater(new Runnable() {
             @Override
             public void run() {
+                runDeferredRefresh();
+
                 JFrame frame = view.getFrame();
                 frame.setExtendedState(JFrame.NORMAL);
                 frame.setVisible(true);
@@ -166,7 +261,7 @@ public class MinimizeToTray {
         SwingUtilities.invokeLater(new Runnable() {
             @Override
             public void run() {
-                FrameUtil.refreshFrame(view.getFrame());
+                FrameUtil.relayoutFrame(view.getFrame());
             }
         });
 
@@ -179,7 +274,7 @@ public class MinimizeToTray {
     private void aboutAction() {
         hideSystemTray();
 
-        // Build the dialog per show so it binds to the current frame, since every re-initialization replaces it
+        // Build the dialog per show so it restores whichever glass pane the frame has when the dialog opens
         new AboutDialog(model, view).showAboutDialog(this::showSystemTray);
     }
 
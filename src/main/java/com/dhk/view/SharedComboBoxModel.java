@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright © 2026 Jonathan R. Miller
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and
+ * to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+package com.dhk.view;
+
+import java.util.List;
+
+import javax.swing.AbstractListModel;
+import javax.swing.ComboBoxModel;
+
+/**
+ * A combo box model that reads its items from a shared, immutable list and stores only its own selection. Many slots
+ * offer the same items, so their combo boxes can share one list instead of each copying it into its own model.
+ *
+ * @param <E>
+ *            - Item type
+ *
+ * @author Jonathan R. Miller
+ */
+public class SharedComboBoxModel<E> extends AbstractListModel<E> implements ComboBoxModel<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<E> items;
+    private transient Object selectedItem;
+
+    /**
+     * Constructor for the {@link SharedComboBoxModel} class. The first item is selected, as it would be for a default
+     * combo box model.
+     *
+     * @param items
+     *            - The shared, immutable list of items to read from
+     */
+    public SharedComboBoxModel(List<E> items) {
+        this.items = items;
+
+        selectedItem = items.isEmpty() ? null : items.get(0);
+    }
+
+    /**
+     * Gets the shared list of items the model reads from.
+     *
+     * @return The shared list of items
+     */
+    public List<E> getItems() {
+        return items;
+    }
+
+    @Override
+    public void setSelectedItem(Object item) {
+        if ((selectedItem != null && !selectedItem.equals(item)) || (selectedItem == null && item != null)) {
+            selectedItem = item;
+
+            fireContentsChanged(this, -1, -1);
+        }
+    }
+
+    @Override
+    public Object getSelectedItem() {
+        return selectedItem;
+    }
+
+    @Override
+    public int getSize() {
+        return items.size();
+    }
+
+    @Override
+    public E getElementAt(int index) {
+        return (index >= 0 && index < items.size()) ? items.get(index) : null;
+    }
+
+}
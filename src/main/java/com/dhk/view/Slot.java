@@ -19,22 +19,20 @@
  */
 package com.dhk.view;
 
+import java.awt.Component;
 import java.awt.Dimension;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
-import javax.swing.DefaultComboBoxModel;
 import javax.swing.JButton;
 import javax.swing.JLabel;
 import javax.swing.SwingConstants;
 
-import com.dhk.model.DisplayMode;
+import com.dhk.model.DisplayModeLists;
 import com.dhk.model.RefreshRate;
 import com.dhk.model.Resolution;
 import com.dhk.model.button.Button;
 import com.dhk.model.button.ButtonProperties;
-import com.dhk.utility.DisplayModeUtil;
 
 /**
  * Defines the view components of a Slot.
@@ -45,7 +43,7 @@ public class Slot {
 
     private JLabel slotIndicatorLabel;
     private Button applySlotButton;
-    private DisplayMode[] supportedDisplayModes;
+    private DisplayModeLists supportedDisplayModes;
     private CenteredComboBox<Resolution> slotResolutions;
     private CenteredComboBox<RefreshRate> slotRefreshRates;
     private CenteredComboBox<String> slotScalingModes;
@@ -58,23 +56,24 @@ public class Slot {
     private List<Button> buttons;
 
     /**
-     * Constructor for the {@link Slot} class.
+     * Constructor for the {@link Slot} class. The item lists are shared with every other slot offering the same items,
+     * so each combo box only stores its own selection.
      *
      * @param slotIndex
      *            - The index of the slot
      * @param displayIndex
      *            - The index of the display the slot resides in
      * @param displayModes
-     *            - The array of display modes for the slot
+     *            - The shared resolution and refresh rate lists for the slot
      * @param scalingModes
-     *            - The array of scaling modes for the slot
+     *            - The shared list of scaling modes for the slot
      * @param dpiScalePercentages
-     *            - The array of DPI scale percentages for the slot
+     *            - The shared list of DPI scale percentages for the slot
      * @param orientationModes
-     *            - The array of orientation modes for the slot
+     *            - The shared list of orientation modes for the slot
      */
-    public Slot(int slotIndex, int displayIndex, DisplayMode[] displayModes, String[] scalingModes,
-            Integer[] dpiScalePercentages, String[] orientationModes) {
+    public Slot(int slotIndex, int displayIndex, DisplayModeLists displayModes, List<String> scalingModes,
+            List<Integer> dpiScalePercentages, List<String> orientationModes) {
         String slotId = Integer.toString(slotIndex + 1);
 
         slotIndicatorLabel = new JLabel("Slot " + slotId + " :", SwingConstants.CENTER);
@@ -85,24 +84,24 @@ public class Slot {
 
         supportedDisplayModes = displayModes;
 
-        Resolution[] resolutions = DisplayModeUtil.distinctResolutions(displayModes);
-        slotResolutions = new CenteredComboBox<Resolution>(resolutions);
+        List<Resolution> resolutions = displayModes.getResolutions();
+        slotResolutions = new CenteredComboBox<Resolution>(new SharedComboBoxModel<Resolution>(resolutions));
         slotResolutions.setPreferredSize(new Dimension(138, 28));
 
         // Start with the first resolution's refresh rates; the view sets the real selection right after construction
-        RefreshRate[] refreshRates = resolutions.length > 0
-                ? DisplayModeUtil.refreshRatesForResolution(displayModes, resolutions[0])
-                : new RefreshRate[0];
-        slotRefreshRates = new CenteredComboBox<RefreshRate>(refreshRates);
+        List<RefreshRate> refreshRates = resolutions.isEmpty()
+                ? List.of()
+                : displayModes.getRefreshRates(resolutions.get(0));
+        slotRefreshRates = new CenteredComboBox<RefreshRate>(new SharedComboBoxModel<RefreshRate>(refreshRates));
         slotRefreshRates.setPreferredSize(new Dimension(118, 28));
 
-        slotScalingModes = new CenteredComboBox<String>(scalingModes);
+        slotScalingModes = new CenteredComboBox<String>(new SharedComboBoxModel<String>(scalingModes));
         slotScalingModes.setPreferredSize(new Dimension(110, 28));
 
-        slotDpiScalePercentages = new CenteredComboBox<Integer>(dpiScalePercentages);
+        slotDpiScalePercentages = new CenteredComboBox<Integer>(new SharedComboBoxModel<Integer>(dpiScalePercentages));
         slotDpiScalePercentages.setPreferredSize(new Dimension(70, 28));
 
-        slotOrientationModes = new CenteredComboBox<String>(orientationModes);
+        slotOrientationModes = new CenteredComboBox<String>(new SharedComboBoxModel<String>(orientationModes));
         slotOrientationModes.setPreferredSize(new Dimension(118, 28));
 
         slotHotKey = new JLabel("", SwingConstants.CENTER);
@@ -144,14 +143,29 @@ public class Slot {
     }
 
     /**
-     * Gets the supported display modes the slot's resolution and refresh rate selections are derived from.
+     * Gets the shared resolution and refresh rate lists the slot's resolution and refresh rate selections are derived
+     * from.
      *
-     * @return The supported display modes of the slot
+     * @return The supported display mode lists of the slot
      */
-    public DisplayMode[] getSupportedDisplayModes() {
+    public DisplayModeLists getSupportedDisplayModes() {
         return supportedDisplayModes;
     }
 
+    /**
+     * Replaces the supported display mode lists of the slot and points the resolutions combo box at the new shared
+     * resolutions. The caller selects the resolution afterward and repopulates the refresh rates for it.
+     *
+     * @param displayModes
+     *            - The shared resolution and refresh rate lists for the slot
+     */
+    public void setSupportedDisplayModes(DisplayModeLists displayModes) {
+        supportedDisplayModes = displayModes;
+
+        // Replacing the model leaves the registered action listeners attached so model updates still fire
+        slotResolutions.setModel(new SharedComboBoxModel<Resolution>(displayModes.getResolutions()));
+    }
+
     /**
      * Gets the resolutions combo box of the slot.
      *
@@ -171,20 +185,20 @@ public class Slot {
     }
 
     /**
-     * Replaces the items in the refresh rates combo box with the given rates. The previously selected rate is preserved
+     * Points the refresh rates combo box at the given shared list of rates. The previously selected rate is preserved
      * when it is still supported; otherwise the combo box falls back to the first (highest) rate. This is used to offer
      * only the refresh rates the slot's currently selected resolution supports.
      *
      * @param refreshRates
-     *            - The array of refresh rates to populate the combo box with
+     *            - The shared list of refresh rates to offer
      */
-    public void setRefreshRates(RefreshRate[] refreshRates) {
+    public void setRefreshRates(List<RefreshRate> refreshRates) {
         RefreshRate previouslySelected = (RefreshRate) slotRefreshRates.getSelectedItem();
 
         // Replacing the model leaves the registered action listeners attached so model updates still fire
-        slotRefreshRates.setModel(new DefaultComboBoxModel<RefreshRate>(refreshRates));
+        slotRefreshRates.setModel(new SharedComboBoxModel<RefreshRate>(refreshRates));
 
-        if (previouslySelected != null && Arrays.asList(refreshRates).contains(previouslySelected)) {
+        if (previouslySelected != null && refreshRates.contains(previouslySelected)) {
             slotRefreshRates.setSelectedItem(previouslySelected);
         }
     }
@@ -208,21 +222,21 @@ public class Slot {
     }
 
     /**
-     * Replaces the items in the DPI scale percentages combo box with the given supported percentages. The previously
+     * Points the DPI scale percentages combo box at the given shared list of supported percentages. The previously
      * selected percentage is preserved when it is still supported; otherwise the combo box falls back to the first
      * (lowest) supported percentage. This is used to reflect the variable set of DPI scale percentages Windows supports
      * for the slot's currently selected resolution.
      *
      * @param dpiScalePercentages
-     *            - The array of supported DPI scale percentages to populate the combo box with
+     *            - The shared list of supported DPI scale percentages to offer
      */
-    public void setDpiScalePercentages(Integer[] dpiScalePercentages) {
+    public void setDpiScalePercentages(List<Integer> dpiScalePercentages) {
         Integer previouslySelected = (Integer) slotDpiScalePercentages.getSelectedItem();
 
         // Replacing the model leaves the registered action listeners attached so model updates still fire
-        slotDpiScalePercentages.setModel(new DefaultComboBoxModel<Integer>(dpiScalePercentages));
+        slotDpiScalePercentages.setModel(new SharedComboBoxModel<Integer>(dpiScalePercentages));
 
-        if (previouslySelected != null && Arrays.asList(dpiScalePercentages).contains(previouslySelected)) {
+        if (previouslySelected != null && dpiScalePercentages.contains(previouslySelected)) {
             slotDpiScalePercentages.setSelectedItem(previouslySelected);
         }
     }
@@ -272,6 +286,17 @@ public class Slot {
         return clearSlotButton;
     }
 
+    /**
+     * Gets the components of the slot in the order of their columns in the view.
+     *
+     * @return The components of the slot, in column order
+     */
+    public List<Component> getComponents() {
+        return List.of(slotIndicatorLabel, applySlotButton, slotResolutions, slotRefreshRates, slotScalingModes,
+                slotDpiScalePercentages, slotOrientationModes, slotHotKey, clearHotKeyButton, slotChangeHotKeyButton,
+                clearSlotButton);
+    }
+
     /**
      * Gets a list of buttons in the slot.
      *
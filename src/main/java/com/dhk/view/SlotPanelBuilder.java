@@ -0,0 +1,196 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright © 2026 Jonathan R. Miller
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and
+ * to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+package com.dhk.view;
+
+import java.awt.Dimension;
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.SwingConstants;
+import javax.swing.UIManager;
+
+import com.dhk.model.DhkModel;
+import com.dhk.model.DisplayMode;
+import com.dhk.model.DisplayModeLists;
+import com.dhk.model.Resolution;
+import com.formdev.flatlaf.ui.FlatUIUtils;
+
+/**
+ * Builds the slot panels and the slots shown in them from the model. The resolution and refresh rate lists a slot
+ * offers are shared by every slot of the same display and orientation, and kept for as long as the display offers the
+ * same modes. The builder only reads the model and its display configuration, so it needs no frame to build slots.
+ *
+ * @author Jonathan R. Miller
+ */
+public class SlotPanelBuilder {
+
+    private DhkModel model;
+    private Map<String, DisplayModeLists> landscapeModeListsMap;
+    private Map<String, DisplayModeLists> portraitModeListsMap;
+
+    private static final int SLOT_ROW_HEIGHT = 28;
+    private static final int SLOT_CELL_PADDING = 8;
+    private static final int HOT_KEY_COLUMN = 7;
+    private static final int[] SLOT_COLUMN_WIDTHS = {52, 20, 138, 118, 110, 70, 118, 52, 18, 148, 22};
+    private static final String[] SLOT_COLUMN_HEADERS = {"", "", "Resolution", "Refresh Rate", "Scaling Mode",
+            "DPI Scale", "Orientation", "Hot Key", "", "", ""};
+    private static final List<String> ORIENTATION_MODES = List.of("Landscape", "Portrait", "iLandscape", "iPortrait");
+    private static final List<String> SCALING_MODES = List.of("Preserved", "Stretched", "Centered");
+
+    /**
+     * Constructor for the {@link SlotPanelBuilder} class.
+     *
+     * @param model
+     *            - The model to build the slots from
+     */
+    public SlotPanelBuilder(DhkModel model) {
+        this.model = model;
+
+        landscapeModeListsMap = new HashMap<>();
+        portraitModeListsMap = new HashMap<>();
+    }
+
+    /**
+     * Creates a slot panel with the header row for the slot columns. The first header cell is left for the Clear All
+     * button, which is moved to whichever slot panel is shown.
+     *
+     * @return The new slot panel
+     */
+    public JPanel createSlotPanel() {
+        JPanel slotPanel = new JPanel(new SlotTableLayout(SLOT_COLUMN_WIDTHS, SLOT_ROW_HEIGHT, SLOT_CELL_PADDING,
+                HOT_KEY_COLUMN));
+
+        for (int column = 1; column < SLOT_COLUMN_HEADERS.length; column++) {
+            slotPanel.add(createHeader(SLOT_COLUMN_HEADERS[column], SLOT_COLUMN_WIDTHS[column]), new Point(column, 0));
+        }
+
+        return slotPanel;
+    }
+
+    /**
+     * Builds the components for the specified slot from the model, with the initial selection for each interactive
+     * component.
+     *
+     * @param displayIndex
+     *            - The index of the display the slot resides in
+     * @param slotIndex
+     *            - The index of the slot to build
+     *
+     * @return The built slot
+     */
+    public Slot buildSlot(int displayIndex, int slotIndex) {
+        DisplayModeLists displayModes = displayModeListsForOrientation(model.getDisplayIds()[displayIndex],
+                model.getSlot(displayIndex, slotIndex).getOrientationMode());
+        DisplayMode slotDisplayMode = model.getSlot(displayIndex, slotIndex).getDisplayMode();
+
+        // Offer only the DPI scale percentages Windows supports for the slot's stored resolution
+        List<Integer> dpiScalePercentages = model.getDisplayConfig().getSupportedDpiScalePercentageList(
+                slotDisplayMode.getWidth(), slotDisplayMode.getHeight());
+
+        /*
+         * Split the stored display mode across the resolution and refresh rate combo boxes, populating the refresh
+         * rates from the stored resolution so only its supported rates are offered
+         */
+        Resolution slotResolution = slotDisplayMode.getResolution();
+
+        Slot slot = new Slot(slotIndex, displayIndex, displayModes, SCALING_MODES, dpiScalePercentages,
+                ORIENTATION_MODES);
+
+        slot.getResolutions().setSelectedItem(slotResolution);
+        slot.setRefreshRates(displayModes.getRefreshRates(slotResolution));
+        slot.getRefreshRates().setSelectedItem(slotDisplayMode.getRefreshRate());
+        slot.getScalingModes().setSelectedIndex(model.getSlot(displayIndex, slotIndex).getScalingMode());
+        slot.getDpiScalePercentages().setSelectedItem(model.getSlot(displayIndex, slotIndex).getDpiScalePercentage());
+        slot.getOrientationModes().setSelectedIndex(model.getSlot(displayIndex, slotIndex).getOrientationMode());
+        slot.getHotKey().setText(model.getSlot(displayIndex, slotIndex).getHotKey().getHotKeyString());
+
+        return slot;
+    }
+
+    /**
+     * Gets the shared resolution and refresh rate lists a slot offers for its orientation mode, using the landscape
+     * modes for the landscape orientations and the portrait modes otherwise. The lists are built once per display and
+     * orientation and reused across re-inits for as long as the display offers the same modes.
+     *
+     * @param displayId
+     *            - The ID of the display to get the display mode lists for
+     * @param orientationMode
+     *            - The orientation mode of the slot
+     *
+     * @return The shared display mode lists for the display and orientation
+     */
+    public DisplayModeLists displayModeListsForOrientation(String displayId, int orientationMode) {
+        boolean landscapeOrientation = orientationMode == 0 || orientationMode == 2;
+        Map<String, DisplayModeLists> displayModeListsMap = landscapeOrientation
+                ? landscapeModeListsMap
+                : portraitModeListsMap;
+        DisplayMode[] displayModes = landscapeOrientation
+                ? model.getDisplayConfig().getLandscapeDisplayModes(displayId)
+                : model.getDisplayConfig().getPortraitDisplayModes(displayId);
+        DisplayModeLists displayModeLists = displayModeListsMap.get(displayId);
+
+        // Re-enumerating the displays yields new arrays, so only rebuild the lists when the modes themselves changed
+        if (displayModeLists == null || (displayModeLists.getDisplayModes() != displayModes
+                && !Arrays.equals(displayModeLists.getDisplayModes(), displayModes))) {
+            displayModeLists = new DisplayModeLists(displayModes);
+
+            displayModeListsMap.put(displayId, displayModeLists);
+        }
+
+        return displayModeLists;
+    }
+
+    /**
+     * Releases the shared display mode lists of every display that is not in the given list.
+     *
+     * @param connectedDisplayIds
+     *            - The IDs of the displays whose display mode lists are kept
+     */
+    public void retainDisplayModeLists(List<String> connectedDisplayIds) {
+        landscapeModeListsMap.keySet().removeIf(displayId -> !connectedDisplayIds.contains(displayId));
+        portraitModeListsMap.keySet().removeIf(displayId -> !connectedDisplayIds.contains(displayId));
+    }
+
+    /**
+     * Creates a bold, centered column header label.
+     *
+     * @param text
+     *            - The text of the header
+     * @param width
+     *            - The preferred width of the header, matching the width of the slot components in its column
+     *
+     * @return The new header label
+     */
+    private JLabel createHeader(String text, int width) {
+        JLabel header = new JLabel(text, SwingConstants.CENTER);
+        header.setPreferredSize(new Dimension(width, SLOT_ROW_HEIGHT));
+        header.putClientProperty("FlatLaf.styleClass", "h4");
+        header.putClientProperty("FlatLaf.style", "font: $h4.font");
+        header.setFont(FlatUIUtils.nonUIResource(UIManager.getFont("h4.font")));
+
+        return header;
+    }
+
+}
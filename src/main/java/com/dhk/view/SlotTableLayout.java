@@ -0,0 +1,286 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright © 2026 Jonathan R. Miller
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and
+ * to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+package com.dhk.view;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Dimension;
+import java.awt.Insets;
+import java.awt.LayoutManager2;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A layout for the slot table that places each component in a fixed-size cell given by its column and row. Column
+ * widths are fixed up front from the header widths, so unlike a GridBag layout, a pack or a scroll bar settle does not
+ * recompute constraints across every cell. The preferred size is cached and only recomputed when rows are added or
+ * removed. The one content-sized column, which holds the hot key text, is re-measured on invalidation on its own. Rows
+ * can be reserved ahead of their components, so a long table only needs the rows in view to be realized, and a
+ * content-sized cell keeps counting toward its column while its row is reserved, so rows released as they scroll out
+ * of view do not narrow the table.
+ *
+ * @author Jonathan R. Miller
+ */
+public class SlotTableLayout implements LayoutManager2 {
+
+    private int[] columnWidths;
+    private int rowHeight;
+    private int cellPadding;
+    private int fittedColumn;
+    private int fittedColumnWidth;
+    private int numOfRows;
+    private Map<Component, Point> cellMap;
+    private Map<Component, Integer> fittedCells;
+    private Dimension cachedPreferredSize;
+
+    /**
+     * Constructor for the {@link SlotTableLayout} class.
+     *
+     * @param columnWidths
+     *            - The fixed width of each column, taken from the preferred width of its header
+     * @param rowHeight
+     *            - The fixed height of each row
+     * @param cellPadding
+     *            - The padding around each side of every cell
+     * @param fittedColumn
+     *            - The index of the column that widens to fit its widest component, or -1 if every column is fixed
+     */
+    public SlotTableLayout(int[] columnWidths, int rowHeight, int cellPadding, int fittedColumn) {
+        this.columnWidths = columnWidths.clone();
+        this.rowHeight = rowHeight;
+        this.cellPadding = cellPadding;
+        this.fittedColumn = fittedColumn;
+
+        fittedColumnWidth = (fittedColumn >= 0) ? columnWidths[fittedColumn] : 0;
+        cellMap = new HashMap<>();
+        fittedCells = new HashMap<>();
+    }
+
+    /**
+     * Sets the number of rows the table reserves space for, header row included. Rows can be reserved before their
+     * components are added, so the table keeps its full size while only some of its rows are realized.
+     *
+     * @param numOfRows
+     *            - The number of rows to reserve space for
+     */
+    public void setNumOfRows(int numOfRows) {
+        if (this.numOfRows != numOfRows) {
+            this.numOfRows = numOfRows;
+
+            // Only the content-sized cells of rows that are no longer reserved stop counting toward their column
+            fittedCells.values().removeIf(row -> row >= numOfRows);
+            cachedPreferredSize = null;
+        }
+    }
+
+    /**
+     * Gets the range of rows that intersect the given area of the container.
+     *
+     * @param parent
+     *            - The container the table is laid out in
+     * @param area
+     *            - The area of the container, in its own coordinates
+     *
+     * @return The first and last index of the rows intersecting the area, or an empty range (last before first) if the
+     *         area misses every row
+     */
+    public int[] getRowsIn(Container parent, Rectangle area) {
+        Dimension preferredSize = preferredLayoutSize(parent);
+        int originY = parent.getInsets().top + Math.max(0, (parent.getHeight() - preferredSize.height) / 2);
+        int rowStride = rowHeight + cellPadding * 2;
+
+        if (area.isEmpty() || area.y + area.height <= originY) {
+            return new int[]{0, -1};
+        }
+
+        int firstRow = Math.max(0, (area.y - originY) / rowStride);
+        int lastRow = (area.y + area.height - 1 - originY) / rowStride;
+
+        return new int[]{firstRow, lastRow};
+    }
+
+    @Override
+    public void addLayoutComponent(Component comp, Object constraints) {
+        if (!(constraints instanceof Point)) {
+            throw new IllegalArgumentException("Slot table components must be added with a column and row Point");
+        }
+
+        Point cell = new Point((Point) constraints);
+
+        cellMap.put(comp, cell);
+
+        if (cell.x == fittedColumn) {
+            fittedCells.put(comp, cell.y);
+        }
+
+        cachedPreferredSize = null;
+    }
+
+    @Override
+    public void addLayoutComponent(String name, Component comp) {
+        // Components are only placed through a column and row Point
+    }
+
+    @Override
+    public void removeLayoutComponent(Component comp) {
+        cellMap.remove(comp);
+
+        cachedPreferredSize = null;
+    }
+
+    @Override
+    public Dimension preferredLayoutSize(Container parent) {
+        synchronized (parent.getTreeLock()) {
+            if (cachedPreferredSize == null) {
+                fittedColumnWidth = measureFittedColumn();
+                cachedPreferredSize = computePreferredSize();
+            }
+
+            Insets insets = parent.getInsets();
+
+            return new Dimension(cachedPreferredSize.width + insets.left + insets.right,
+                    cachedPreferredSize.height + insets.top + insets.bottom);
+        }
+    }
+
+    @Override
+    public Dimension minimumLayoutSize(Container parent) {
+        return preferredLayoutSize(parent);
+    }
+
+    @Override
+    public Dimension maximumLayoutSize(Container target) {
+        return new Dimension(Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public float getLayoutAlignmentX(Container target) {
+        return 0.5f;
+    }
+
+    @Override
+    public float getLayoutAlignmentY(Container target) {
+        return 0.5f;
+    }
+
+    @Override
+    public void invalidateLayout(Container target) {
+        // Only the content-sized column can change size without a row being added or removed
+        if (cachedPreferredSize != null && fittedColumn >= 0) {
+            int newFittedColumnWidth = measureFittedColumn();
+
+            if (newFittedColumnWidth != fittedColumnWidth) {
+                cachedPreferredSize.width += newFittedColumnWidth - fittedColumnWidth;
+                fittedColumnWidth = newFittedColumnWidth;
+            }
+        }
+    }
+
+    @Override
+    public void layoutContainer(Container parent) {
+        synchronized (parent.getTreeLock()) {
+            Dimension preferredSize = preferredLayoutSize(parent);
+            Insets insets = parent.getInsets();
+
+            // Center the table in any extra space, as a GridBag layout would
+            int originX = insets.left + Math.max(0, (parent.getWidth() - preferredSize.width) / 2);
+            int originY = insets.top + Math.max(0, (parent.getHeight() - preferredSize.height) / 2);
+            int[] columnXs = new int[columnWidths.length];
+            int columnX = originX;
+
+            for (int column = 0; column < columnWidths.length; column++) {
+                columnXs[column] = columnX;
+                columnX += getColumnWidth(column) + cellPadding * 2;
+            }
+
+            for (Component comp : parent.getComponents()) {
+                Point cell = cellMap.get(comp);
+
+                if (cell == null || cell.x >= columnWidths.length) {
+                    continue;
+                }
+
+                int columnWidth = getColumnWidth(cell.x);
+                Dimension compSize = comp.getPreferredSize();
+                int width = Math.min(compSize.width, columnWidth);
+                int height = Math.min(compSize.height, rowHeight);
+                int x = columnXs[cell.x] + cellPadding + (columnWidth - width) / 2;
+                int y = originY + cell.y * (rowHeight + cellPadding * 2) + cellPadding + (rowHeight - height) / 2;
+
+                comp.setBounds(x, y, width, height);
+            }
+        }
+    }
+
+    /**
+     * Gets the width of a column, which is fixed unless it is the content-sized column.
+     *
+     * @param column
+     *            - The index of the column
+     *
+     * @return The width of the column, not including the cell padding
+     */
+    private int getColumnWidth(int column) {
+        return (column == fittedColumn) ? fittedColumnWidth : columnWidths[column];
+    }
+
+    /**
+     * Measures the content-sized column, which is never narrower than its header width.
+     *
+     * @return The width of the content-sized column, not including the cell padding
+     */
+    private int measureFittedColumn() {
+        if (fittedColumn < 0) {
+            return 0;
+        }
+
+        int width = columnWidths[fittedColumn];
+
+        for (Component comp : fittedCells.keySet()) {
+            width = Math.max(width, comp.getPreferredSize().width);
+        }
+
+        return width;
+    }
+
+    /**
+     * Computes the preferred size of the table from the fixed column widths and the number of rows reserved or in use.
+     *
+     * @return The preferred size of the table, not including the insets of its container
+     */
+    private Dimension computePreferredSize() {
+        int numOfUsedRows = numOfRows;
+
+        for (Point cell : cellMap.values()) {
+            numOfUsedRows = Math.max(numOfUsedRows, cell.y + 1);
+        }
+
+        int width = 0;
+
+        for (int column = 0; column < columnWidths.length; column++) {
+            width += getColumnWidth(column) + cellPadding * 2;
+        }
+
+        return new Dimension(width, numOfUsedRows * (rowHeight + cellPadding * 2));
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright © 2026 Jonathan R. Miller
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and
+ * to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of
+ * the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO
+ * THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF
+ * CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS
+ * IN THE SOFTWARE.
+ */
+package com.dhk.view;
+
+import java.awt.CardLayout;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Dimension;
+import java.awt.Insets;
+
+/**
+ * A card layout sized to the visible card only. A plain card layout is as large as its largest card, which would keep
+ * the frame sized for the display with the most slots after switching to a display with fewer.
+ *
+ * @author Jonathan R. Miller
+ */
+public class VisibleCardLayout extends CardLayout {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Dimension preferredLayoutSize(Container parent) {
+        synchronized (parent.getTreeLock()) {
+            Component visibleCard = getVisibleCard(parent);
+
+            return withInsets(parent, (visibleCard != null) ? visibleCard.getPreferredSize() : new Dimension());
+        }
+    }
+
+    @Override
+    public Dimension minimumLayoutSize(Container parent) {
+        synchronized (parent.getTreeLock()) {
+            Component visibleCard = getVisibleCard(parent);
+
+            return withInsets(parent, (visibleCard != null) ? visibleCard.getMinimumSize() : new Dimension());
+        }
+    }
+
+    /**
+     * Gets the card currently shown in the given container.
+     *
+     * @param parent
+     *            - The container the cards are laid out in
+     *
+     * @return The visible card, or null if no card is visible
+     */
+    private static Component getVisibleCard(Container parent) {
+        for (Component card : parent.getComponents()) {
+            if (card.isVisible()) {
+                return card;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Grows the given card size by the insets and gaps of the container.
+     *
+     * @param parent
+     *            - The container the cards are laid out in
+     * @param cardSize
+     *            - The size of the card
+     *
+     * @return The size of the container needed to hold the card
+     */
+    private Dimension withInsets(Container parent, Dimension cardSize) {
+        Insets insets = parent.getInsets();
+
+        return new Dimension(cardSize.width + insets.left + insets.right + getHgap() * 2,
+                cardSize.height + insets.top + insets.bottom + getVgap() * 2);
+    }
+
+}